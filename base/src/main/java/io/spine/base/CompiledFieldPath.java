@@ -0,0 +1,294 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.base;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Message;
+import io.spine.annotation.Internal;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.protobuf.Descriptors.FieldDescriptor.Type.MESSAGE;
+import static io.spine.util.Exceptions.newIllegalArgumentException;
+
+/**
+ * A {@link FieldPath} resolved against a message type.
+ *
+ * <p>The path is resolved into a chain of field descriptors once, when the instance is
+ * {@linkplain #compile(FieldPath, Descriptor) compiled}. Obtaining the value of the field
+ * from a message does not involve any lookup by the field names.
+ *
+ * <p>Compiled paths are cached. Compiling the same path against the same type several times
+ * yields the same instance, unless the instance was evicted from the cache.
+ */
+@Internal
+public final class CompiledFieldPath {
+
+    /** The maximum number of compiled paths to keep in the cache. */
+    private static final int CACHE_SIZE = 1_000;
+
+    private static final Cache<Key, CompiledFieldPath> cache = CacheBuilder
+            .newBuilder()
+            .maximumSize(CACHE_SIZE)
+            .build();
+
+    private final FieldPath path;
+    private final Descriptor holderType;
+
+    /** The chain of fields referenced by the path, starting from the field of the holder type. */
+    private final FieldDescriptor[] fields;
+
+    /** The lazily obtained Java class of the referenced field. */
+    private volatile @Nullable Class<?> fieldClass;
+
+    private CompiledFieldPath(FieldPath path, Descriptor holderType, FieldDescriptor[] fields) {
+        this.path = path;
+        this.holderType = holderType;
+        this.fields = fields;
+    }
+
+    /**
+     * Resolves the given path against the given message type.
+     *
+     * @param path
+     *         non-empty field path
+     * @param holderType
+     *         the type of the messages which hold the referenced field
+     * @return the compiled field path
+     * @throws IllegalArgumentException
+     *         if the path does not reference a field in the given type
+     */
+    public static CompiledFieldPath compile(FieldPath path, Descriptor holderType) {
+        checkNotNull(path);
+        checkNotNull(holderType);
+        checkArgument(path.getFieldNameCount() > 0, "Field path must not be empty.");
+        Key key = new Key(path, holderType);
+        CompiledFieldPath cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        FieldDescriptor[] fields = resolve(path, holderType, true);
+        checkNotNull(fields);
+        CompiledFieldPath result = new CompiledFieldPath(path, holderType, fields);
+        cache.put(key, result);
+        return result;
+    }
+
+    /**
+     * Attempts to resolve the given path against the given message type.
+     *
+     * @return the compiled field path or {@code Optional.empty()} if the path does not
+     *         reference a field in the given type
+     */
+    static Optional<CompiledFieldPath> tryCompile(FieldPath path, Descriptor holderType) {
+        Key key = new Key(path, holderType);
+        CompiledFieldPath cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        FieldDescriptor[] fields = resolve(path, holderType, false);
+        if (fields == null) {
+            return Optional.empty();
+        }
+        CompiledFieldPath result = new CompiledFieldPath(path, holderType, fields);
+        cache.put(key, result);
+        return Optional.of(result);
+    }
+
+    /**
+     * Resolves the path into the chain of fields.
+     *
+     * @param strict
+     *         if {@code true}, the method fails with {@code IllegalArgumentException} if
+     *         the path cannot be resolved; otherwise, returns {@code null} in this case
+     */
+    private static FieldDescriptor @Nullable [] resolve(FieldPath path,
+                                                        Descriptor holderType,
+                                                        boolean strict) {
+        List<String> names = path.getFieldNameList();
+        int count = names.size();
+        FieldDescriptor[] result = new FieldDescriptor[count];
+        Descriptor current = holderType;
+        for (int i = 0; i < count; i++) {
+            String fieldName = names.get(i);
+            @Nullable FieldDescriptor field = current.findFieldByName(fieldName);
+            if (field == null) {
+                if (strict) {
+                    throw newIllegalArgumentException(
+                            "Unable to find the field named `%s` in the type `%s`.",
+                            fieldName, current.getFullName());
+                }
+                return null;
+            }
+            result[i] = field;
+            boolean last = i == count - 1;
+            if (!last) {
+                if (field.getType() != MESSAGE || field.isRepeated()) {
+                    if (strict) {
+                        throw newIllegalArgumentException(
+                                "The field referenced by the name `%s` is not a singular" +
+                                " message, and it is not possible to obtain a nested field" +
+                                " named `%s`. The full field path is: `%s`.",
+                                fieldName,
+                                names.get(i + 1),
+                                FieldPaths.toString(path)
+                        );
+                    }
+                    return null;
+                }
+                current = field.getMessageType();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Obtains the value of the referenced field from the given message.
+     *
+     * @param holder
+     *         the message of the {@linkplain #holderType() holder type}
+     * @return the value of the field
+     */
+    public Object getValue(Message holder) {
+        checkNotNull(holder);
+        checkType(holder);
+        Object result = valueIn(holder);
+        return result;
+    }
+
+    /**
+     * Obtains the values of the referenced field from each of the given messages.
+     *
+     * @param holders
+     *         the messages of the {@linkplain #holderType() holder type}
+     * @return the values of the field in the order of the given messages
+     */
+    public ImmutableList<Object> getValues(Iterable<? extends Message> holders) {
+        checkNotNull(holders);
+        ImmutableList.Builder<Object> result = holders instanceof Collection
+                ? ImmutableList.builderWithExpectedSize(((Collection<?>) holders).size())
+                : ImmutableList.builder();
+        for (Message holder : holders) {
+            checkNotNull(holder);
+            checkType(holder);
+            result.add(valueIn(holder));
+        }
+        return result.build();
+    }
+
+    private Object valueIn(Message holder) {
+        Message message = holder;
+        int last = fields.length - 1;
+        for (int i = 0; i < last; i++) {
+            message = (Message) message.getField(fields[i]);
+        }
+        Object result = message.getField(fields[last]);
+        return result;
+    }
+
+    private void checkType(Message holder) {
+        Descriptor actualType = holder.getDescriptorForType();
+        if (actualType != holderType) {
+            throw newIllegalArgumentException(
+                    "The field path `%s` is compiled for the type `%s`" +
+                            " and cannot be applied to a message of the type `%s`.",
+                    FieldPaths.toString(path), holderType.getFullName(), actualType.getFullName()
+            );
+        }
+    }
+
+    /**
+     * Obtains the field path.
+     */
+    public FieldPath path() {
+        return path;
+    }
+
+    /**
+     * Obtains the type of the messages to which the path is applicable.
+     */
+    public Descriptor holderType() {
+        return holderType;
+    }
+
+    /**
+     * Obtains the descriptor of the referenced field.
+     */
+    public FieldDescriptor field() {
+        return fields[fields.length - 1];
+    }
+
+    /**
+     * Obtains the Java class of the values of the referenced field.
+     */
+    public Class<?> fieldClass() {
+        Class<?> result = fieldClass;
+        if (result == null) {
+            result = FieldPaths.classOf(field());
+            fieldClass = result;
+        }
+        return result;
+    }
+
+    /**
+     * The key of the compiled path cache.
+     *
+     * <p>The message types are compared by reference, since a field descriptor is only
+     * applicable to the messages of the very type which declares the field.
+     */
+    private static final class Key {
+
+        private final FieldPath path;
+        private final Descriptor holderType;
+
+        private Key(FieldPath path, Descriptor holderType) {
+            this.path = path;
+            this.holderType = holderType;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return holderType == other.holderType && path.equals(other.path);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(path, System.identityHashCode(holderType));
+        }
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.base;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.protobuf.Any;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.EnumDescriptor;
+import com.google.protobuf.Descriptors.EnumValueDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.EnumValue;
+import com.google.protobuf.Message;
+import io.spine.protobuf.TypeConverter;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static io.spine.protobuf.AnyPacker.unpack;
+import static io.spine.util.Exceptions.newIllegalArgumentException;
+
+/**
+ * A predicate which evaluates a set of {@link FieldFilter}s over messages of a certain type.
+ *
+ * <p>A message matches a single filter if the value of the field referenced by the filter is
+ * one of the values accepted by the filter. For a repeated field, it is sufficient that one of
+ * the elements of the field is accepted. A filter which accepts no values matches no messages.
+ *
+ * <p>A message matches the predicate if it matches all the filters.
+ *
+ * <p>The field paths of the filters are {@linkplain CompiledFieldPath compiled} and
+ * the accepted values are unpacked from {@link Any} once, when the predicate is created.
+ * Evaluating the predicate comes down to obtaining the field values and looking them up in
+ * hash sets.
+ */
+public final class FieldFilterPredicate implements Predicate<Message> {
+
+    private final Descriptor type;
+    private final ImmutableList<Condition> conditions;
+
+    private FieldFilterPredicate(Descriptor type, ImmutableList<Condition> conditions) {
+        this.type = type;
+        this.conditions = conditions;
+    }
+
+    /**
+     * Compiles the given filters into a predicate over messages of the given type.
+     *
+     * @param type
+     *         the type of the messages to evaluate
+     * @param filters
+     *         the filters to compile; if empty, the predicate accepts all messages
+     * @return new predicate
+     * @throws IllegalArgumentException
+     *         if a field path of a filter does not reference a field of the given type, or
+     *         if an accepted value cannot be converted to the type of the field
+     */
+    public static FieldFilterPredicate compile(Descriptor type,
+                                               Iterable<FieldFilter> filters) {
+        checkNotNull(type);
+        checkNotNull(filters);
+        ImmutableList.Builder<Condition> conditions = ImmutableList.builder();
+        for (FieldFilter filter : filters) {
+            checkNotNull(filter);
+            conditions.add(Condition.of(type, filter));
+        }
+        return new FieldFilterPredicate(type, conditions.build());
+    }
+
+    /**
+     * Obtains the type of the messages to which the predicate is applicable.
+     */
+    public Descriptor type() {
+        return type;
+    }
+
+    /**
+     * Checks if the given message matches all the filters.
+     */
+    @Override
+    public boolean test(Message message) {
+        checkNotNull(message);
+        for (Condition condition : conditions) {
+            if (!condition.test(message)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Selects the messages matching the filters.
+     *
+     * @return the matching messages in the order of the given messages
+     */
+    public <M extends Message> ImmutableList<M> filter(Iterable<M> messages) {
+        checkNotNull(messages);
+        ImmutableList.Builder<M> result = ImmutableList.builder();
+        for (M message : messages) {
+            if (test(message)) {
+                result.add(message);
+            }
+        }
+        return result.build();
+    }
+
+    /**
+     * Selects the messages matching the filters.
+     *
+     * <p>The resulting stream is lazy and of the same kind, sequential or parallel, as the given.
+     */
+    public <M extends Message> Stream<M> filter(Stream<M> messages) {
+        checkNotNull(messages);
+        return messages.filter(this);
+    }
+
+    /**
+     * Selects the messages matching the filters evaluating the messages in parallel.
+     *
+     * <p>Use this method for large in-memory collections. For small collections, the overhead
+     * of splitting the work between threads exceeds the gain; use {@link #filter(Iterable)}.
+     *
+     * @return the matching messages in the order of the given messages
+     */
+    public <M extends Message> ImmutableList<M> filterParallel(Collection<M> messages) {
+        checkNotNull(messages);
+        ImmutableList<M> result = messages.parallelStream()
+                                          .filter(this)
+                                          .collect(toImmutableList());
+        return result;
+    }
+
+    /**
+     * A compiled {@link FieldFilter}.
+     */
+    private static final class Condition implements Predicate<Message> {
+
+        private final CompiledFieldPath path;
+        private final boolean repeated;
+        private final ImmutableSet<Object> acceptedValues;
+
+        private Condition(CompiledFieldPath path, ImmutableSet<Object> acceptedValues) {
+            this.path = path;
+            this.repeated = path.field()
+                                .isRepeated();
+            this.acceptedValues = acceptedValues;
+        }
+
+        private static Condition of(Descriptor type, FieldFilter filter) {
+            FieldPath fieldPath = FieldPaths.parse(filter.getFieldPath());
+            CompiledFieldPath path = CompiledFieldPath.compile(fieldPath, type);
+            FieldDescriptor field = path.field();
+            ImmutableSet.Builder<Object> values = ImmutableSet.builder();
+            for (Any value : filter.getValueList()) {
+                values.add(toFieldValue(value, field));
+            }
+            return new Condition(path, values.build());
+        }
+
+        @Override
+        public boolean test(Message message) {
+            Object value = path.getValue(message);
+            if (repeated) {
+                List<?> elements = (List<?>) value;
+                for (Object element : elements) {
+                    if (acceptedValues.contains(element)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+            return acceptedValues.contains(value);
+        }
+    }
+
+    /**
+     * Converts the accepted value into the form in which a value of the field is returned by
+     * {@link Message#getField(FieldDescriptor)}.
+     */
+    private static Object toFieldValue(Any value, FieldDescriptor field) {
+        switch (field.getJavaType()) {
+            case MESSAGE:
+                return unpack(value);
+            case ENUM:
+                return toEnumValue(value, field.getEnumType());
+            case INT:
+                return TypeConverter.toObject(value, Number.class).intValue();
+            case LONG:
+                return TypeConverter.toObject(value, Number.class).longValue();
+            case FLOAT:
+                return TypeConverter.toObject(value, Number.class).floatValue();
+            case DOUBLE:
+                return TypeConverter.toObject(value, Number.class).doubleValue();
+            default:
+                return TypeConverter.toObject(value, FieldPaths.classOf(field));
+        }
+    }
+
+    private static EnumValueDescriptor toEnumValue(Any value, EnumDescriptor type) {
+        Message unpacked = unpack(value);
+        @Nullable EnumValueDescriptor result;
+        if (unpacked instanceof EnumValue) {
+            EnumValue enumValue = (EnumValue) unpacked;
+            String name = enumValue.getName();
+            result = name.isEmpty()
+                     ? type.findValueByNumber(enumValue.getNumber())
+                     : type.findValueByName(name);
+        } else {
+            int number = TypeConverter.toObject(value, Integer.class);
+            result = type.findValueByNumber(number);
+        }
+        if (result == null) {
+            throw newIllegalArgumentException(
+                    "The value `%s` is not a constant of the enum `%s`.",
+                    unpacked, type.getFullName()
+            );
+        }
+        return result;
+    }
+}
@@ -28,7 +28,6 @@ import com.google.protobuf.Descriptors.FieldDescriptor.Type;
 import com.google.protobuf.Message;
 import io.spine.annotation.Internal;
 import io.spine.code.proto.ScalarType;
-import io.spine.type.TypeName;
 import io.spine.type.TypeUrl;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -40,6 +39,7 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.protobuf.Descriptors.FieldDescriptor.Type.ENUM;
 import static com.google.protobuf.Descriptors.FieldDescriptor.Type.MESSAGE;
+import static io.spine.protobuf.Messages.defaultInstance;
 import static io.spine.util.Exceptions.newIllegalArgumentException;
 
 /**
@@ -102,65 +102,11 @@ public final class FieldPaths {
         checkNotNull(holder);
         checkNotNull(path);
         checkNotEmpty(path);
-        Object result = getValue(path, holder, true);
+        Object result = CompiledFieldPath.compile(path, holder.getDescriptorForType())
+                                         .getValue(holder);
         return result;
     }
 
-    /**
-     * Obtains a value of the field represented by the passed path in the passed message.
-     *
-     * @param path
-     *         the path to the field in the message
-     * @param holder
-     *         the instance of message from which to obtain the value
-     * @param strict
-     *         If {@code true}, the method would fail with the {@code IllegalArgumentException}
-     *         if there is no field matching the passed path.
-     *         If {@code false}, and the field is not found, {@code null} will be returned
-     * @return the value of the field, or
-     *         {@code null} if the field was not found, and the {@code strict} parameter
-     *         is {@code false}
-     */
-    private static @Nullable Object getValue(FieldPath path, Message holder, boolean strict) {
-        Message message = holder;
-        Object currentValue = message;
-        for (Iterator<String> iterator = path.getFieldNameList().iterator(); iterator.hasNext(); ) {
-            String fieldName = iterator.next();
-            Descriptor type = message.getDescriptorForType();
-            @Nullable FieldDescriptor field = type.findFieldByName(fieldName);
-            if (field == null) {
-                if (strict) {
-                    throw newIllegalArgumentException(
-                            "Unable to find the field named `%s` in the type `%s`.",
-                            fieldName, type.getFullName());
-                }
-                return null;
-            }
-            currentValue = message.getField(field);
-            if (currentValue instanceof Message) {
-                message = (Message) currentValue;
-            } else {
-                if (iterator.hasNext()) {
-                    /* We're not at the end of iteration, and the inner path item references a
-                       non-message field. We cannot continue going the path and need to exit
-                       the routine. */
-                    if (strict) {
-                        throw newIllegalArgumentException(
-                                "The field referenced by the name `%s` is not a message, and" +
-                                " it is not possible to obtain a nested field named `%s`. " +
-                                " The full field path is: `%s`.",
-                                fieldName,
-                                iterator.next(),
-                                toString(path)
-                        );
-                    }
-                    return null;
-                }
-            }
-        }
-        return currentValue;
-    }
-
     /**
      * Obtains a value referenced by the passed path in the passed message.
      *
@@ -170,8 +116,13 @@ public final class FieldPaths {
     public static Optional<Object> find(FieldPath path, Message holder) {
         checkNotNull(path);
         checkNotNull(holder);
-        Object result = getValue(path, holder, false);
-        return Optional.ofNullable(result);
+        if (path.getFieldNameCount() == 0) {
+            return Optional.of(holder);
+        }
+        Optional<Object> result =
+                CompiledFieldPath.tryCompile(path, holder.getDescriptorForType())
+                                 .map(compiled -> compiled.getValue(holder));
+        return result;
     }
 
     /**
@@ -186,6 +137,9 @@ public final class FieldPaths {
     /**
      * Obtains the class of the field at the given field path from the given field holder type.
      *
+     * <p>Unlike {@link #getValue(FieldPath, Message)}, the path may go through
+     * {@code repeated} message fields, as only the declared types of the fields are resolved.
+     *
      * @param holderType
      *         the type of the message to search
      * @param path
@@ -197,14 +151,14 @@ public final class FieldPaths {
         checkNotNull(path);
         checkNotEmpty(path);
 
-        Descriptor descriptor = TypeName.of(holderType).messageDescriptor();
+        Descriptor descriptor = defaultInstance(holderType).getDescriptorForType();
         FieldDescriptor field = findField(path, descriptor);
         if (field == null) {
             throw newIllegalArgumentException(
                     "Unable to find a field referenced by the path `%s`" +
                             " in the message of type `%s`.",
                     toString(path),
-                    TypeName.of(holderType)
+                    descriptor.getFullName()
             );
         }
         Class<?> result = classOf(field);
@@ -239,7 +193,10 @@ public final class FieldPaths {
         checkArgument(path.getFieldNameCount() > 0, "Field path must not be empty.");
     }
 
-    private static Class<?> classOf(FieldDescriptor field) {
+    /**
+     * Obtains the Java class of the values of the given field.
+     */
+    static Class<?> classOf(FieldDescriptor field) {
         Type type = field.getType();
         if (type == MESSAGE) {
             Class<?> cls = TypeUrl.from(field.getMessageType()).toJavaClass();
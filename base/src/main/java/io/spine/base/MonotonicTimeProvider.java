@@ -0,0 +1,221 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.base;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.protobuf.Timestamp;
+import io.spine.annotation.Internal;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * A {@link Time.Provider} which produces strictly increasing time values.
+ *
+ * <p>Each value returned by {@link #currentTime()} is greater than any value returned
+ * by this provider before. If the clock did not advance since the previous call, the
+ * provider returns the previous value incremented by one nanosecond. Therefore, events
+ * stamped within the same clock tick still have distinct and correctly ordered timestamps.
+ *
+ * <p>The provider may work in one of two modes:
+ * <ol>
+ *     <li>{@linkplain #precise() precise} — the system clock is queried on each call;
+ *     <li>{@linkplain #coarse(Duration) coarse} — the system clock is read by a background
+ *         ticker once per the given interval; the calls obtain the cached value.
+ * </ol>
+ *
+ * <p>The coarse mode trades the precision of the time values for throughput. The values
+ * produced in this mode lag behind the system time for at most the tick interval.
+ *
+ * <p>A series of consecutive time values may be {@linkplain #currentTimes(int) reserved}
+ * in a single atomic operation.
+ *
+ * <p>The provider in the coarse mode owns a background thread. Call {@link #close()} when
+ * the provider is no longer needed.
+ */
+@Internal
+public final class MonotonicTimeProvider implements Time.Provider, AutoCloseable {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    /** The source of the current time in nanoseconds since the epoch. */
+    private final LongSupplier clock;
+
+    /** The last time value produced by this provider in nanoseconds since the epoch. */
+    private final AtomicLong last = new AtomicLong(Long.MIN_VALUE);
+
+    /** The background ticker, or {@code null} in the precise mode. */
+    private final @Nullable ScheduledExecutorService ticker;
+
+    private MonotonicTimeProvider(LongSupplier clock,
+                                  @Nullable ScheduledExecutorService ticker) {
+        this.clock = clock;
+        this.ticker = ticker;
+    }
+
+    /**
+     * Creates a new provider which queries the system clock on each call.
+     */
+    public static MonotonicTimeProvider precise() {
+        return new MonotonicTimeProvider(MonotonicTimeProvider::systemNanos, null);
+    }
+
+    /**
+     * Creates a new provider which reads the system clock once per the given interval.
+     *
+     * @param tickInterval
+     *         the interval between reading the system clock; must be positive
+     */
+    public static MonotonicTimeProvider coarse(Duration tickInterval) {
+        checkNotNull(tickInterval);
+        checkArgument(!tickInterval.isNegative() && !tickInterval.isZero(),
+                      "The tick interval must be positive. Got: %s.", tickInterval);
+        CachedClock cachedClock = new CachedClock(MonotonicTimeProvider::systemNanos);
+        ScheduledExecutorService ticker = newTicker();
+        long interval = tickInterval.toNanos();
+        ticker.scheduleAtFixedRate(cachedClock::tick, interval, interval, NANOSECONDS);
+        return new MonotonicTimeProvider(cachedClock, ticker);
+    }
+
+    /**
+     * Creates a new provider which obtains the time in nanoseconds from the given clock.
+     */
+    @VisibleForTesting
+    static MonotonicTimeProvider withClock(LongSupplier clock) {
+        checkNotNull(clock);
+        return new MonotonicTimeProvider(clock, null);
+    }
+
+    private static ScheduledExecutorService newTicker() {
+        ThreadFactory threadFactory = new ThreadFactoryBuilder()
+                .setNameFormat("MonotonicTimeProvider-ticker-%d")
+                .setDaemon(true)
+                .build();
+        return Executors.newSingleThreadScheduledExecutor(threadFactory);
+    }
+
+    @Override
+    public Timestamp currentTime() {
+        long nanos = reserve(1);
+        return toTimestamp(nanos);
+    }
+
+    /**
+     * Obtains the given number of consecutive time values.
+     *
+     * <p>The whole range is reserved atomically, so the values are never interleaved with
+     * the values obtained concurrently by other callers. The values differ by one nanosecond.
+     *
+     * @param count
+     *         the number of time values to obtain; must be positive
+     * @return the time values in the ascending order
+     */
+    @Override
+    public ImmutableList<Timestamp> currentTimes(int count) {
+        checkArgument(count > 0, "The number of time values must be positive. Got: %s.", count);
+        long first = reserve(count);
+        ImmutableList.Builder<Timestamp> result = ImmutableList.builderWithExpectedSize(count);
+        for (int i = 0; i < count; i++) {
+            result.add(toTimestamp(first + i));
+        }
+        return result.build();
+    }
+
+    /**
+     * Reserves the range of {@code count} time values.
+     *
+     * @return the first value of the reserved range
+     */
+    private long reserve(int count) {
+        long now = clock.getAsLong();
+        while (true) {
+            long previous = last.get();
+            long first = now > previous ? now : previous + 1;
+            long lastReserved = first + count - 1;
+            if (last.compareAndSet(previous, lastReserved)) {
+                return first;
+            }
+        }
+    }
+
+    /**
+     * Stops the background ticker, if any.
+     *
+     * <p>After this method is called, the provider in the coarse mode keeps producing
+     * increasing time values, which no longer advance with the system clock.
+     */
+    @Override
+    public void close() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+
+    private static long systemNanos() {
+        Instant now = Instant.now();
+        return now.getEpochSecond() * NANOS_PER_SECOND + now.getNano();
+    }
+
+    private static Timestamp toTimestamp(long nanos) {
+        long seconds = Math.floorDiv(nanos, NANOS_PER_SECOND);
+        int nanosOfSecond = (int) Math.floorMod(nanos, NANOS_PER_SECOND);
+        Timestamp result = Timestamp.newBuilder()
+                                    .setSeconds(seconds)
+                                    .setNanos(nanosOfSecond)
+                                    .build();
+        return result;
+    }
+
+    /**
+     * A clock which remembers the time obtained from the source on the last tick.
+     */
+    private static final class CachedClock implements LongSupplier {
+
+        private final LongSupplier source;
+        private volatile long cached;
+
+        private CachedClock(LongSupplier source) {
+            this.source = source;
+            this.cached = source.getAsLong();
+        }
+
+        private void tick() {
+            cached = source.getAsLong();
+        }
+
+        @Override
+        public long getAsLong() {
+            return cached;
+        }
+    }
+}
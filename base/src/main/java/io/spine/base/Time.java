@@ -21,12 +21,14 @@
 package io.spine.base;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
 import com.google.protobuf.Timestamp;
 import io.spine.annotation.Internal;
 
 import java.time.Instant;
 import java.time.ZoneId;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
@@ -54,6 +56,25 @@ public final class Time {
         return result;
     }
 
+    /**
+     * Obtains the given number of current time values via the current {@link Time.Provider}.
+     *
+     * <p>Use this method when stamping several objects at once, e.g. the events produced by
+     * a single command. Providers which support batch reservation of time values, such as
+     * {@link MonotonicTimeProvider}, obtain the whole batch in one operation.
+     *
+     * @param count
+     *         the number of time values to obtain; must be positive
+     * @return the time values in the ascending order
+     * @see Provider#currentTimes(int)
+     */
+    public static ImmutableList<Timestamp> currentTimes(int count) {
+        checkArgument(count > 0, "The number of time values must be positive. Got: %s.", count);
+        ImmutableList<Timestamp> result = timeProvider.get()
+                                                      .currentTimes(count);
+        return result;
+    }
+
     /**
      * Obtains system time.
      *
@@ -112,6 +133,24 @@ public final class Time {
          */
         Timestamp currentTime();
 
+        /**
+         * Obtains the given number of current time values.
+         *
+         * @implSpec The default implementation calls {@link #currentTime()} {@code count}
+         *         times. Implementations that are able to reserve a range of time values
+         *         at once should override this method.
+         * @param count
+         *         the number of time values to obtain
+         * @return the time values in the order they were obtained
+         */
+        default ImmutableList<Timestamp> currentTimes(int count) {
+            ImmutableList.Builder<Timestamp> result = ImmutableList.builder();
+            for (int i = 0; i < count; i++) {
+                result.add(currentTime());
+            }
+            return result.build();
+        }
+
         /**
          * Obtains the current time zone ID.
          *
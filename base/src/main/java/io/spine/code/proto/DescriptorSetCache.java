@@ -0,0 +1,200 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.code.proto;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.HashCode;
+import com.google.protobuf.DescriptorProtos.FileDescriptorSet;
+import io.spine.logging.Logging;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * A file which stores a merged descriptor set loaded from the classpath.
+ *
+ * <p>The file contains a {@link FileDescriptorSet} prepended with the key of the descriptor set
+ * files it was merged from. When the key does not match the current classpath, the cached set
+ * is considered stale and is not used.
+ *
+ * <p>The cache is disabled by default. To enable it, set the {@value #FILE_PROPERTY} system
+ * property to the path of the cache file. The file is created when the descriptors are loaded
+ * for the first time and is rewritten each time the classpath changes.
+ *
+ * <p>Failures to read or write the cache never fail loading of the descriptors. Instead,
+ * the descriptors are loaded from the classpath resources.
+ */
+final class DescriptorSetCache {
+
+    /**
+     * The name of the system property which holds the path to the cache file.
+     */
+    static final String FILE_PROPERTY = "io.spine.code.proto.descriptorCache";
+
+    /**
+     * The marker of the cache file format.
+     *
+     * <p>Must be changed when the format of the file changes.
+     */
+    private static final int FORMAT = 0x53504401;
+
+    private final Path file;
+
+    @VisibleForTesting
+    DescriptorSetCache(Path file) {
+        this.file = checkNotNull(file);
+    }
+
+    /**
+     * Obtains the cache configured via the {@value #FILE_PROPERTY} system property.
+     *
+     * @return the configured cache or {@code Optional.empty()} if the property is not set
+     */
+    @SuppressWarnings("AccessOfSystemProperties") // OK as the cache is configured by a property.
+    static Optional<DescriptorSetCache> configured() {
+        String path = System.getProperty(FILE_PROPERTY);
+        if (path == null || path.trim().isEmpty()) {
+            return Optional.empty();
+        }
+        DescriptorSetCache cache = new DescriptorSetCache(Paths.get(path.trim()));
+        return Optional.of(cache);
+    }
+
+    /**
+     * Reads the descriptor set stored under the given key.
+     *
+     * <p>The file is read into a heap buffer rather than mapped into memory. A mapped file
+     * stays locked until the buffer is garbage-collected, which prevents replacing the file
+     * on Windows.
+     *
+     * @param key
+     *         the key of the descriptor set files currently present in the classpath
+     * @return the cached descriptor set or {@code Optional.empty()} if the cache file does not
+     *         exist, is stale, or cannot be read
+     */
+    Optional<FileDescriptorSet> read(HashCode key) {
+        checkNotNull(key);
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+            if (!matches(buffer, key)) {
+                log().debug("The descriptor set cache `{}` is stale.", file);
+                return Optional.empty();
+            }
+            FileDescriptorSet result = FileDescriptorSets.parse(buffer.slice());
+            log().debug("Loaded {} files from the descriptor set cache `{}`.",
+                        result.getFileCount(), file);
+            return Optional.of(result);
+        } catch (IOException | IllegalArgumentException e) {
+            log().warn("Unable to read the descriptor set cache `{}`.", file, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Checks the header of the cache file and positions the buffer after it.
+     */
+    private static boolean matches(ByteBuffer buffer, HashCode key) {
+        byte[] expectedKey = key.asBytes();
+        if (buffer.remaining() < Integer.BYTES * 2 + expectedKey.length) {
+            return false;
+        }
+        if (buffer.getInt() != FORMAT || buffer.getInt() != expectedKey.length) {
+            return false;
+        }
+        byte[] actualKey = new byte[expectedKey.length];
+        buffer.get(actualKey);
+        return Arrays.equals(expectedKey, actualKey);
+    }
+
+    /**
+     * Stores the given descriptor set under the given key.
+     *
+     * <p>The file is first written to a temporary file and then moved to its place, so that
+     * concurrently starting applications never observe a partially written cache.
+     *
+     * @param key
+     *         the key of the descriptor set files the set is merged from
+     * @param descriptorSet
+     *         the merged descriptor set
+     */
+    void write(HashCode key, FileDescriptorSet descriptorSet) {
+        checkNotNull(key);
+        checkNotNull(descriptorSet);
+        @Nullable Path temp = null;
+        try {
+            Path directory = file.toAbsolutePath()
+                                 .getParent();
+            Files.createDirectories(directory);
+            temp = Files.createTempFile(directory, file.getFileName()
+                                                       .toString(), ".tmp");
+            byte[] keyBytes = key.asBytes();
+            ByteBuffer header = ByteBuffer.allocate(Integer.BYTES * 2 + keyBytes.length)
+                                          .putInt(FORMAT)
+                                          .putInt(keyBytes.length)
+                                          .put(keyBytes);
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                out.write(header.array());
+                descriptorSet.writeTo(out);
+            }
+            Files.move(temp, file, REPLACE_EXISTING, ATOMIC_MOVE);
+            log().debug("Stored {} files in the descriptor set cache `{}`.",
+                        descriptorSet.getFileCount(), file);
+        } catch (IOException e) {
+            log().warn("Unable to write the descriptor set cache `{}`.", file, e);
+            deleteQuietly(temp);
+        }
+    }
+
+    private static void deleteQuietly(@Nullable Path temp) {
+        if (temp == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(temp);
+        } catch (IOException ignored) {
+            // The temporary file is left behind. It does not affect the cache.
+        }
+    }
+
+    @Override
+    public String toString() {
+        return file.toString();
+    }
+
+    private static Logger log() {
+        return Logging.get(DescriptorSetCache.class);
+    }
+}
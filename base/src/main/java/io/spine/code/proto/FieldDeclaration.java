@@ -23,7 +23,6 @@ package io.spine.code.proto;
 import com.google.common.base.Joiner;
 import com.google.common.base.Objects;
 import com.google.errorprone.annotations.Immutable;
-import com.google.protobuf.DescriptorProtos.FieldDescriptorProto;
 import com.google.protobuf.Descriptors.FieldDescriptor;
 import com.google.protobuf.Descriptors.FieldDescriptor.JavaType;
 import com.google.protobuf.Descriptors.FileDescriptor;
@@ -329,19 +328,10 @@ public final class FieldDeclaration implements Logging {
         LocationPath locationPath = new LocationPath();
         locationPath.addAll(declaringMessage.path());
         locationPath.add(FIELD_FIELD_NUMBER);
-        int fieldIndex = fieldIndex();
-        locationPath.add(fieldIndex);
+        locationPath.add(field.getIndex());
         return locationPath;
     }
 
-    private int fieldIndex() {
-        FieldDescriptorProto proto = this.field.toProto();
-        return declaringMessage.descriptor()
-                               .toProto()
-                               .getFieldList()
-                               .indexOf(proto);
-    }
-
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -25,6 +25,7 @@ import com.google.protobuf.InvalidProtocolBufferException;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.Optional;
 
 import static io.spine.util.Exceptions.illegalArgumentWithCauseOf;
@@ -90,4 +91,21 @@ public final class FileDescriptorSets {
             throw illegalArgumentWithCauseOf(e);
         }
     }
+
+    /**
+     * Parses a descriptor set from the remaining content of the given buffer.
+     *
+     * @param buffer
+     *         the buffer with the data to parse
+     * @return instance of {@code FileDescriptorSet} encoded in the buffer
+     * @throws java.lang.IllegalArgumentException
+     *         if parsing fails
+     */
+    public static FileDescriptorSet parse(ByteBuffer buffer) {
+        try {
+            return FileDescriptorSet.parseFrom(buffer, OptionExtensionRegistry.instance());
+        } catch (InvalidProtocolBufferException e) {
+            throw illegalArgumentWithCauseOf(e);
+        }
+    }
 }
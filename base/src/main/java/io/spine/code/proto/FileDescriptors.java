@@ -19,33 +19,32 @@
  */
 package io.spine.code.proto;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.HashCode;
 import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
 import com.google.protobuf.DescriptorProtos.FileDescriptorSet;
 import com.google.protobuf.Descriptors.FileDescriptor;
 import io.spine.annotation.Internal;
-import io.spine.io.Resource;
 import io.spine.logging.Logging;
 import org.slf4j.Logger;
 
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.net.URL;
-import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
-import java.util.function.Function;
 import java.util.function.Predicate;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.collect.Sets.newHashSet;
-import static com.google.common.collect.Streams.stream;
 import static io.spine.code.GooglePackage.notInGooglePackage;
 import static io.spine.util.Exceptions.newIllegalStateException;
 import static java.util.stream.Collectors.toList;
-import static java.util.stream.Collectors.toSet;
 
 /**
  * A utility class which allows to obtain Protobuf file descriptors.
@@ -121,65 +120,74 @@ public final class FileDescriptors {
     /**
      * Loads the descriptor files from the classpath.
      *
+     * <p>The files with the same name are loaded only once. The files are ordered so that each
+     * file goes after the files it depends on.
+     *
+     * <p>If the {@linkplain DescriptorSetCache descriptor set cache} is configured, and the
+     * descriptor set files in the classpath did not change since it was written, the files
+     * are read from the cache instead of being parsed and merged again.
+     *
      * @return the set of {@linkplain FileDescriptorProto file descriptors}
      *         contained in the loaded files
      */
-    static Set<FileDescriptorProto> load() {
-        Iterator<Resource> resources = DescriptorReference.loadAll();
-        Set<FileDescriptorProto> files = stream(resources)
-                .map(FileDescriptors::loadFrom)
-                .flatMap(set -> set.getFileList().stream())
-                .filter(distinctBy(FileDescriptorProto::getName))
-                .collect(toSet());
-        return files;
+    static ImmutableSet<FileDescriptorProto> load() {
+        ImmutableList<RawDescriptorSet> descriptorSets =
+                RawDescriptorSet.readAll(DescriptorReference.loadAll());
+        Optional<DescriptorSetCache> cache = DescriptorSetCache.configured();
+        FileDescriptorSet merged = cache.isPresent()
+                                   ? loadCached(descriptorSets, cache.get())
+                                   : RawDescriptorSet.merge(descriptorSets);
+        return ImmutableSet.copyOf(merged.getFileList());
     }
 
-    /**
-     * Retrieves a {@link Predicate} on a given type {@code T}.
-     *
-     * <p>The predicate is satisfied (returns {@code true}) iff the result of applying the given
-     * {@code selector} function to the predicate argument is not seen before by this function.
-     * Therefore, the predicate is stateful and should not be used in parallel streams.
-     *
-     * @param selector
-     *         the key selector function; takes the predicate parameter as an argument and
-     *         returns the property to distinct by
-     * @param <T>
-     *         the predicate type
-     * @param <K>
-     *         the type of the key
-     * @return a predicate on {@code T}
-     */
-    private static <T, K> Predicate<T> distinctBy(Function<T, K> selector) {
-        Set<? super K> seen = newHashSet();
-        return element -> {
-            K key = selector.apply(element);
-            boolean newKey = seen.add(key);
-            return newKey;
-        };
+    private static FileDescriptorSet
+    loadCached(List<RawDescriptorSet> descriptorSets, DescriptorSetCache cache) {
+        HashCode key = RawDescriptorSet.keyOf(descriptorSets);
+        Optional<FileDescriptorSet> cached = cache.read(key);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        FileDescriptorSet merged = RawDescriptorSet.merge(descriptorSets);
+        cache.write(key, merged);
+        return merged;
     }
 
     /**
-     * Reads an instance of {@link FileDescriptorSet} from the given {@link URL}.
+     * Orders the given files so that each file goes after the files it depends on.
+     *
+     * <p>The dependencies missing from the given files are ignored. Apart from that, the files
+     * preserve their original order.
+     *
+     * @param files
+     *         the files to order mapped by their names
+     * @return the ordered files
      */
-    private static FileDescriptorSet loadFrom(Resource resource) {
-        checkNotNull(resource);
-        return resource.exists()
-               ? doLoadFrom(resource)
-               : FileDescriptorSet.getDefaultInstance();
+    @VisibleForTesting
+    static ImmutableList<FileDescriptorProto>
+    inDependencyOrder(Map<String, FileDescriptorProto> files) {
+        ImmutableList.Builder<FileDescriptorProto> result =
+                ImmutableList.builderWithExpectedSize(files.size());
+        Set<String> visited = newHashSet();
+        for (FileDescriptorProto file : files.values()) {
+            addWithDependencies(file, files, visited, result);
+        }
+        return result.build();
     }
 
-    private static FileDescriptorSet doLoadFrom(Resource resource) {
-        try (InputStream stream = resource.open()) {
-            FileDescriptorSet parsed = FileDescriptorSets.parse(stream);
-            return parsed;
-        } catch (IOException e) {
-            throw newIllegalStateException(
-                    e,
-                    "Unable to load file descriptor set from %s.",
-                    resource
-            );
+    private static void addWithDependencies(FileDescriptorProto file,
+                                            Map<String, FileDescriptorProto> files,
+                                            Set<String> visited,
+                                            ImmutableList.Builder<FileDescriptorProto> result) {
+        if (!visited.add(file.getName())) {
+            return;
+        }
+        for (String dependencyName : file.getDependencyList()) {
+            FileDescriptorProto dependency = files.get(dependencyName);
+            if (dependency != null) {
+                addWithDependencies(dependency, files, visited, result);
+            }
         }
+        result.add(file);
     }
 
     /**
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.code.proto;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableMap;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.DescriptorProtos.SourceCodeInfo.Location;
+import com.google.protobuf.Descriptors.FileDescriptor;
+import io.spine.annotation.Internal;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.ImmutableMap.toImmutableMap;
+
+/**
+ * An index of the {@linkplain Location source code locations} of a {@code .proto} file.
+ *
+ * <p>The index is built once per file and allows to find a location by its
+ * {@linkplain LocationPath path} in constant time.
+ *
+ * <p>If a file declares several locations with the same path, the first one is indexed.
+ */
+@Internal
+public final class LocationIndex {
+
+    /**
+     * The indexes of the known files.
+     *
+     * <p>The keys are compared by identity. A {@link FileDescriptor} always returns the same
+     * instance of {@link FileDescriptorProto}, so the index is built once per file descriptor.
+     *
+     * <p>The index must not refer to the file proto. Otherwise, the key would be strongly
+     * reachable from the cached value and would never be collected.
+     */
+    private static final LoadingCache<FileDescriptorProto, LocationIndex> indexes =
+            CacheBuilder.newBuilder()
+                        .weakKeys()
+                        .build(CacheLoader.from(LocationIndex::new));
+
+    private final String fileName;
+    private final boolean hasSourceInfo;
+    private final Map<List<Integer>, Location> locations;
+
+    private LocationIndex(FileDescriptorProto file) {
+        this.fileName = file.getName();
+        this.hasSourceInfo = file.hasSourceCodeInfo();
+        List<Location> locationList = file.getSourceCodeInfo()
+                                          .getLocationList();
+        this.locations = new HashMap<>(locationList.size() * 4 / 3 + 1);
+        for (Location location : locationList) {
+            locations.putIfAbsent(location.getPathList(), location);
+        }
+    }
+
+    /**
+     * Obtains the index of the given file.
+     */
+    public static LocationIndex of(FileDescriptor file) {
+        checkNotNull(file);
+        return of(file.toProto());
+    }
+
+    /**
+     * Obtains the index of the given file.
+     */
+    public static LocationIndex of(FileDescriptorProto file) {
+        checkNotNull(file);
+        return indexes.getUnchecked(file);
+    }
+
+    /**
+     * Verifies if the indexed file contains the source code information.
+     *
+     * <p>If the file was compiled without the source code information, the index is empty.
+     */
+    public boolean hasSourceInfo() {
+        return hasSourceInfo;
+    }
+
+    /**
+     * Finds the location with the given path.
+     *
+     * @return the location or {@code Optional.empty()} if the file has no location with
+     *         such a path
+     */
+    public Optional<Location> find(LocationPath path) {
+        checkNotNull(path);
+        Location location = locations.get(path.toList());
+        return Optional.ofNullable(location);
+    }
+
+    /**
+     * Obtains the leading comments of all the locations in the file.
+     *
+     * @return the leading comments by the path of the commented location
+     */
+    public ImmutableMap<LocationPath, String> leadingComments() {
+        ImmutableMap<LocationPath, String> result =
+                locations.values()
+                         .stream()
+                         .filter(Location::hasLeadingComments)
+                         .collect(toImmutableMap(LocationPath::new,
+                                                 Location::getLeadingComments));
+        return result;
+    }
+
+    /**
+     * Obtains the name of the indexed file.
+     */
+    public String fileName() {
+        return fileName;
+    }
+
+    @Override
+    public String toString() {
+        return fileName();
+    }
+}
@@ -33,10 +33,11 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.List;
+import java.util.Optional;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
-import static java.lang.String.format;
+import static io.spine.util.Exceptions.newIllegalStateException;
 
 /**
  * Encapsulates a {@linkplain Location#getPathList() location path}.
@@ -67,9 +68,8 @@ public final class LocationPath {
     /**
      * Creates an instance by source code location.
      */
-    @SuppressWarnings("unused") // Included for referencing `Location` in Javadoc.
     LocationPath(Location location) {
-        this(location.getPathList());
+        this(new ArrayList<>(location.getPathList()));
     }
 
     /**
@@ -130,22 +130,22 @@ public final class LocationPath {
 
     /**
      * Converts the instance to the {@code SourceCodeInfo.Location} instance in the given file.
+     *
+     * <p>The location is looked up in the {@linkplain LocationIndex index} of the file.
      */
     public SourceCodeInfo.Location toLocation(FileDescriptorProto file) {
-        List<Integer> thisPath = toList();
-        for (SourceCodeInfo.Location location : file.getSourceCodeInfo()
-                                                    .getLocationList()) {
-            if (thisPath.equals(location.getPathList())) {
-                return location;
-            }
+        checkNotNull(file);
+        Optional<SourceCodeInfo.Location> location = LocationIndex.of(file)
+                                                                  .find(this);
+        if (!location.isPresent()) {
+            throw newIllegalStateException(
+                    "The location with %s path should be present in \"%s\".",
+                    this, file.getName()
+            );
         }
-
-        String msg = format("The location with %s path should be present in \"%s\".",
-                            this, file.getName());
-        throw new IllegalStateException(msg);
+        return location.get();
     }
 
-
     @Override
     public boolean equals(Object o) {
         if (this == o) {
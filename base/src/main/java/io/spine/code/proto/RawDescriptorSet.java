@@ -0,0 +1,243 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.code.proto;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Stopwatch;
+import com.google.common.collect.ImmutableList;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorSet;
+import com.google.protobuf.ExtensionRegistry;
+import com.google.protobuf.InvalidProtocolBufferException;
+import io.spine.io.Resource;
+import io.spine.logging.Logging;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Supplier;
+
+import static com.google.common.base.Throwables.throwIfUnchecked;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.collect.Streams.stream;
+import static com.google.common.io.ByteStreams.toByteArray;
+import static io.spine.util.Exceptions.illegalArgumentWithCauseOf;
+import static io.spine.util.Exceptions.illegalStateWithCauseOf;
+import static io.spine.util.Exceptions.newIllegalStateException;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The content of a descriptor set resource which is not parsed yet.
+ *
+ * <p>The descriptor sets are read and parsed concurrently by a dedicated pool of threads.
+ * The threads use the context class loader of the thread which requested the operation.
+ * The result of {@linkplain #merge(List) merging} the sets does not depend on the order in
+ * which the concurrent tasks complete.
+ */
+final class RawDescriptorSet {
+
+    private final Resource resource;
+    private final byte[] content;
+
+    @VisibleForTesting
+    RawDescriptorSet(Resource resource, byte[] content) {
+        this.resource = resource;
+        this.content = content;
+    }
+
+    /**
+     * Reads the given descriptor set resources concurrently.
+     *
+     * <p>The resources which do not exist are skipped.
+     *
+     * @return the read descriptor sets in the order of the given resources
+     */
+    static ImmutableList<RawDescriptorSet> readAll(Iterator<Resource> resources) {
+        List<Supplier<Optional<RawDescriptorSet>>> tasks =
+                stream(resources)
+                        .map(resource -> (Supplier<Optional<RawDescriptorSet>>)
+                                () -> readIfExists(resource))
+                        .collect(toImmutableList());
+        ImmutableList<RawDescriptorSet> result =
+                runAll(tasks).stream()
+                             .filter(Optional::isPresent)
+                             .map(Optional::get)
+                             .collect(toImmutableList());
+        return result;
+    }
+
+    private static Optional<RawDescriptorSet> readIfExists(Resource resource) {
+        return resource.exists()
+               ? Optional.of(read(resource))
+               : Optional.empty();
+    }
+
+    private static RawDescriptorSet read(Resource resource) {
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        try (InputStream stream = resource.open()) {
+            byte[] content = toByteArray(stream);
+            log().debug("Read descriptor set `{}` ({} bytes) in {}.",
+                        resource, content.length, stopwatch);
+            return new RawDescriptorSet(resource, content);
+        } catch (IOException e) {
+            throw newIllegalStateException(
+                    e,
+                    "Unable to load file descriptor set from %s.",
+                    resource
+            );
+        }
+    }
+
+    /**
+     * Parses the given descriptor sets concurrently and merges them into one.
+     *
+     * <p>If several sets contain a file with the same name, the file from the set which goes
+     * first in the given list is taken. The files are ordered so that each file goes after
+     * the files it depends on.
+     */
+    static FileDescriptorSet merge(List<RawDescriptorSet> descriptorSets) {
+        // Obtain the registry on the calling thread, so that the custom options are loaded
+        // with the class loader of the caller.
+        ExtensionRegistry registry = OptionExtensionRegistry.instance();
+        List<Supplier<FileDescriptorSet>> tasks =
+                descriptorSets.stream()
+                              .map(set -> (Supplier<FileDescriptorSet>) () -> set.parse(registry))
+                              .collect(toImmutableList());
+        Map<String, FileDescriptorProto> ordered = new LinkedHashMap<>();
+        for (FileDescriptorSet parsed : runAll(tasks)) {
+            for (FileDescriptorProto file : parsed.getFileList()) {
+                ordered.putIfAbsent(file.getName(), file);
+            }
+        }
+        FileDescriptorSet result = FileDescriptorSet
+                .newBuilder()
+                .addAllFile(FileDescriptors.inDependencyOrder(ordered))
+                .build();
+        return result;
+    }
+
+    private FileDescriptorSet parse(ExtensionRegistry registry) {
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        try {
+            FileDescriptorSet result = FileDescriptorSet.parseFrom(content, registry);
+            log().debug("Parsed descriptor set `{}` ({} files) in {}.",
+                        resource, result.getFileCount(), stopwatch);
+            return result;
+        } catch (InvalidProtocolBufferException e) {
+            throw illegalArgumentWithCauseOf(e);
+        }
+    }
+
+    /**
+     * Runs the given tasks concurrently.
+     *
+     * <p>The tasks are run by a pool of threads which is created for this call and is bounded
+     * by the number of available processors. The threads of the pool use the context class
+     * loader of the calling thread.
+     *
+     * @return the results of the tasks in the order of the tasks
+     */
+    private static <T> ImmutableList<T> runAll(List<Supplier<T>> tasks) {
+        int threads = Math.min(Runtime.getRuntime()
+                                      .availableProcessors(), tasks.size());
+        if (threads <= 1) {
+            return tasks.stream()
+                        .map(Supplier::get)
+                        .collect(toImmutableList());
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(threads, threadFactory());
+        try {
+            List<Future<T>> futures = new ArrayList<>(tasks.size());
+            for (Supplier<T> task : tasks) {
+                futures.add(executor.submit(task::get));
+            }
+            ImmutableList.Builder<T> result = ImmutableList.builder();
+            for (Future<T> future : futures) {
+                result.add(future.get());
+            }
+            return result.build();
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw illegalStateWithCauseOf(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throwIfUnchecked(cause);
+            throw illegalStateWithCauseOf(cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static ThreadFactory threadFactory() {
+        ClassLoader classLoader = Thread.currentThread()
+                                        .getContextClassLoader();
+        ThreadFactory defaultFactory = Executors.defaultThreadFactory();
+        ThreadFactory result = new ThreadFactoryBuilder()
+                .setNameFormat("RawDescriptorSet-%d")
+                .setDaemon(true)
+                .setThreadFactory(runnable -> {
+                    Thread thread = defaultFactory.newThread(runnable);
+                    thread.setContextClassLoader(classLoader);
+                    return thread;
+                })
+                .build();
+        return result;
+    }
+
+    /**
+     * Calculates the key of the given descriptor sets for the {@link DescriptorSetCache}.
+     */
+    static HashCode keyOf(List<RawDescriptorSet> descriptorSets) {
+        Hasher hasher = Hashing.sha256()
+                               .newHasher();
+        for (RawDescriptorSet descriptorSet : descriptorSets) {
+            hasher.putString(descriptorSet.resource.toString(), UTF_8)
+                  .putInt(descriptorSet.content.length)
+                  .putBytes(descriptorSet.content);
+        }
+        return hasher.hash();
+    }
+
+    @Override
+    public String toString() {
+        return resource.toString();
+    }
+
+    private static Logger log() {
+        return Logging.get(RawDescriptorSet.class);
+    }
+}
@@ -0,0 +1,476 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.logging;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+import org.slf4j.event.Level;
+
+import java.util.Map;
+
+import static org.slf4j.event.Level.DEBUG;
+import static org.slf4j.event.Level.ERROR;
+import static org.slf4j.event.Level.INFO;
+import static org.slf4j.event.Level.TRACE;
+import static org.slf4j.event.Level.WARN;
+
+/**
+ * A {@link Logger} which passes the logging calls to the delegate logger in
+ * a {@linkplain LogDispatcher background thread}.
+ *
+ * <p>The level checks are performed in the calling thread, so the calls at the disabled levels
+ * do not produce any events.
+ *
+ * <p>The messages are formatted in the background thread. Therefore, the logging arguments
+ * should not be modified after they are passed to the logger.
+ *
+ * <p>The markers are passed to the delegate as is. The {@linkplain MDC diagnostic context} of
+ * the calling thread is captured with each event and is restored in the background thread
+ * while the event is passed to the delegate.
+ */
+@SuppressWarnings("ClassWithTooManyMethods") // Implements the SLF4J Logger API.
+final class AsyncLogger implements Logger {
+
+    private final Logger delegate;
+    private final LogDispatcher dispatcher;
+
+    AsyncLogger(Logger delegate, LogDispatcher dispatcher) {
+        this.delegate = delegate;
+        this.dispatcher = dispatcher;
+    }
+
+    private void submit(Level level,
+                        @Nullable Marker marker,
+                        String format,
+                        Object @Nullable [] args,
+                        @Nullable Throwable throwable) {
+        @Nullable Map<String, String> context = MDC.getCopyOfContextMap();
+        LogEvent event = new LogEvent(delegate, level, marker, format, args, throwable, context);
+        dispatcher.submit(event);
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public boolean isTraceEnabled() {
+        return delegate.isTraceEnabled();
+    }
+
+    @Override
+    public void trace(String msg) {
+        if (delegate.isTraceEnabled()) {
+            submit(TRACE, null, msg, null, null);
+        }
+    }
+
+    @Override
+    public void trace(String format, Object arg) {
+        if (delegate.isTraceEnabled()) {
+            submit(TRACE, null, format, new Object[]{arg}, null);
+        }
+    }
+
+    @Override
+    public void trace(String format, Object arg1, Object arg2) {
+        if (delegate.isTraceEnabled()) {
+            submit(TRACE, null, format, new Object[]{arg1, arg2}, null);
+        }
+    }
+
+    @Override
+    public void trace(String format, Object... arguments) {
+        if (delegate.isTraceEnabled()) {
+            submit(TRACE, null, format, arguments, null);
+        }
+    }
+
+    @Override
+    public void trace(String msg, Throwable t) {
+        if (delegate.isTraceEnabled()) {
+            submit(TRACE, null, msg, null, t);
+        }
+    }
+
+    @Override
+    public boolean isTraceEnabled(Marker marker) {
+        return delegate.isTraceEnabled(marker);
+    }
+
+    @Override
+    public void trace(Marker marker, String msg) {
+        if (delegate.isTraceEnabled(marker)) {
+            submit(TRACE, marker, msg, null, null);
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String format, Object arg) {
+        if (delegate.isTraceEnabled(marker)) {
+            submit(TRACE, marker, format, new Object[]{arg}, null);
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String format, Object arg1, Object arg2) {
+        if (delegate.isTraceEnabled(marker)) {
+            submit(TRACE, marker, format, new Object[]{arg1, arg2}, null);
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String format, Object... arguments) {
+        if (delegate.isTraceEnabled(marker)) {
+            submit(TRACE, marker, format, arguments, null);
+        }
+    }
+
+    @Override
+    public void trace(Marker marker, String msg, Throwable t) {
+        if (delegate.isTraceEnabled(marker)) {
+            submit(TRACE, marker, msg, null, t);
+        }
+    }
+
+    @Override
+    public boolean isDebugEnabled() {
+        return delegate.isDebugEnabled();
+    }
+
+    @Override
+    public void debug(String msg) {
+        if (delegate.isDebugEnabled()) {
+            submit(DEBUG, null, msg, null, null);
+        }
+    }
+
+    @Override
+    public void debug(String format, Object arg) {
+        if (delegate.isDebugEnabled()) {
+            submit(DEBUG, null, format, new Object[]{arg}, null);
+        }
+    }
+
+    @Override
+    public void debug(String format, Object arg1, Object arg2) {
+        if (delegate.isDebugEnabled()) {
+            submit(DEBUG, null, format, new Object[]{arg1, arg2}, null);
+        }
+    }
+
+    @Override
+    public void debug(String format, Object... arguments) {
+        if (delegate.isDebugEnabled()) {
+            submit(DEBUG, null, format, arguments, null);
+        }
+    }
+
+    @Override
+    public void debug(String msg, Throwable t) {
+        if (delegate.isDebugEnabled()) {
+            submit(DEBUG, null, msg, null, t);
+        }
+    }
+
+    @Override
+    public boolean isDebugEnabled(Marker marker) {
+        return delegate.isDebugEnabled(marker);
+    }
+
+    @Override
+    public void debug(Marker marker, String msg) {
+        if (delegate.isDebugEnabled(marker)) {
+            submit(DEBUG, marker, msg, null, null);
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String format, Object arg) {
+        if (delegate.isDebugEnabled(marker)) {
+            submit(DEBUG, marker, format, new Object[]{arg}, null);
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String format, Object arg1, Object arg2) {
+        if (delegate.isDebugEnabled(marker)) {
+            submit(DEBUG, marker, format, new Object[]{arg1, arg2}, null);
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String format, Object... arguments) {
+        if (delegate.isDebugEnabled(marker)) {
+            submit(DEBUG, marker, format, arguments, null);
+        }
+    }
+
+    @Override
+    public void debug(Marker marker, String msg, Throwable t) {
+        if (delegate.isDebugEnabled(marker)) {
+            submit(DEBUG, marker, msg, null, t);
+        }
+    }
+
+    @Override
+    public boolean isInfoEnabled() {
+        return delegate.isInfoEnabled();
+    }
+
+    @Override
+    public void info(String msg) {
+        if (delegate.isInfoEnabled()) {
+            submit(INFO, null, msg, null, null);
+        }
+    }
+
+    @Override
+    public void info(String format, Object arg) {
+        if (delegate.isInfoEnabled()) {
+            submit(INFO, null, format, new Object[]{arg}, null);
+        }
+    }
+
+    @Override
+    public void info(String format, Object arg1, Object arg2) {
+        if (delegate.isInfoEnabled()) {
+            submit(INFO, null, format, new Object[]{arg1, arg2}, null);
+        }
+    }
+
+    @Override
+    public void info(String format, Object... arguments) {
+        if (delegate.isInfoEnabled()) {
+            submit(INFO, null, format, arguments, null);
+        }
+    }
+
+    @Override
+    public void info(String msg, Throwable t) {
+        if (delegate.isInfoEnabled()) {
+            submit(INFO, null, msg, null, t);
+        }
+    }
+
+    @Override
+    public boolean isInfoEnabled(Marker marker) {
+        return delegate.isInfoEnabled(marker);
+    }
+
+    @Override
+    public void info(Marker marker, String msg) {
+        if (delegate.isInfoEnabled(marker)) {
+            submit(INFO, marker, msg, null, null);
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String format, Object arg) {
+        if (delegate.isInfoEnabled(marker)) {
+            submit(INFO, marker, format, new Object[]{arg}, null);
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String format, Object arg1, Object arg2) {
+        if (delegate.isInfoEnabled(marker)) {
+            submit(INFO, marker, format, new Object[]{arg1, arg2}, null);
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String format, Object... arguments) {
+        if (delegate.isInfoEnabled(marker)) {
+            submit(INFO, marker, format, arguments, null);
+        }
+    }
+
+    @Override
+    public void info(Marker marker, String msg, Throwable t) {
+        if (delegate.isInfoEnabled(marker)) {
+            submit(INFO, marker, msg, null, t);
+        }
+    }
+
+    @Override
+    public boolean isWarnEnabled() {
+        return delegate.isWarnEnabled();
+    }
+
+    @Override
+    public void warn(String msg) {
+        if (delegate.isWarnEnabled()) {
+            submit(WARN, null, msg, null, null);
+        }
+    }
+
+    @Override
+    public void warn(String format, Object arg) {
+        if (delegate.isWarnEnabled()) {
+            submit(WARN, null, format, new Object[]{arg}, null);
+        }
+    }
+
+    @Override
+    public void warn(String format, Object arg1, Object arg2) {
+        if (delegate.isWarnEnabled()) {
+            submit(WARN, null, format, new Object[]{arg1, arg2}, null);
+        }
+    }
+
+    @Override
+    public void warn(String format, Object... arguments) {
+        if (delegate.isWarnEnabled()) {
+            submit(WARN, null, format, arguments, null);
+        }
+    }
+
+    @Override
+    public void warn(String msg, Throwable t) {
+        if (delegate.isWarnEnabled()) {
+            submit(WARN, null, msg, null, t);
+        }
+    }
+
+    @Override
+    public boolean isWarnEnabled(Marker marker) {
+        return delegate.isWarnEnabled(marker);
+    }
+
+    @Override
+    public void warn(Marker marker, String msg) {
+        if (delegate.isWarnEnabled(marker)) {
+            submit(WARN, marker, msg, null, null);
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String format, Object arg) {
+        if (delegate.isWarnEnabled(marker)) {
+            submit(WARN, marker, format, new Object[]{arg}, null);
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String format, Object arg1, Object arg2) {
+        if (delegate.isWarnEnabled(marker)) {
+            submit(WARN, marker, format, new Object[]{arg1, arg2}, null);
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String format, Object... arguments) {
+        if (delegate.isWarnEnabled(marker)) {
+            submit(WARN, marker, format, arguments, null);
+        }
+    }
+
+    @Override
+    public void warn(Marker marker, String msg, Throwable t) {
+        if (delegate.isWarnEnabled(marker)) {
+            submit(WARN, marker, msg, null, t);
+        }
+    }
+
+    @Override
+    public boolean isErrorEnabled() {
+        return delegate.isErrorEnabled();
+    }
+
+    @Override
+    public void error(String msg) {
+        if (delegate.isErrorEnabled()) {
+            submit(ERROR, null, msg, null, null);
+        }
+    }
+
+    @Override
+    public void error(String format, Object arg) {
+        if (delegate.isErrorEnabled()) {
+            submit(ERROR, null, format, new Object[]{arg}, null);
+        }
+    }
+
+    @Override
+    public void error(String format, Object arg1, Object arg2) {
+        if (delegate.isErrorEnabled()) {
+            submit(ERROR, null, format, new Object[]{arg1, arg2}, null);
+        }
+    }
+
+    @Override
+    public void error(String format, Object... arguments) {
+        if (delegate.isErrorEnabled()) {
+            submit(ERROR, null, format, arguments, null);
+        }
+    }
+
+    @Override
+    public void error(String msg, Throwable t) {
+        if (delegate.isErrorEnabled()) {
+            submit(ERROR, null, msg, null, t);
+        }
+    }
+
+    @Override
+    public boolean isErrorEnabled(Marker marker) {
+        return delegate.isErrorEnabled(marker);
+    }
+
+    @Override
+    public void error(Marker marker, String msg) {
+        if (delegate.isErrorEnabled(marker)) {
+            submit(ERROR, marker, msg, null, null);
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String format, Object arg) {
+        if (delegate.isErrorEnabled(marker)) {
+            submit(ERROR, marker, format, new Object[]{arg}, null);
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String format, Object arg1, Object arg2) {
+        if (delegate.isErrorEnabled(marker)) {
+            submit(ERROR, marker, format, new Object[]{arg1, arg2}, null);
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String format, Object... arguments) {
+        if (delegate.isErrorEnabled(marker)) {
+            submit(ERROR, marker, format, arguments, null);
+        }
+    }
+
+    @Override
+    public void error(Marker marker, String msg, Throwable t) {
+        if (delegate.isErrorEnabled(marker)) {
+            submit(ERROR, marker, msg, null, t);
+        }
+    }
+}
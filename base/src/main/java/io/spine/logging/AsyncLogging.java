@@ -0,0 +1,134 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.logging;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.slf4j.Logger;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * Controls the asynchronous mode of the loggers obtained via {@link Logging}.
+ *
+ * <p>In the asynchronous mode, the logging calls are recorded into a bounded lock-free buffer.
+ * A background thread drains the buffer in batches and passes the calls to the SLF4J loggers.
+ * Thus, the calling threads do not wait for the messages to be formatted and written.
+ *
+ * <p>The mode affects only the loggers obtained after it is {@linkplain #enable(int,
+ * OverflowPolicy) enabled}. Therefore, enable the mode at the start of the application.
+ * When the mode is {@linkplain #disable() disabled}, the asynchronous loggers obtained before
+ * pass the calls to the SLF4J loggers synchronously.
+ *
+ * <p>The mode is disabled by default.
+ */
+public final class AsyncLogging {
+
+    /**
+     * The default number of the logging calls which may await in the buffer.
+     */
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    private static volatile @Nullable LogDispatcher dispatcher = null;
+
+    /** Prevents instantiation of this utility class. */
+    private AsyncLogging() {
+    }
+
+    /**
+     * Enables the asynchronous mode with the {@linkplain #DEFAULT_CAPACITY default capacity}
+     * dropping the logging calls which do not fit into the buffer.
+     */
+    public static void enable() {
+        enable(DEFAULT_CAPACITY, OverflowPolicy.DROP);
+    }
+
+    /**
+     * Enables the asynchronous mode.
+     *
+     * @param capacity
+     *         the number of the logging calls which may await in the buffer; rounded up to
+     *         the power of two
+     * @param policy
+     *         what to do when the buffer is full
+     * @throws IllegalStateException
+     *         if the mode is already enabled
+     */
+    public static synchronized void enable(int capacity, OverflowPolicy policy) {
+        checkArgument(capacity > 0, "The capacity must be positive. Got: %s.", capacity);
+        checkNotNull(policy);
+        checkState(dispatcher == null, "The asynchronous logging is already enabled.");
+        LogDispatcher newDispatcher = new LogDispatcher(capacity, policy);
+        newDispatcher.start();
+        dispatcher = newDispatcher;
+    }
+
+    /**
+     * Disables the asynchronous mode.
+     *
+     * <p>Waits until all the buffered logging calls are passed to the loggers.
+     *
+     * <p>If the mode is not enabled, does nothing.
+     */
+    public static synchronized void disable() {
+        LogDispatcher current = dispatcher;
+        if (current != null) {
+            dispatcher = null;
+            current.stop();
+        }
+    }
+
+    /**
+     * Tells if the asynchronous mode is enabled.
+     */
+    public static boolean isEnabled() {
+        return dispatcher != null;
+    }
+
+    /**
+     * Wraps the given logger into an asynchronous one if the mode is enabled.
+     */
+    static Logger wrap(Logger logger) {
+        LogDispatcher current = dispatcher;
+        return current == null
+               ? logger
+               : new AsyncLogger(logger, current);
+    }
+
+    /**
+     * Defines what happens to a logging call when the buffer is full.
+     */
+    public enum OverflowPolicy {
+
+        /**
+         * The call is dropped.
+         *
+         * <p>The number of the dropped calls is reported when the mode is disabled.
+         */
+        DROP,
+
+        /**
+         * The calling thread waits until there is room in the buffer.
+         */
+        BLOCK
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.logging;
+
+import io.spine.logging.AsyncLogging.OverflowPolicy;
+import org.slf4j.helpers.Util;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+/**
+ * Passes the {@linkplain LogEvent logging events} to the loggers in a background thread.
+ *
+ * <p>The events are accumulated in a {@link RingBuffer} and are drained by the background
+ * thread in batches. When there are no events, the background thread sleeps until
+ * an event is submitted. When the buffer is full, the dispatcher acts according to its
+ * {@link OverflowPolicy}.
+ *
+ * <p>After the dispatcher is {@linkplain #stop() stopped}, the events are passed to the loggers
+ * in the calling thread.
+ */
+final class LogDispatcher {
+
+    private static final int BATCH_SIZE = 256;
+    private static final long BACKOFF_NANOS = MICROSECONDS.toNanos(10);
+
+    private final RingBuffer<LogEvent> buffer;
+    private final OverflowPolicy policy;
+    private final Thread thread;
+    private final AtomicLong dropped = new AtomicLong();
+
+    /** Tells if the background thread is parked or is about to park waiting for events. */
+    private final AtomicBoolean sleeping = new AtomicBoolean();
+    private volatile boolean running;
+
+    LogDispatcher(int capacity, OverflowPolicy policy) {
+        this.buffer = new RingBuffer<>(capacity);
+        this.policy = policy;
+        this.thread = new Thread(this::run, "AsyncLogging-dispatcher");
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * Starts the background thread.
+     */
+    void start() {
+        running = true;
+        thread.start();
+    }
+
+    /**
+     * Accepts the event for dispatching.
+     *
+     * <p>If the buffer is full, the event is either dropped or the calling thread waits for
+     * a free slot, depending on the {@link OverflowPolicy}. The events emitted by
+     * the background thread itself are never buffered.
+     */
+    void submit(LogEvent event) {
+        if (!running || Thread.currentThread() == thread) {
+            dispatch(event);
+            return;
+        }
+        if (!buffer.offer(event) && !handleOverflow(event)) {
+            return;
+        }
+        wakeUp();
+        if (!running) {
+            drainAfterStop();
+        }
+    }
+
+    /**
+     * Handles the event which does not fit into the buffer.
+     *
+     * @return {@code true} if the event is finally added to the buffer
+     */
+    private boolean handleOverflow(LogEvent event) {
+        if (policy == OverflowPolicy.DROP) {
+            dropped.incrementAndGet();
+            return false;
+        }
+        while (!buffer.offer(event)) {
+            if (!running) {
+                dispatch(event);
+                return false;
+            }
+            LockSupport.parkNanos(BACKOFF_NANOS);
+        }
+        return true;
+    }
+
+    /**
+     * Unparks the background thread if it waits for events.
+     */
+    private void wakeUp() {
+        if (sleeping.get() && sleeping.compareAndSet(true, false)) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    private void run() {
+        while (running) {
+            int drained = buffer.drainTo(LogDispatcher::dispatch, BATCH_SIZE);
+            if (drained == 0) {
+                sleep();
+            }
+        }
+        drainAll();
+    }
+
+    /**
+     * Parks the background thread until an event is submitted or the dispatcher is stopped.
+     *
+     * <p>The flag is raised before the buffer is checked for the last time. So, a producer
+     * which adds an event after the check is guaranteed to see the flag and unpark the thread.
+     */
+    private void sleep() {
+        sleeping.set(true);
+        if (running && buffer.isEmpty()) {
+            LockSupport.park(this);
+        }
+        sleeping.set(false);
+    }
+
+    /**
+     * Stops the background thread after dispatching all the buffered events.
+     */
+    void stop() {
+        running = false;
+        LockSupport.unpark(thread);
+        drainAfterStop();
+        long droppedEvents = dropped.get();
+        if (droppedEvents > 0) {
+            Util.report(droppedEvents + " logging events were dropped because the buffer of "
+                                + buffer.capacity() + " events was full.");
+        }
+    }
+
+    /**
+     * Dispatches the events left in the buffer once the background thread is terminated.
+     */
+    private synchronized void drainAfterStop() {
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            return;
+        }
+        drainAll();
+    }
+
+    private void drainAll() {
+        while (buffer.drainTo(LogDispatcher::dispatch, BATCH_SIZE) > 0) {
+            // Keep draining until the buffer is empty.
+        }
+    }
+
+    private static void dispatch(LogEvent event) {
+        try {
+            event.dispatch();
+        } catch (RuntimeException e) {
+            Util.report("Unable to dispatch a logging event.", e);
+        }
+    }
+
+    /**
+     * Obtains the number of events dropped because the buffer was full.
+     */
+    long droppedCount() {
+        return dropped.get();
+    }
+}
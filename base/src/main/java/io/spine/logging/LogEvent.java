@@ -0,0 +1,121 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.logging;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+import org.slf4j.event.Level;
+import org.slf4j.helpers.FormattingTuple;
+import org.slf4j.helpers.MessageFormatter;
+
+import java.util.Map;
+
+/**
+ * A logging call recorded for being passed to the logger later.
+ *
+ * <p>The message is formatted when the event is {@linkplain #dispatch() dispatched}.
+ *
+ * <p>The event carries the {@linkplain MDC diagnostic context} of the thread which recorded it.
+ * The context is set for the dispatching thread while the event is passed to the logger.
+ */
+final class LogEvent {
+
+    private final Logger target;
+    private final Level level;
+    private final @Nullable Marker marker;
+    private final String format;
+    private final Object @Nullable [] args;
+    private final @Nullable Throwable throwable;
+    private final @Nullable Map<String, String> context;
+
+    LogEvent(Logger target,
+             Level level,
+             @Nullable Marker marker,
+             String format,
+             Object @Nullable [] args,
+             @Nullable Throwable throwable,
+             @Nullable Map<String, String> context) {
+        this.target = target;
+        this.level = level;
+        this.marker = marker;
+        this.format = format;
+        this.args = args;
+        this.throwable = throwable;
+        this.context = context;
+    }
+
+    /**
+     * Formats the message and passes it to the target logger.
+     *
+     * <p>If the event has no arguments, the format is passed as is.
+     */
+    void dispatch() {
+        String message;
+        @Nullable Throwable t;
+        if (args == null) {
+            message = format;
+            t = throwable;
+        } else {
+            FormattingTuple tuple = throwable == null
+                                    ? MessageFormatter.arrayFormat(format, args)
+                                    : MessageFormatter.arrayFormat(format, args, throwable);
+            message = tuple.getMessage();
+            t = tuple.getThrowable();
+        }
+        @Nullable Map<String, String> dispatcherContext = MDC.getCopyOfContextMap();
+        setContext(context);
+        try {
+            log(message, t);
+        } finally {
+            setContext(dispatcherContext);
+        }
+    }
+
+    private void log(String message, @Nullable Throwable t) {
+        switch (level) {
+            case TRACE:
+                target.trace(marker, message, t);
+                break;
+            case DEBUG:
+                target.debug(marker, message, t);
+                break;
+            case INFO:
+                target.info(marker, message, t);
+                break;
+            case WARN:
+                target.warn(marker, message, t);
+                break;
+            case ERROR:
+            default:
+                target.error(marker, message, t);
+        }
+    }
+
+    private static void setContext(@Nullable Map<String, String> context) {
+        if (context == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(context);
+        }
+    }
+}
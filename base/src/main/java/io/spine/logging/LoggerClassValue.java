@@ -101,9 +101,12 @@ class LoggerClassValue extends ClassValue<Logger> {
 
     /**
      * Obtains a logger implementation for the class.
+     *
+     * <p>If the {@linkplain AsyncLogging asynchronous mode} is enabled, the logger passes
+     * the calls to the SLF4J logger in a background thread.
      */
     private Logger computeLogger(Class<?> cls) {
-        Logger logger = LoggerFactory.getLogger(cls);
+        Logger logger = AsyncLogging.wrap(LoggerFactory.getLogger(cls));
         Logger result = substituteIfAvailable(logger, cls);
         return result;
     }
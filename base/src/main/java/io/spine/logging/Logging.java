@@ -29,6 +29,7 @@ import org.slf4j.event.SubstituteLoggingEvent;
 import org.slf4j.helpers.SubstituteLogger;
 
 import java.util.Queue;
+import java.util.function.Supplier;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static io.spine.logging.LogMessages.logThrowable;
@@ -50,7 +51,14 @@ import static java.lang.String.format;
  * <p>The interface does not provide shortcut methods for more than three arguments
  * because of the {@linkplain Logger#debug(String, Object...) associated performance cost}.
  * If you do need more than three arguments, please use a {@code Logger}
- * instance obtained via {@link #log()}.
+ * instance obtained via {@link #log()}. The methods with three arguments check the logging
+ * level before passing the arguments to the logger, so that no argument array is created
+ * for a disabled level.
+ *
+ * <p>If a message is expensive to build, pass a {@code Supplier} of the message. The supplier
+ * is called only if the logging level is enabled.
+ *
+ * <p>The logging may be performed in a background thread. See {@link AsyncLogging}.
  *
  * @apiNote The underscore-based convention is selected for making logging calls more visible and
  *          distinguishable from the real code.
@@ -140,7 +148,24 @@ public interface Logging {
      * <blockquote>{@code log().trace(format, arg1, arg2, arg3, ...); }</blockquote>
      */
     default void _trace(String format, Object arg1, Object arg2, Object arg3) {
-        log().trace(format, arg1, arg2, arg3);
+        Logger log = log();
+        if (log.isTraceEnabled()) {
+            log.trace(format, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * Logs a message obtained from the passed supplier at the
+     * {@linkplain Logger#trace(String) TRACE} level.
+     *
+     * <p>The supplier is not called if the level is disabled.
+     */
+    default void _trace(Supplier<String> message) {
+        checkNotNull(message);
+        Logger log = log();
+        if (log.isTraceEnabled()) {
+            log.trace(message.get());
+        }
     }
 
     /*
@@ -176,7 +201,24 @@ public interface Logging {
      * <blockquote>{@code log().debug(format, arg1, arg2, arg3, ...); }</blockquote>
      */
     default void _debug(String format, Object arg1, Object arg2, Object arg3) {
-        log().debug(format, arg1, arg2, arg3);
+        Logger log = log();
+        if (log.isDebugEnabled()) {
+            log.debug(format, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * Logs a message obtained from the passed supplier at the
+     * {@linkplain Logger#debug(String) DEBUG} level.
+     *
+     * <p>The supplier is not called if the level is disabled.
+     */
+    default void _debug(Supplier<String> message) {
+        checkNotNull(message);
+        Logger log = log();
+        if (log.isDebugEnabled()) {
+            log.debug(message.get());
+        }
     }
 
     /*
@@ -212,7 +254,24 @@ public interface Logging {
      * <blockquote>{@code log().info(format, arg1, arg2, arg3, ...); }</blockquote>
      */
     default void _info(String format, Object arg1, Object arg2, Object arg3) {
-        log().info(format, arg1, arg2, arg3);
+        Logger log = log();
+        if (log.isInfoEnabled()) {
+            log.info(format, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * Logs a message obtained from the passed supplier at the
+     * {@linkplain Logger#info(String) INFO} level.
+     *
+     * <p>The supplier is not called if the level is disabled.
+     */
+    default void _info(Supplier<String> message) {
+        checkNotNull(message);
+        Logger log = log();
+        if (log.isInfoEnabled()) {
+            log.info(message.get());
+        }
     }
 
     /*
@@ -248,7 +307,24 @@ public interface Logging {
      * <blockquote>{@code log().warn(format, arg1, arg2, arg3, ...); }</blockquote>
      */
     default void _warn(String format, Object arg1, Object arg2, Object arg3) {
-        log().warn(format, arg1, arg2, arg3);
+        Logger log = log();
+        if (log.isWarnEnabled()) {
+            log.warn(format, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * Logs a message obtained from the passed supplier at the
+     * {@linkplain Logger#warn(String) WARN} level.
+     *
+     * <p>The supplier is not called if the level is disabled.
+     */
+    default void _warn(Supplier<String> message) {
+        checkNotNull(message);
+        Logger log = log();
+        if (log.isWarnEnabled()) {
+            log.warn(message.get());
+        }
     }
 
     /**
@@ -323,7 +399,24 @@ public interface Logging {
      * <blockquote>{@code log().error(format, arg1, arg2, arg3, ...); }</blockquote>
      */
     default void _error(String format, Object arg1, Object arg2, Object arg3) {
-        log().error(format, arg1, arg2, arg3);
+        Logger log = log();
+        if (log.isErrorEnabled()) {
+            log.error(format, arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * Logs a message obtained from the passed supplier at the
+     * {@linkplain Logger#error(String) ERROR} level.
+     *
+     * <p>The supplier is not called if the level is disabled.
+     */
+    default void _error(Supplier<String> message) {
+        checkNotNull(message);
+        Logger log = log();
+        if (log.isErrorEnabled()) {
+            log.error(message.get());
+        }
     }
 
     /**
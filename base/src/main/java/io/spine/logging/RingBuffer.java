@@ -0,0 +1,144 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.math.IntMath.ceilingPowerOfTwo;
+
+/**
+ * A bounded lock-free queue for many producers and a single consumer.
+ *
+ * <p>Each slot of the buffer has a sequence number which tells whether the slot is free for
+ * the producer or holds an element for the consumer. The producers claim slots by advancing
+ * the tail with a CAS, so no producer ever blocks another one.
+ *
+ * <p>Only one thread at a time may {@linkplain #drainTo(Consumer, int) drain} the buffer.
+ *
+ * @param <E>
+ *         the type of the elements
+ */
+final class RingBuffer<E> {
+
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+
+    /** The position of the next slot to be claimed by a producer. */
+    private final AtomicLong tail = new AtomicLong();
+
+    /** The position of the next slot to be read by the consumer. */
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * Creates a new buffer.
+     *
+     * @param capacity
+     *         the minimal capacity of the buffer; rounded up to the power of two
+     */
+    RingBuffer(int capacity) {
+        checkArgument(capacity > 0, "The capacity must be positive. Got: %s.", capacity);
+        int size = ceilingPowerOfTwo(capacity);
+        this.mask = size - 1;
+        this.elements = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Adds the element to the buffer.
+     *
+     * @return {@code true} if the element is added, {@code false} if the buffer is full
+     */
+    boolean offer(E element) {
+        checkNotNull(element);
+        long position = tail.get();
+        while (true) {
+            int index = index(position);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements.set(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Removes up to {@code limit} elements from the buffer and passes them to the consumer.
+     *
+     * <p>Must not be called concurrently.
+     *
+     * @return the number of the drained elements
+     */
+    int drainTo(Consumer<? super E> consumer, int limit) {
+        int drained = 0;
+        long position = head.get();
+        while (drained < limit) {
+            int index = index(position);
+            if (sequences.get(index) != position + 1) {
+                break;
+            }
+            E element = elements.get(index);
+            elements.set(index, null);
+            sequences.set(index, position + mask + 1);
+            position++;
+            head.set(position);
+            drained++;
+            consumer.accept(element);
+        }
+        return drained;
+    }
+
+    /**
+     * Tells if there are no elements in the buffer.
+     *
+     * <p>The result is approximate when the buffer is accessed concurrently.
+     */
+    boolean isEmpty() {
+        return head.get() >= tail.get();
+    }
+
+    /**
+     * Obtains the maximum number of elements the buffer can hold.
+     */
+    int capacity() {
+        return mask + 1;
+    }
+
+    private int index(long position) {
+        return (int) position & mask;
+    }
+}
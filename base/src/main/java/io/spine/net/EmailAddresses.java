@@ -22,10 +22,8 @@ package io.spine.net;
 
 import io.spine.net.string.NetStringifiers;
 
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static io.spine.net.Patterns.EMAIL_ADDRESS;
 
@@ -49,8 +47,8 @@ public final class EmailAddresses {
      * Verifies if the passed sequence is a valid email address.
      */
     public static boolean isValid(String value) {
-        Matcher matcher = pattern().matcher(value);
-        boolean result = matcher.matches();
+        checkNotNull(value);
+        boolean result = NameValidator.isEmailAddress(value);
         return result;
     }
 
@@ -73,7 +71,6 @@ public final class EmailAddresses {
      */
     public static EmailAddress valueOf(String value) {
         checkNotNull(value);
-        checkArgument(isValid(value));
         EmailAddress result = NetStringifiers.forEmailAddress()
                                              .reverse()
                                              .convert(value);
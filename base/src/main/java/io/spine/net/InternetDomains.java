@@ -22,10 +22,8 @@ package io.spine.net;
 
 import io.spine.net.string.NetStringifiers;
 
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static io.spine.net.Patterns.HOST_NAME_PATTERN;
 
@@ -51,8 +49,8 @@ public final class InternetDomains {
      * Verifies if the passed sequence is a valid internet domain name.
      */
     public static boolean isValid(String name) {
-        Matcher matcher = pattern().matcher(name);
-        boolean result = matcher.matches();
+        checkNotNull(name);
+        boolean result = NameValidator.isHostName(name);
         return result;
     }
 
@@ -75,7 +73,6 @@ public final class InternetDomains {
      */
     public static InternetDomain valueOf(String name) {
         checkNotNull(name);
-        checkArgument(isValid(name));
         InternetDomain result = NetStringifiers.forInternetDomain()
                                                .reverse()
                                                .convert(name);
@@ -0,0 +1,260 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+/**
+ * Validates email addresses and Internet host names without regular expressions.
+ *
+ * <p>The validator accepts exactly the same strings as the {@link Patterns#EMAIL_ADDRESS} and
+ * {@link Patterns#HOST_NAME_PATTERN} patterns, but works in linear time of the input length
+ * and does not allocate.
+ */
+final class NameValidator {
+
+    private static final char AT = '@';
+    private static final char DOT = '.';
+    private static final char HYPHEN = '-';
+
+    /** The maximum length of the local part of an email address. */
+    private static final int EMAIL_LOCAL_PART_MAX_LENGTH = 256;
+
+    /** The maximum length of the first label of the domain of an email address. */
+    private static final int EMAIL_FIRST_LABEL_MAX_LENGTH = 65;
+
+    /** The maximum length of the subsequent labels of the domain of an email address. */
+    private static final int EMAIL_LABEL_MAX_LENGTH = 26;
+
+    /** The maximum length of a host name label in code points. */
+    private static final int LABEL_MAX_LENGTH = 63;
+
+    private static final String PUNYCODE_PREFIX = "xn--";
+
+    /** The maximum length of a Punycode top-level domain after the prefix. */
+    private static final int PUNYCODE_MAX_LENGTH = 59;
+
+    private static final int TLD_MIN_LENGTH = 2;
+    private static final int TLD_MAX_LENGTH = 63;
+
+    private static final int PLANE_SIZE = 0x10000;
+    private static final int LAST_VALID_IN_PLANE = 0xFFFD;
+    private static final int LAST_FULL_PLANE = 13;
+    private static final int LAST_PLANE = 14;
+    private static final int FIRST_VALID_IN_LAST_PLANE = 0x1000;
+
+    /** Prevents instantiation of this utility class. */
+    private NameValidator() {
+    }
+
+    /**
+     * Checks if the given value is a valid email address.
+     *
+     * @see Patterns#EMAIL_ADDRESS
+     */
+    static boolean isEmailAddress(String value) {
+        int at = value.indexOf(AT);
+        if (at < 1 || at > EMAIL_LOCAL_PART_MAX_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < at; i++) {
+            if (!isEmailLocalChar(value.charAt(i))) {
+                return false;
+            }
+        }
+        int length = value.length();
+        int start = at + 1;
+        int labelCount = 0;
+        while (true) {
+            int dot = value.indexOf(DOT, start);
+            int end = dot == -1 ? length : dot;
+            int maxLength = labelCount == 0
+                            ? EMAIL_FIRST_LABEL_MAX_LENGTH
+                            : EMAIL_LABEL_MAX_LENGTH;
+            if (!isEmailDomainLabel(value, start, end, maxLength)) {
+                return false;
+            }
+            labelCount++;
+            if (dot == -1) {
+                return labelCount > 1;
+            }
+            start = dot + 1;
+        }
+    }
+
+    private static boolean isEmailLocalChar(char c) {
+        return isAsciiLetterOrDigit(c)
+                || c == '+'
+                || c == '.'
+                || c == '_'
+                || c == '%'
+                || c == HYPHEN;
+    }
+
+    private static boolean isEmailDomainLabel(String value, int start, int end, int maxLength) {
+        int length = end - start;
+        if (length < 1 || length > maxLength) {
+            return false;
+        }
+        if (!isAsciiLetterOrDigit(value.charAt(start))) {
+            return false;
+        }
+        for (int i = start + 1; i < end; i++) {
+            char c = value.charAt(i);
+            if (!isAsciiLetterOrDigit(c) && c != HYPHEN) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if the given value is a valid Internet host name.
+     *
+     * <p>IP addresses are not accepted.
+     *
+     * @see Patterns#HOST_NAME_PATTERN
+     */
+    static boolean isHostName(String value) {
+        int lastDot = value.lastIndexOf(DOT);
+        if (lastDot == -1) {
+            return false;
+        }
+        int start = 0;
+        while (start <= lastDot) {
+            int dot = value.indexOf(DOT, start);
+            if (!isLabel(value, start, dot)) {
+                return false;
+            }
+            start = dot + 1;
+        }
+        return isTopLevelDomain(value, lastDot + 1, value.length());
+    }
+
+    private static boolean isLabel(String value, int start, int end) {
+        if (start == end) {
+            return false;
+        }
+        int count = 0;
+        int lastCodePoint = 0;
+        for (int i = start; i < end; i += Character.charCount(lastCodePoint)) {
+            lastCodePoint = value.codePointAt(i);
+            boolean first = count == 0;
+            if (!isLabelChar(lastCodePoint) && (first || lastCodePoint != HYPHEN)) {
+                return false;
+            }
+            count++;
+            if (count > LABEL_MAX_LENGTH) {
+                return false;
+            }
+        }
+        return lastCodePoint != HYPHEN;
+    }
+
+    private static boolean isTopLevelDomain(String value, int start, int end) {
+        return isPunycodeTopLevelDomain(value, start, end)
+                || isLetterTopLevelDomain(value, start, end);
+    }
+
+    private static boolean isPunycodeTopLevelDomain(String value, int start, int end) {
+        if (!value.startsWith(PUNYCODE_PREFIX, start)) {
+            return false;
+        }
+        int suffixStart = start + PUNYCODE_PREFIX.length();
+        int length = end - suffixStart;
+        if (length < 1 || length > PUNYCODE_MAX_LENGTH) {
+            return false;
+        }
+        for (int i = suffixStart; i < end; i++) {
+            char c = value.charAt(i);
+            if (!isWordChar(c) && c != HYPHEN) {
+                return false;
+            }
+        }
+        return isWordChar(value.charAt(end - 1));
+    }
+
+    private static boolean isLetterTopLevelDomain(String value, int start, int end) {
+        int count = 0;
+        for (int i = start; i < end; ) {
+            int codePoint = value.codePointAt(i);
+            if (!isTopLevelDomainChar(codePoint)) {
+                return false;
+            }
+            count++;
+            if (count > TLD_MAX_LENGTH) {
+                return false;
+            }
+            i += Character.charCount(codePoint);
+        }
+        return count >= TLD_MIN_LENGTH;
+    }
+
+    private static boolean isLabelChar(int codePoint) {
+        return isAsciiLetterOrDigit(codePoint) || isUcsChar(codePoint);
+    }
+
+    private static boolean isTopLevelDomainChar(int codePoint) {
+        return isAsciiLetter(codePoint) || isUcsChar(codePoint);
+    }
+
+    /**
+     * Checks if the code point belongs to the valid UCS characters defined in RFC 3987,
+     * excluding space characters.
+     */
+    private static boolean isUcsChar(int codePoint) {
+        if (isSpace(codePoint)) {
+            return false;
+        }
+        if (codePoint < PLANE_SIZE) {
+            return (codePoint >= 0x00A0 && codePoint <= 0xD7FF)
+                    || (codePoint >= 0xF900 && codePoint <= 0xFDCF)
+                    || (codePoint >= 0xFDF0 && codePoint <= 0xFFEF);
+        }
+        int plane = codePoint / PLANE_SIZE;
+        int positionInPlane = codePoint % PLANE_SIZE;
+        if (plane <= LAST_FULL_PLANE) {
+            return positionInPlane <= LAST_VALID_IN_PLANE;
+        }
+        return plane == LAST_PLANE
+                && positionInPlane >= FIRST_VALID_IN_LAST_PLANE
+                && positionInPlane <= LAST_VALID_IN_PLANE;
+    }
+
+    private static boolean isSpace(int codePoint) {
+        return codePoint == 0x00A0
+                || (codePoint >= 0x2000 && codePoint <= 0x200A)
+                || codePoint == 0x2028
+                || codePoint == 0x2029
+                || codePoint == 0x202F
+                || codePoint == 0x3000;
+    }
+
+    private static boolean isWordChar(int c) {
+        return isAsciiLetterOrDigit(c) || c == '_';
+    }
+
+    private static boolean isAsciiLetterOrDigit(int c) {
+        return isAsciiLetter(c) || (c >= '0' && c <= '9');
+    }
+
+    private static boolean isAsciiLetter(int c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+}
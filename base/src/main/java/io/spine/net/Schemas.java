@@ -23,9 +23,11 @@ package io.spine.net;
 import com.google.common.collect.ImmutableMap;
 import io.spine.net.Uri.Schema;
 
+import java.util.EnumMap;
 import java.util.Map;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
 
 /**
  * Utility class for working with {@link Schema}.
@@ -33,6 +35,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
 final class Schemas {
 
     private static final Map<String, Schema> stringSchemas = buildSchemasMap();
+    private static final Map<Schema, String> schemaNames = buildNamesMap();
 
     /** Prevents instantiation of this utility class. */
     private Schemas() {
@@ -53,6 +56,19 @@ final class Schemas {
         return stringSchemas.get(lowercaseValue);
     }
 
+    /**
+     * Obtains the lower case name of the schema, as it appears in a URL.
+     *
+     * @param schema the schema to obtain the name of
+     * @return the name of the schema
+     */
+    static String nameOf(Schema schema) {
+        checkNotNull(schema);
+        String name = schemaNames.get(schema);
+        checkState(name != null, "No name is known for the schema `%s`.", schema);
+        return name;
+    }
+
     private static Map<String, Schema> buildSchemasMap() {
         ImmutableMap.Builder<String, Schema> schemas = ImmutableMap.builder();
 
@@ -63,4 +79,13 @@ final class Schemas {
 
         return schemas.build();
     }
+
+    private static Map<Schema, String> buildNamesMap() {
+        Map<Schema, String> names = new EnumMap<>(Schema.class);
+        for (Schema schema : Schema.values()) {
+            names.put(schema, schema.name()
+                                    .toLowerCase());
+        }
+        return names;
+    }
 }
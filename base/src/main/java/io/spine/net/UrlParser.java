@@ -20,13 +20,18 @@
 
 package io.spine.net;
 
-import com.google.common.base.Splitter;
 import io.spine.net.Uri.Protocol;
 import io.spine.net.Uri.QueryParameter;
 import io.spine.net.Uri.Schema;
 
+import static io.spine.util.Exceptions.newIllegalArgumentException;
+
 /**
  * Parses given URL to {@link Uri} instance.
+ *
+ * <p>The URL is tokenized in a single pass, which records the offsets of the URL components
+ * in the original string. The components are materialized only when they are requested, either
+ * through the component accessors or by {@link #parse()}.
  */
 @SuppressWarnings("CheckReturnValue") // of calls to methods of fields that are builders
 final class UrlParser {
@@ -41,12 +46,34 @@ final class UrlParser {
     static final char FRAGMENT_START = '#';
     static final char QUERIES_START = '?';
     static final char QUERY_SEPARATOR = '&';
-    private static final Splitter querySplitter = Splitter.on(QUERY_SEPARATOR);
+    private static final char QUERY_KEY_VALUE_SEPARATOR = '=';
+
+    /** The offset value denoting a missing URL component. */
+    private static final int ABSENT = -1;
 
     private final String originalUrl;
 
-    private Uri.Builder record;
-    private String unProcessedInput;
+    /** The index of the protocol ending, or {@link #ABSENT}. */
+    private int protocolEnd = ABSENT;
+
+    /** The index of the credentials ending, or {@link #ABSENT}. */
+    private int credentialsEnd = ABSENT;
+    private int credentialsStart;
+    private int passwordSeparator = ABSENT;
+
+    private int hostStart;
+    private int hostEnd;
+    private int portSeparator = ABSENT;
+
+    private int pathStart;
+    private int pathEnd;
+
+    /** The index of the queries start, or {@link #ABSENT}. */
+    private int queriesStart = ABSENT;
+    private int queriesEnd;
+
+    /** The index of the fragment start, or {@link #ABSENT}. */
+    private int fragmentStart = ABSENT;
 
     /**
      * Creates an new instance of {@code UrlParser} with given String URL to parse.
@@ -55,151 +82,215 @@ final class UrlParser {
      */
     UrlParser(String url) {
         this.originalUrl = url;
+        tokenize();
     }
 
     /**
-     * Performs the parsing.
+     * Records the offsets of the URL components.
+     *
+     * <p>The components are looked up in the following order: protocol, credentials, fragment,
+     * queries, host and port, and path. Each component is looked up in the part of the URL
+     * which remains after cutting off the components found before.
      */
-    Uri parse() {
-        init();
+    private void tokenize() {
+        String url = originalUrl;
+        int start = 0;
+        int end = url.length();
+
+        int protocolEnding = url.indexOf(PROTOCOL_ENDING);
+        if (protocolEnding != ABSENT) {
+            protocolEnd = protocolEnding;
+            start = protocolEnding + PROTOCOL_ENDING.length();
+        }
+
+        int credentialsEnding = url.indexOf(CREDENTIALS_ENDING, start);
+        if (credentialsEnding != ABSENT) {
+            credentialsStart = start;
+            credentialsEnd = credentialsEnding;
+            passwordSeparator = indexOf(CREDENTIALS_SEPARATOR, start, credentialsEnding);
+            start = credentialsEnding + 1;
+        }
 
-        parseProtocol();
-        parseCredentials();
-        parseFragment();
-        parseQueries();
-        parseHost();
-        parsePath();
+        int fragment = url.lastIndexOf(FRAGMENT_START);
+        if (fragment >= start) {
+            fragmentStart = fragment + 1;
+            end = fragment;
+        }
 
+        int queries = indexOf(QUERIES_START, start, end);
+        if (queries != ABSENT) {
+            queriesStart = queries + 1;
+            queriesEnd = end;
+            end = queries;
+        }
 
-        return record.build();
+        int hostEnding = indexOf(HOST_ENDING, start, end);
+        hostStart = start;
+        if (hostEnding == ABSENT) {
+            hostEnd = end;
+            start = end;
+        } else {
+            hostEnd = hostEnding;
+            start = hostEnding + 1;
+        }
+        portSeparator = indexOf(HOST_PORT_SEPARATOR, hostStart, hostEnd);
+
+        pathStart = start;
+        pathEnd = end;
     }
 
-    /** Initializes the parser. */
-    private void init() {
-        record = Uri.newBuilder();
-        unProcessedInput = originalUrl;
+    /**
+     * Obtains the index of the given character within the given range of the URL.
+     *
+     * @return the index of the character or {@link #ABSENT} if the range does not contain it
+     */
+    private int indexOf(char character, int from, int to) {
+        int index = originalUrl.indexOf(character, from);
+        return index < to ? index : ABSENT;
+    }
+
+    private String part(int from, int to) {
+        return originalUrl.substring(from, to);
     }
 
     /**
-     * Parses protocol from remembered URL String and saves it to the state.
+     * Performs the parsing.
+     */
+    Uri parse() {
+        Uri.Builder record = Uri.newBuilder();
+        record.setProtocol(protocol());
+        if (credentialsEnd != ABSENT) {
+            Uri.Authorization.Builder auth = Uri.Authorization.newBuilder()
+                                                              .setUserName(userName());
+            if (passwordSeparator != ABSENT) {
+                auth.setPassword(password());
+            }
+            record.setAuth(auth);
+        }
+        record.setHost(host());
+        if (portSeparator != ABSENT) {
+            record.setPort(port());
+        }
+        if (queriesStart != ABSENT) {
+            addQueries(record);
+        }
+        if (pathStart < pathEnd) {
+            record.setPath(path());
+        }
+        if (fragmentStart != ABSENT) {
+            record.setFragment(fragment());
+        }
+        return record.build();
+    }
+
+    /**
+     * Obtains the protocol of the URL.
      *
      * <ul>
-     *     <li>If no suitable protocol found, saves UNDEFINED value.
-     *     <li>If some value is found but the schema is unknown, saves raw value.
+     *     <li>If no protocol is found, returns the {@code UNDEFINED} schema.
+     *     <li>If some value is found but the schema is unknown, returns the raw value.
      * </ul>
      */
-    private void parseProtocol() {
-        Protocol.Builder protocolBuilder = Protocol.newBuilder();
-        int protocolEndingIndex = unProcessedInput.indexOf(PROTOCOL_ENDING);
-        if (protocolEndingIndex == -1) {
-            protocolBuilder.setSchema(Schema.UNDEFINED);
-            record.setProtocol(protocolBuilder);
-            return;
+    Protocol protocol() {
+        Protocol.Builder protocol = Protocol.newBuilder();
+        if (protocolEnd == ABSENT) {
+            return protocol.setSchema(Schema.UNDEFINED)
+                           .build();
         }
-        String protocol = unProcessedInput.substring(0, protocolEndingIndex);
-        unProcessedInput = unProcessedInput.substring(protocolEndingIndex +
-                                                      PROTOCOL_ENDING.length());
-
-        Schema schema = Schemas.parse(protocol);
-
+        String name = part(0, protocolEnd);
+        Schema schema = Schemas.parse(name);
         if (schema == Schema.UNDEFINED) {
-            protocolBuilder.setName(protocol);
+            protocol.setName(name);
         } else {
-            protocolBuilder.setSchema(schema);
+            protocol.setSchema(schema);
         }
-
-        record.setProtocol(protocolBuilder.build());
+        return protocol.build();
     }
 
-    /** Parses credentials from remembered URL String and saves them to the state. */
-    private void parseCredentials() {
-        int credentialsEndingIndex = unProcessedInput.indexOf(CREDENTIALS_ENDING);
-        if (credentialsEndingIndex == -1) {
-            return;
+    /**
+     * Obtains the user name, or an empty string if the URL has no credentials.
+     */
+    String userName() {
+        if (credentialsEnd == ABSENT) {
+            return "";
         }
+        int userNameEnd = passwordSeparator == ABSENT ? credentialsEnd : passwordSeparator;
+        return part(credentialsStart, userNameEnd);
+    }
 
-        String credential = unProcessedInput.substring(0, credentialsEndingIndex);
-        unProcessedInput = unProcessedInput.substring(credentialsEndingIndex + 1);
-
-        Uri.Authorization.Builder auth = Uri.Authorization.newBuilder();
-
-        int credentialsSeparatorIndex = credential.indexOf(CREDENTIALS_SEPARATOR);
-        if (credentialsSeparatorIndex != -1) {
-            String userName = credential.substring(0, credentialsSeparatorIndex);
-            String password = credential.substring(credentialsSeparatorIndex + 1);
-            auth.setPassword(password);
-            auth.setUserName(userName);
-        } else {
-            auth.setUserName(credential);
+    /**
+     * Obtains the password, or an empty string if the URL has no password.
+     */
+    String password() {
+        if (passwordSeparator == ABSENT) {
+            return "";
         }
-
-        record.setAuth(auth.build());
+        return part(passwordSeparator + 1, credentialsEnd);
     }
 
-    /** Parses host and port and saves them to the state. */
-    private void parseHost() {
-        int hostEndingIndex = unProcessedInput.indexOf(HOST_ENDING);
-        String host;
+    /**
+     * Obtains the host name.
+     */
+    String host() {
+        int end = portSeparator == ABSENT ? hostEnd : portSeparator;
+        return part(hostStart, end);
+    }
 
-        if (hostEndingIndex == -1) {
-            host = unProcessedInput;
-            unProcessedInput = "";
-        } else {
-            host = unProcessedInput.substring(0, hostEndingIndex);
-            unProcessedInput = unProcessedInput.substring(hostEndingIndex + 1);
+    /**
+     * Obtains the port, or an empty string if the URL has no port.
+     */
+    String port() {
+        if (portSeparator == ABSENT) {
+            return "";
         }
+        return part(portSeparator + 1, hostEnd);
+    }
 
-        int portIndex = host.indexOf(HOST_PORT_SEPARATOR);
-        if (portIndex != -1) {
-            String port = host.substring(portIndex + 1);
-            record.setPort(port);
-            String hostAddress = host.substring(0, portIndex);
-            record.setHost(hostAddress);
-        } else {
-            record.setHost(host);
-        }
+    /**
+     * Obtains the resource path, or an empty string if the URL has no path.
+     */
+    String path() {
+        return part(pathStart, pathEnd);
     }
 
-    /** Parses fragment and saves it to the state. */
-    private void parseFragment() {
-        int fragmentIndex = unProcessedInput.lastIndexOf(FRAGMENT_START);
-        if (fragmentIndex == -1) {
-            return;
+    /**
+     * Obtains the fragment, or an empty string if the URL has no fragment.
+     */
+    String fragment() {
+        if (fragmentStart == ABSENT) {
+            return "";
         }
-
-        String fragment = unProcessedInput.substring(fragmentIndex + 1);
-        unProcessedInput = unProcessedInput.substring(0, fragmentIndex);
-
-        record.setFragment(fragment);
+        return part(fragmentStart, originalUrl.length());
     }
 
     /**
-     * Parses query parameters and saves them to the state.
+     * Parses query parameters and adds them to the given builder.
      *
      * @throws IllegalArgumentException in case of bad-formed parameter
      */
-    private void parseQueries() {
-        int queriesStartIndex = unProcessedInput.indexOf(QUERIES_START);
-        if (queriesStartIndex == -1) {
-            return;
-        }
-
-        String queriesString = unProcessedInput.substring(queriesStartIndex + 1);
-        unProcessedInput = unProcessedInput.substring(0, queriesStartIndex);
-
-        Iterable<String> queries = querySplitter.split(queriesString);
-        for (String query : queries) {
-            QueryParameter param = UrlQueryParameters.parse(query);
-            record.addQuery(param);
+    private void addQueries(Uri.Builder record) {
+        int start = queriesStart;
+        while (true) {
+            int separator = indexOf(QUERY_SEPARATOR, start, queriesEnd);
+            int end = separator == ABSENT ? queriesEnd : separator;
+            record.addQuery(query(start, end));
+            if (separator == ABSENT) {
+                return;
+            }
+            start = separator + 1;
         }
     }
 
-    /** Parses the URL resource path from the remaining part of URL. */
-    private void parsePath() {
-        if (unProcessedInput.isEmpty()) {
-            return;
+    private QueryParameter query(int start, int end) {
+        int keyValueSeparator = indexOf(QUERY_KEY_VALUE_SEPARATOR, start, end);
+        if (keyValueSeparator == ABSENT) {
+            throw newIllegalArgumentException("Query Parameter is invalid: %s", part(start, end));
         }
-        record.setPath(unProcessedInput);
-        unProcessedInput = "";
+        QueryParameter result = QueryParameter
+                .newBuilder()
+                .setKey(part(start, keyValueSeparator))
+                .setValue(part(keyValueSeparator + 1, end))
+                .build();
+        return result;
     }
 }
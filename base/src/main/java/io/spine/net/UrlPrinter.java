@@ -36,9 +36,23 @@ final class UrlPrinter {
      * Converts {@link Uri} to String.
      */
     static String printToString(Uri url) {
-        // We don't know the capacity at this point
-        @SuppressWarnings("StringBufferWithoutInitialCapacity") StringBuilder sb = new StringBuilder();
+        StringBuilder sb = new StringBuilder(estimateLength(url));
+        printTo(url, sb);
+        return sb.toString();
+    }
 
+    /**
+     * Appends the string representation of the given {@link Uri} to the given buffer.
+     *
+     * <p>The components of the URL are appended one by one, without building intermediate
+     * strings. Use this method for printing several URLs into the same buffer.
+     *
+     * @param url
+     *         the URL to print
+     * @param sb
+     *         the buffer to append the URL to
+     */
+    static void printTo(Uri url, StringBuilder sb) {
         appendProtocol(url, sb);
         appendAuth(url, sb);
         appendHost(url, sb);
@@ -46,8 +60,22 @@ final class UrlPrinter {
         appendPath(url, sb);
         appendQueries(url, sb);
         appendFragment(url, sb);
+    }
 
-        return sb.toString();
+    /**
+     * Estimates the length of the string representation of the given URL.
+     *
+     * <p>The estimation does not take into account the lengths of the protocol and
+     * the credentials, which are reserved for by a constant.
+     */
+    private static int estimateLength(Uri url) {
+        int reserved = 32;
+        int result = reserved
+                + url.getHost().length()
+                + url.getPath().length()
+                + url.getFragment().length()
+                + url.getQueryCount() * reserved;
+        return result;
     }
 
     private static void appendProtocol(Uri record, StringBuilder sb) {
@@ -62,9 +90,7 @@ final class UrlPrinter {
             return;
         }
 
-        sb.append(protocol.getSchema()
-                          .name()
-                          .toLowerCase())
+        sb.append(Schemas.nameOf(protocol.getSchema()))
           .append(UrlParser.PROTOCOL_ENDING);
     }
 
@@ -126,8 +152,7 @@ final class UrlPrinter {
 
         int queriesSize = queryList.size();
         for (int i = 0; i < queriesSize; i++) {
-            String stringQuery = UrlQueryParameters.toString(queryList.get(i));
-            sb.append(stringQuery);
+            UrlQueryParameters.appendTo(queryList.get(i), sb);
             if (i != queriesSize - 1) {
                 sb.append(UrlParser.QUERY_SEPARATOR);
             }
@@ -95,4 +95,17 @@ final class UrlQueryParameters {
         String result = param.getKey() + SEPARATOR + param.getValue();
         return result;
     }
+
+    /**
+     * Appends the {@code key=value} representation of {@link QueryParameter} to
+     * the given buffer.
+     *
+     * @param param {@link QueryParameter} instance
+     * @param sb    the buffer to append to
+     */
+    static void appendTo(QueryParameter param, StringBuilder sb) {
+        sb.append(param.getKey())
+          .append(SEPARATOR)
+          .append(param.getValue());
+    }
 }
@@ -65,4 +65,21 @@ public final class Urls {
                                        .convert(url);
         return result;
     }
+
+    /**
+     * Appends the string representation of the given URL record to the given buffer.
+     *
+     * <p>The components of the URL are appended one by one, without building intermediate
+     * strings. Use this method for printing several URLs into the same buffer.
+     *
+     * @param uri
+     *         the URL record to print
+     * @param target
+     *         the buffer to append the URL to
+     */
+    public static void appendTo(Uri uri, StringBuilder target) {
+        checkNotNull(uri);
+        checkNotNull(target);
+        UrlPrinter.printTo(uri, target);
+    }
 }
@@ -21,6 +21,9 @@
 package io.spine.net.string;
 
 import io.spine.net.EmailAddress;
+import io.spine.net.EmailAddresses;
+
+import static com.google.common.base.Preconditions.checkArgument;
 
 /**
  * The default stringifier for {@link EmailAddress}.
@@ -33,9 +36,21 @@ final class EmailAddressStringifier extends NetStringifier<EmailAddress> {
     private EmailAddressStringifier() {
         super("NetStringifiers.forEmailAddress()",
               EmailAddress::getValue,
-              (s) -> EmailAddress.newBuilder()
-                                 .setValue(s)
-                                 .build());
+              EmailAddressStringifier::parse);
+    }
+
+    /**
+     * Creates a new {@code EmailAddress} from the passed string.
+     *
+     * @throws IllegalArgumentException if the string is not a valid email address
+     */
+    private static EmailAddress parse(String value) {
+        checkArgument(EmailAddresses.isValid(value), "`%s` is not a valid email address.", value);
+        EmailAddress result = EmailAddress
+                .newBuilder()
+                .setValue(value)
+                .build();
+        return result;
     }
 
     static EmailAddressStringifier getInstance() {
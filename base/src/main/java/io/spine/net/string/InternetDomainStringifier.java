@@ -21,6 +21,9 @@
 package io.spine.net.string;
 
 import io.spine.net.InternetDomain;
+import io.spine.net.InternetDomains;
+
+import static com.google.common.base.Preconditions.checkArgument;
 
 /**
  * Default stringifier for {@code InternetDomain}.
@@ -33,9 +36,22 @@ final class InternetDomainStringifier extends NetStringifier<InternetDomain> {
     private InternetDomainStringifier() {
         super("NetStringifiers.forInternetDomain()",
               InternetDomain::getValue,
-              s -> InternetDomain.newBuilder()
-                                 .setValue(s)
-                                 .build());
+              InternetDomainStringifier::parse);
+    }
+
+    /**
+     * Creates a new {@code InternetDomain} from the passed string.
+     *
+     * @throws IllegalArgumentException if the string is not a valid Internet domain name
+     */
+    private static InternetDomain parse(String value) {
+        checkArgument(InternetDomains.isValid(value),
+                      "`%s` is not a valid Internet domain name.", value);
+        InternetDomain result = InternetDomain
+                .newBuilder()
+                .setValue(value)
+                .build();
+        return result;
     }
 
     static InternetDomainStringifier getInstance() {
@@ -20,21 +20,22 @@
 
 package io.spine.protobuf;
 
-import com.google.common.base.Objects;
-import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Descriptors.Descriptor;
 import com.google.protobuf.Descriptors.FieldDescriptor;
 import com.google.protobuf.Message;
 import io.spine.annotation.Internal;
+import io.spine.base.FieldPath;
 import io.spine.code.proto.FieldDeclaration;
 
-import java.util.Map;
-import java.util.Set;
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.List;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
-import static com.google.common.collect.ImmutableSet.toImmutableSet;
-import static com.google.common.collect.Sets.symmetricDifference;
-import static java.util.stream.Collectors.toSet;
+import static com.google.protobuf.Descriptors.FieldDescriptor.JavaType.MESSAGE;
 
 /**
  * Difference between two messages of the same type.
@@ -43,15 +44,23 @@ import static java.util.stream.Collectors.toSet;
  * in {@code A} and not in {@code B}, all the fields which are present in {@code B} and not in
  * {@code A}, and all the fields which are present in both messages but have different values.
  *
- * @see com.google.common.collect.Sets#symmetricDifference(Set, Set) Sets.symmetricDifference(..)
+ * <p>The messages are compared field by field in the order of the field declaration. The changed
+ * fields are recorded as a set of field numbers.
+ *
+ * <p>The diff may also be inspected {@linkplain #changedPaths() recursively}, in which case
+ * the changed fields of the nested messages are reported.
  */
 @Internal
 public final class Diff {
 
-    private final ImmutableSet<FieldDeclaration> fields;
+    private final Message a;
+    private final Message b;
+    private final BitSet changedFields;
 
-    private Diff(ImmutableSet<FieldDeclaration> fields) {
-        this.fields = fields;
+    private Diff(Message a, Message b, BitSet changedFields) {
+        this.a = a;
+        this.b = b;
+        this.changedFields = changedFields;
     }
 
     /**
@@ -71,23 +80,43 @@ public final class Diff {
         checkNotNull(a);
         checkNotNull(b);
         checkArgument(a.getClass().equals(b.getClass()));
-        ImmutableSet<FieldDeclaration> fields =
-                symmetricDifference(decompose(a), decompose(b))
-                        .stream()
-                        .map(tuple -> tuple.declaration)
-                        .collect(toImmutableSet());
-        return new Diff(fields);
+        BitSet changedFields = changedFields(a, b);
+        return new Diff(a, b, changedFields);
     }
 
-    private static Set<FieldTuple> decompose(Message message) {
-        Map<FieldDescriptor, Object> fieldMap = message.getAllFields();
-        return fieldMap
-                .entrySet()
-                .stream()
-                .map(entry -> new FieldTuple(
-                        new FieldDeclaration(entry.getKey()), entry.getValue()
-                ))
-                .collect(toSet());
+    /**
+     * Obtains the numbers of the fields of the given type which differ in the given messages.
+     */
+    static BitSet changedFields(Message a, Message b) {
+        BitSet result = new BitSet();
+        if (a == b) {
+            return result;
+        }
+        for (FieldDescriptor field : a.getDescriptorForType().getFields()) {
+            if (!sameValue(a, b, field)) {
+                result.set(field.getNumber());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks if the given field is equally present and has equal values in both messages.
+     */
+    static boolean sameValue(Message a, Message b, FieldDescriptor field) {
+        if (field.isRepeated()) {
+            int count = a.getRepeatedFieldCount(field);
+            if (count != b.getRepeatedFieldCount(field)) {
+                return false;
+            }
+            if (count == 0) {
+                return true;
+            }
+        } else if (a.hasField(field) != b.hasField(field)) {
+            return false;
+        }
+        return a.getField(field)
+                .equals(b.getField(field));
     }
 
     /**
@@ -99,38 +128,105 @@ public final class Diff {
      *         {@code false} otherwise
      */
     public boolean contains(FieldDeclaration field) {
-        return fields.contains(field);
+        checkNotNull(field);
+        return contains(field.descriptor());
     }
 
     /**
-     * A field declaration and a value of that field.
+     * Checks if the given field is present in the diff or not.
+     *
+     * @param field
+     *         the field to find
+     * @return {@code true} if the field has different values in the two given messages,
+     *         {@code false} otherwise
      */
-    private static final class FieldTuple {
+    public boolean contains(FieldDescriptor field) {
+        checkNotNull(field);
+        boolean sameType = field.getContainingType()
+                                .getFullName()
+                                .equals(type().getFullName());
+        return sameType && changedFields.get(field.getNumber());
+    }
 
-        private final FieldDeclaration declaration;
-        private final Object value;
+    /**
+     * Checks if the messages are equal.
+     */
+    public boolean isEmpty() {
+        return changedFields.isEmpty();
+    }
 
-        private FieldTuple(FieldDeclaration declaration, Object value) {
-            this.declaration = checkNotNull(declaration);
-            this.value = checkNotNull(value);
-        }
+    /**
+     * Obtains the numbers of the fields of the compared messages which have different values.
+     *
+     * @return a new {@code BitSet} with the numbers of the changed fields set
+     */
+    public BitSet changedFieldNumbers() {
+        return (BitSet) changedFields.clone();
+    }
 
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) {
-                return true;
+    /**
+     * Obtains the type of the compared messages.
+     */
+    public Descriptor type() {
+        return a.getDescriptorForType();
+    }
+
+    /**
+     * Obtains the paths to the changed fields, including the fields of the nested messages.
+     *
+     * <p>If a singular message field is present in both messages, the fields of the nested
+     * messages are compared and the paths to the changed nested fields are reported instead of
+     * the path to the message field. Otherwise, the path to the changed field itself is reported.
+     * The same applies to the nested messages which differ only in the unknown fields.
+     *
+     * <p>The paths are ordered by the field declaration order, depth-first.
+     */
+    public ImmutableList<FieldPath> changedPaths() {
+        ImmutableList.Builder<FieldPath> result = ImmutableList.builder();
+        Deque<String> prefix = new ArrayDeque<>();
+        collectPaths(a, b, changedFields, prefix, result);
+        return result.build();
+    }
+
+    private static void collectPaths(Message a,
+                                     Message b,
+                                     BitSet changedFields,
+                                     Deque<String> prefix,
+                                     ImmutableList.Builder<FieldPath> result) {
+        List<FieldDescriptor> fields = a.getDescriptorForType()
+                                        .getFields();
+        for (FieldDescriptor field : fields) {
+            if (!changedFields.get(field.getNumber())) {
+                continue;
             }
-            if (!(o instanceof FieldTuple)) {
-                return false;
+            prefix.addLast(field.getName());
+            if (isNestedChange(a, b, field)) {
+                Message nestedA = (Message) a.getField(field);
+                Message nestedB = (Message) b.getField(field);
+                BitSet nestedChanges = changedFields(nestedA, nestedB);
+                if (nestedChanges.isEmpty()) {
+                    // The nested messages differ only in the unknown fields.
+                    result.add(pathOf(prefix));
+                } else {
+                    collectPaths(nestedA, nestedB, nestedChanges, prefix, result);
+                }
+            } else {
+                result.add(pathOf(prefix));
             }
-            FieldTuple tuple = (FieldTuple) o;
-            return Objects.equal(declaration, tuple.declaration) &&
-                    Objects.equal(value, tuple.value);
+            prefix.removeLast();
         }
+    }
 
-        @Override
-        public int hashCode() {
-            return Objects.hashCode(declaration, value);
-        }
+    private static FieldPath pathOf(Deque<String> fieldNames) {
+        return FieldPath.newBuilder()
+                        .addAllFieldName(fieldNames)
+                        .build();
+    }
+
+    private static boolean isNestedChange(Message a, Message b, FieldDescriptor field) {
+        return field.getJavaType() == MESSAGE
+                && !field.isRepeated()
+                && a.hasField(field)
+                && b.hasField(field);
     }
 }
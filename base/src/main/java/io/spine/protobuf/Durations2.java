@@ -49,6 +49,8 @@ import static io.spine.util.Math2.safeMultiply;
  *     }
  * </pre>
  *
+ * <p>For computations over many durations, see {@link Nanos}.
+ *
  * @see com.google.protobuf.util.Durations Durations
  */
 @SuppressWarnings({"UtilityClass", "ClassWithTooManyMethods"})
@@ -189,7 +191,8 @@ public final class Durations2 {
      * {@code Duration} instance with hours and minutes.
      */
     public static Duration hoursAndMinutes(long hours, long minutes) {
-        Duration result = add(hours(hours), minutes(minutes));
+        long totalMinutes = Math.addExact(safeMultiply(hours, MINUTES_PER_HOUR), minutes);
+        Duration result = fromMinutes(totalMinutes);
         return result;
     }
 
@@ -0,0 +1,555 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.protobuf;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.FieldMask;
+import com.google.protobuf.Message;
+import io.spine.annotation.Internal;
+import io.spine.base.FieldPath;
+import io.spine.base.FieldPaths;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.protobuf.Descriptors.FieldDescriptor.JavaType.MESSAGE;
+import static io.spine.util.Exceptions.newIllegalArgumentException;
+
+/**
+ * A set of field-level changes which turns one message into another message of the same type.
+ *
+ * <p>The delta is calculated recursively on top of the {@link Diff} of the messages:
+ * <ul>
+ *     <li>if a singular message field is present in both messages, the changes of its
+ *         fields are included instead of the whole field value, unless the values differ
+ *         only in unknown fields;
+ *     <li>the elements of {@code repeated} fields are aligned by index; the changed elements
+ *         are replaced, and the list is then either truncated or appended to;
+ *     <li>the entries of {@code map} fields are aligned by key; the new and changed entries
+ *         are put, and the missing entries are removed;
+ *     <li>other changed fields are either set to the new value or cleared.
+ * </ul>
+ *
+ * <p>The delta may be {@linkplain #applyTo(Message.Builder) applied} to a builder of the
+ * previous message state to obtain the new state, or turned into a {@link FieldMask} of
+ * the changed fields.
+ */
+@Internal
+public final class MessageDelta {
+
+    private static final int MAP_KEY_FIELD_NUMBER = 1;
+    private static final int MAP_VALUE_FIELD_NUMBER = 2;
+
+    private final Descriptor type;
+    private final ImmutableList<FieldChange> changes;
+
+    private MessageDelta(Descriptor type, ImmutableList<FieldChange> changes) {
+        this.type = type;
+        this.changes = changes;
+    }
+
+    /**
+     * Calculates the changes which turn the {@code previous} message into the {@code current}.
+     *
+     * @param previous
+     *         the previous state of the message
+     * @param current
+     *         the current state of the message
+     * @param <M>
+     *         the type of the messages
+     * @return the delta between the messages
+     * @throws IllegalArgumentException
+     *         if the types of the messages are not the same
+     */
+    public static <M extends Message> MessageDelta between(M previous, M current) {
+        checkNotNull(previous);
+        checkNotNull(current);
+        checkArgument(previous.getClass().equals(current.getClass()));
+        ImmutableList.Builder<FieldChange> changes = ImmutableList.builder();
+        BitSet changedFields = Diff.changedFields(previous, current);
+        collect(previous, current, changedFields, new ArrayDeque<>(), changes);
+        return new MessageDelta(previous.getDescriptorForType(), changes.build());
+    }
+
+    /**
+     * Collects the changes of the given fields.
+     *
+     * @return the number of the collected changes
+     */
+    private static int collect(Message previous,
+                               Message current,
+                               BitSet changedFields,
+                               Deque<String> prefix,
+                               ImmutableList.Builder<FieldChange> changes) {
+        int count = 0;
+        for (FieldDescriptor field : previous.getDescriptorForType()
+                                             .getFields()) {
+            if (!changedFields.get(field.getNumber())) {
+                continue;
+            }
+            prefix.addLast(field.getName());
+            FieldPath path = FieldPath.newBuilder()
+                                      .addAllFieldName(prefix)
+                                      .build();
+            if (field.isMapField()) {
+                count += collectEntries(path, field, previous, current, changes);
+            } else if (field.isRepeated()) {
+                count += collectElements(path, field, previous, current, changes);
+            } else if (isNestedChange(previous, current, field)) {
+                Message nestedPrevious = (Message) previous.getField(field);
+                Message nestedCurrent = (Message) current.getField(field);
+                BitSet nestedChanges = Diff.changedFields(nestedPrevious, nestedCurrent);
+                int nestedCount =
+                        collect(nestedPrevious, nestedCurrent, nestedChanges, prefix, changes);
+                if (nestedCount == 0) {
+                    // The messages differ only in the fields unknown to the descriptor.
+                    changes.add(FieldChange.set(path, nestedCurrent));
+                    nestedCount = 1;
+                }
+                count += nestedCount;
+            } else if (current.hasField(field)) {
+                changes.add(FieldChange.set(path, current.getField(field)));
+                count++;
+            } else {
+                changes.add(FieldChange.clear(path));
+                count++;
+            }
+            prefix.removeLast();
+        }
+        return count;
+    }
+
+    private static boolean isNestedChange(Message a, Message b, FieldDescriptor field) {
+        return field.getJavaType() == MESSAGE
+                && a.hasField(field)
+                && b.hasField(field);
+    }
+
+    private static int collectElements(FieldPath path,
+                                       FieldDescriptor field,
+                                       Message previous,
+                                       Message current,
+                                       ImmutableList.Builder<FieldChange> changes) {
+        int count = 0;
+        int previousCount = previous.getRepeatedFieldCount(field);
+        int currentCount = current.getRepeatedFieldCount(field);
+        int commonCount = Math.min(previousCount, currentCount);
+        for (int i = 0; i < commonCount; i++) {
+            Object currentElement = current.getRepeatedField(field, i);
+            if (!previous.getRepeatedField(field, i)
+                         .equals(currentElement)) {
+                changes.add(FieldChange.setElement(path, i, currentElement));
+                count++;
+            }
+        }
+        if (currentCount < previousCount) {
+            changes.add(FieldChange.truncate(path, currentCount));
+            count++;
+        }
+        for (int i = commonCount; i < currentCount; i++) {
+            changes.add(FieldChange.addElement(path, current.getRepeatedField(field, i)));
+            count++;
+        }
+        return count;
+    }
+
+    private static int collectEntries(FieldPath path,
+                                      FieldDescriptor field,
+                                      Message previous,
+                                      Message current,
+                                      ImmutableList.Builder<FieldChange> changes) {
+        int count = 0;
+        Map<Object, Object> previousEntries = entries(previous, field);
+        Map<Object, Object> currentEntries = entries(current, field);
+        for (Map.Entry<Object, Object> entry : currentEntries.entrySet()) {
+            Object key = entry.getKey();
+            Object value = entry.getValue();
+            if (!value.equals(previousEntries.get(key))) {
+                changes.add(FieldChange.putEntry(path, key, value));
+                count++;
+            }
+        }
+        for (Object key : previousEntries.keySet()) {
+            if (!currentEntries.containsKey(key)) {
+                changes.add(FieldChange.removeEntry(path, key));
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static Map<Object, Object> entries(Message message, FieldDescriptor mapField) {
+        Descriptor entryType = mapField.getMessageType();
+        FieldDescriptor keyField = entryType.findFieldByNumber(MAP_KEY_FIELD_NUMBER);
+        FieldDescriptor valueField = entryType.findFieldByNumber(MAP_VALUE_FIELD_NUMBER);
+        int count = message.getRepeatedFieldCount(mapField);
+        Map<Object, Object> result = new LinkedHashMap<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            Message entry = (Message) message.getRepeatedField(mapField, i);
+            result.put(entry.getField(keyField), entry.getField(valueField));
+        }
+        return result;
+    }
+
+    /**
+     * Obtains the type of the compared messages.
+     */
+    public Descriptor type() {
+        return type;
+    }
+
+    /**
+     * Obtains the changes in the order of the field declaration, depth-first.
+     */
+    public ImmutableList<FieldChange> changes() {
+        return changes;
+    }
+
+    /**
+     * Checks if the compared messages are equal.
+     */
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    /**
+     * Obtains the mask of the changed fields.
+     *
+     * <p>The changes of the elements of a {@code repeated} or a {@code map} field are
+     * represented by the path to the field itself.
+     */
+    public FieldMask toFieldMask() {
+        Set<String> paths = new LinkedHashSet<>();
+        for (FieldChange change : changes) {
+            paths.add(FieldPaths.toString(change.path()));
+        }
+        FieldMask result = FieldMask
+                .newBuilder()
+                .addAllPaths(paths)
+                .build();
+        return result;
+    }
+
+    /**
+     * Applies the changes to the given builder.
+     *
+     * <p>When applied to a builder of the previous state of the message, turns it into
+     * the builder of the current state.
+     *
+     * @param builder
+     *         the builder of a message of the {@linkplain #type() compared type}
+     * @param <B>
+     *         the type of the builder
+     * @return the same builder
+     */
+    public <B extends Message.Builder> B applyTo(B builder) {
+        checkNotNull(builder);
+        Descriptor builderType = builder.getDescriptorForType();
+        checkArgument(builderType.getFullName()
+                                 .equals(type.getFullName()),
+                      "Unable to apply changes of `%s` to a builder of `%s`.",
+                      type.getFullName(), builderType.getFullName());
+        apply(builder, changes, 0);
+        return builder;
+    }
+
+    /**
+     * Applies the changes of the fields at the given depth of the paths.
+     *
+     * <p>The changes of the same nested message, as well as the changes of the entries of
+     * the same {@code map} field, follow each other. Each such run of changes is applied
+     * at once, so that the nested message or the map is rebuilt only once.
+     */
+    private static void apply(Message.Builder builder, List<FieldChange> changes, int depth) {
+        int start = 0;
+        while (start < changes.size()) {
+            FieldChange change = changes.get(start);
+            List<String> names = change.path()
+                                       .getFieldNameList();
+            String name = names.get(depth);
+            FieldDescriptor field = fieldOf(builder, name);
+            int end = start + 1;
+            if (depth < names.size() - 1) {
+                while (end < changes.size() && changes.get(end).isNestedIn(name, depth)) {
+                    end++;
+                }
+                Message nested = (Message) builder.getField(field);
+                Message.Builder nestedBuilder = nested.toBuilder();
+                apply(nestedBuilder, changes.subList(start, end), depth + 1);
+                builder.setField(field, nestedBuilder.build());
+            } else if (change.isEntryChange()) {
+                while (end < changes.size() && changes.get(end).isEntryChangeOf(change)) {
+                    end++;
+                }
+                changeEntries(builder, field, changes.subList(start, end));
+            } else {
+                change.applyTo(builder, field);
+            }
+            start = end;
+        }
+    }
+
+    /**
+     * Applies the given changes of the entries to the {@code map} field.
+     */
+    private static void changeEntries(Message.Builder builder,
+                                      FieldDescriptor field,
+                                      List<FieldChange> changes) {
+        Descriptor entryType = field.getMessageType();
+        FieldDescriptor keyField = entryType.findFieldByNumber(MAP_KEY_FIELD_NUMBER);
+        FieldDescriptor valueField = entryType.findFieldByNumber(MAP_VALUE_FIELD_NUMBER);
+        int count = builder.getRepeatedFieldCount(field);
+        Map<Object, Object> entries = new LinkedHashMap<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            Message entry = (Message) builder.getRepeatedField(field, i);
+            entries.put(entry.getField(keyField), entry);
+        }
+        for (FieldChange change : changes) {
+            Object entryKey = checkNotNull(change.key);
+            if (change.kind == FieldChange.Kind.PUT_ENTRY) {
+                Message entry = builder.newBuilderForField(field)
+                                       .setField(keyField, entryKey)
+                                       .setField(valueField, checkNotNull(change.value))
+                                       .build();
+                entries.put(entryKey, entry);
+            } else {
+                entries.remove(entryKey);
+            }
+        }
+        builder.clearField(field);
+        for (Object entry : entries.values()) {
+            builder.addRepeatedField(field, entry);
+        }
+    }
+
+    private static FieldDescriptor fieldOf(Message.Builder builder, String name) {
+        Descriptor type = builder.getDescriptorForType();
+        @Nullable FieldDescriptor field = type.findFieldByName(name);
+        if (field == null) {
+            throw newIllegalArgumentException(
+                    "Unable to find the field named `%s` in the type `%s`.",
+                    name, type.getFullName());
+        }
+        return field;
+    }
+
+    /**
+     * A single change of a field value.
+     */
+    public static final class FieldChange {
+
+        private final FieldPath path;
+        private final Kind kind;
+        private final int index;
+        private final @Nullable Object key;
+        private final @Nullable Object value;
+
+        private FieldChange(FieldPath path,
+                            Kind kind,
+                            int index,
+                            @Nullable Object key,
+                            @Nullable Object value) {
+            this.path = path;
+            this.kind = kind;
+            this.index = index;
+            this.key = key;
+            this.value = value;
+        }
+
+        private static FieldChange set(FieldPath path, Object value) {
+            return new FieldChange(path, Kind.SET, -1, null, value);
+        }
+
+        private static FieldChange clear(FieldPath path) {
+            return new FieldChange(path, Kind.CLEAR, -1, null, null);
+        }
+
+        private static FieldChange setElement(FieldPath path, int index, Object value) {
+            return new FieldChange(path, Kind.SET_ELEMENT, index, null, value);
+        }
+
+        private static FieldChange addElement(FieldPath path, Object value) {
+            return new FieldChange(path, Kind.ADD_ELEMENT, -1, null, value);
+        }
+
+        private static FieldChange truncate(FieldPath path, int size) {
+            return new FieldChange(path, Kind.TRUNCATE, size, null, null);
+        }
+
+        private static FieldChange putEntry(FieldPath path, Object key, Object value) {
+            return new FieldChange(path, Kind.PUT_ENTRY, -1, key, value);
+        }
+
+        private static FieldChange removeEntry(FieldPath path, Object key) {
+            return new FieldChange(path, Kind.REMOVE_ENTRY, -1, key, null);
+        }
+
+        /**
+         * Obtains the path to the changed field.
+         */
+        public FieldPath path() {
+            return path;
+        }
+
+        /**
+         * Obtains the kind of the change.
+         */
+        public Kind kind() {
+            return kind;
+        }
+
+        /**
+         * Obtains the index of the changed element for {@link Kind#SET_ELEMENT SET_ELEMENT},
+         * or the new size of the list for {@link Kind#TRUNCATE TRUNCATE}.
+         *
+         * @return the index or {@code -1} for other kinds of changes
+         */
+        public int index() {
+            return index;
+        }
+
+        /**
+         * Obtains the key of the changed map entry.
+         */
+        public Optional<Object> key() {
+            return Optional.ofNullable(key);
+        }
+
+        /**
+         * Obtains the new value of the field, the element, or the map entry.
+         *
+         * <p>The value has the same form as returned by
+         * {@link Message#getField(FieldDescriptor)} for the field.
+         */
+        public Optional<Object> value() {
+            return Optional.ofNullable(value);
+        }
+
+        /**
+         * Checks if this change is made to a field of the message in the field with the given
+         * name at the given depth of the path.
+         */
+        private boolean isNestedIn(String fieldName, int depth) {
+            List<String> names = path.getFieldNameList();
+            return names.size() > depth + 1
+                    && names.get(depth)
+                            .equals(fieldName);
+        }
+
+        private boolean isEntryChange() {
+            return kind == Kind.PUT_ENTRY || kind == Kind.REMOVE_ENTRY;
+        }
+
+        /**
+         * Checks if both this and the given change are made to the entries of the same map.
+         */
+        private boolean isEntryChangeOf(FieldChange other) {
+            return isEntryChange() && path.equals(other.path);
+        }
+
+        private void applyTo(Message.Builder builder, FieldDescriptor field) {
+            switch (kind) {
+                case SET:
+                    builder.setField(field, checkNotNull(value));
+                    break;
+                case CLEAR:
+                    builder.clearField(field);
+                    break;
+                case SET_ELEMENT:
+                    builder.setRepeatedField(field, index, checkNotNull(value));
+                    break;
+                case ADD_ELEMENT:
+                    builder.addRepeatedField(field, checkNotNull(value));
+                    break;
+                case TRUNCATE:
+                    truncate(builder, field);
+                    break;
+                case PUT_ENTRY:
+                case REMOVE_ENTRY:
+                    changeEntries(builder, field, ImmutableList.of(this));
+                    break;
+                default:
+                    throw newIllegalArgumentException("Unknown change kind: `%s`.", kind);
+            }
+        }
+
+        private void truncate(Message.Builder builder, FieldDescriptor field) {
+            List<?> elements = (List<?>) builder.getField(field);
+            List<?> retained = ImmutableList.copyOf(elements.subList(0, index));
+            builder.clearField(field);
+            for (Object element : retained) {
+                builder.addRepeatedField(field, element);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this)
+                              .add("path", FieldPaths.toString(path))
+                              .add("kind", kind)
+                              .add("index", index)
+                              .add("key", key)
+                              .add("value", value)
+                              .omitNullValues()
+                              .toString();
+        }
+
+        /**
+         * The kind of a field change.
+         */
+        public enum Kind {
+
+            /** The singular field is set to a new value. */
+            SET,
+
+            /** The singular field is cleared. */
+            CLEAR,
+
+            /** The element of a {@code repeated} field at the index is replaced. */
+            SET_ELEMENT,
+
+            /** The element is added to the end of a {@code repeated} field. */
+            ADD_ELEMENT,
+
+            /** The {@code repeated} field is truncated to the size given by the index. */
+            TRUNCATE,
+
+            /** The entry is put into a {@code map} field. */
+            PUT_ENTRY,
+
+            /** The entry with the key is removed from a {@code map} field. */
+            REMOVE_ENTRY
+        }
+    }
+}
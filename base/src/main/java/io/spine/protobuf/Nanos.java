@@ -0,0 +1,239 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.protobuf;
+
+import com.google.protobuf.Duration;
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Durations;
+import com.google.protobuf.util.Timestamps;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Utilities for computations with durations and timestamps represented as a {@code long}
+ * number of nanoseconds.
+ *
+ * <p>The methods of {@link Durations2} and the Protobuf {@link Durations} create a new message
+ * for each intermediate result. Loops which accumulate many values should rather convert them
+ * to nanoseconds once, compute on the primitive values, and convert the result back:
+ * <pre>
+ *     {@code
+ *     long[] elapsed = Nanos.fromDurations(report.getElapsedList());
+ *     Duration total = Nanos.toDuration(Nanos.sum(elapsed));
+ *     Duration longest = Nanos.toDuration(Nanos.max(elapsed));
+ *     }
+ * </pre>
+ *
+ * <p>A {@code Duration} is converted to the signed length of the duration. A {@code Timestamp}
+ * is converted to the number of nanoseconds since the Unix epoch. The values are compared
+ * with {@link Long#compare(long, long)}.
+ *
+ * <p>A {@code long} holds about 292 years in nanoseconds. Therefore, the timestamps before
+ * the year 1677 or after the year 2262 and the durations longer than 292 years cannot be
+ * converted. In such cases, as well as when the result of the arithmetic overflows,
+ * an {@link ArithmeticException} is thrown.
+ */
+public final class Nanos {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final long NANOS_PER_MINUTE = TimeUnit.MINUTES.toNanos(1);
+    private static final long NANOS_PER_HOUR = TimeUnit.HOURS.toNanos(1);
+
+    /** Prevent instantiation of this utility class. */
+    private Nanos() {
+    }
+
+    /**
+     * Obtains the length of the passed duration in nanoseconds.
+     *
+     * @throws IllegalArgumentException
+     *         if the duration is not valid
+     * @throws ArithmeticException
+     *         if the duration does not fit a {@code long}
+     */
+    public static long fromDuration(Duration duration) {
+        checkNotNull(duration);
+        long seconds = duration.getSeconds();
+        int nanos = duration.getNanos();
+        checkArgument(Durations.isValid(seconds, nanos),
+                      "The duration is not valid (seconds: %s, nanos: %s).", seconds, nanos);
+        return toNanos(seconds, nanos);
+    }
+
+    /**
+     * Obtains the number of nanoseconds since the Unix epoch at the passed time.
+     *
+     * @throws IllegalArgumentException
+     *         if the timestamp is not valid
+     * @throws ArithmeticException
+     *         if the timestamp does not fit a {@code long}
+     */
+    public static long fromTimestamp(Timestamp timestamp) {
+        checkNotNull(timestamp);
+        long seconds = timestamp.getSeconds();
+        int nanos = timestamp.getNanos();
+        checkArgument(Timestamps.isValid(seconds, nanos),
+                      "The timestamp is not valid (seconds: %s, nanos: %s).", seconds, nanos);
+        return toNanos(seconds, nanos);
+    }
+
+    private static long toNanos(long seconds, int nanos) {
+        return Math.addExact(Math.multiplyExact(seconds, NANOS_PER_SECOND), nanos);
+    }
+
+    /**
+     * Converts the passed durations into nanoseconds.
+     *
+     * @return the lengths of the durations in the order of the passed list
+     * @see #fromDuration(Duration)
+     */
+    public static long[] fromDurations(List<Duration> durations) {
+        checkNotNull(durations);
+        long[] result = new long[durations.size()];
+        int index = 0;
+        for (Duration duration : durations) {
+            result[index++] = fromDuration(duration);
+        }
+        return result;
+    }
+
+    /**
+     * Converts the passed timestamps into nanoseconds since the Unix epoch.
+     *
+     * @return the time values in the order of the passed list
+     * @see #fromTimestamp(Timestamp)
+     */
+    public static long[] fromTimestamps(List<Timestamp> timestamps) {
+        checkNotNull(timestamps);
+        long[] result = new long[timestamps.size()];
+        int index = 0;
+        for (Timestamp timestamp : timestamps) {
+            result[index++] = fromTimestamp(timestamp);
+        }
+        return result;
+    }
+
+    /**
+     * Creates a new {@code Duration} of the passed length in nanoseconds.
+     */
+    public static Duration toDuration(long nanos) {
+        return Durations.fromNanos(nanos);
+    }
+
+    /**
+     * Creates a new {@code Timestamp} for the passed number of nanoseconds since the Unix epoch.
+     */
+    public static Timestamp toTimestamp(long nanos) {
+        return Timestamps.fromNanos(nanos);
+    }
+
+    /**
+     * Obtains the sum of the passed values.
+     *
+     * @return the sum, or zero if no values are passed
+     * @throws ArithmeticException
+     *         if the sum overflows a {@code long}
+     */
+    public static long sum(long... nanos) {
+        checkNotNull(nanos);
+        long result = 0L;
+        for (long value : nanos) {
+            result = Math.addExact(result, value);
+        }
+        return result;
+    }
+
+    /**
+     * Obtains the least of the passed values.
+     *
+     * @throws IllegalArgumentException
+     *         if no values are passed
+     */
+    public static long min(long... nanos) {
+        checkNotEmpty(nanos);
+        long result = nanos[0];
+        for (int i = 1; i < nanos.length; i++) {
+            result = Math.min(result, nanos[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Obtains the greatest of the passed values.
+     *
+     * @throws IllegalArgumentException
+     *         if no values are passed
+     */
+    public static long max(long... nanos) {
+        checkNotEmpty(nanos);
+        long result = nanos[0];
+        for (int i = 1; i < nanos.length; i++) {
+            result = Math.max(result, nanos[i]);
+        }
+        return result;
+    }
+
+    private static void checkNotEmpty(long[] nanos) {
+        checkNotNull(nanos);
+        checkArgument(nanos.length > 0, "At least one value must be passed.");
+    }
+
+    /**
+     * Rounds the passed value down to a whole number of the given time units.
+     *
+     * <p>For a timestamp, the result is the start of the bucket the timestamp falls into.
+     * Negative values are rounded towards the negative infinity, so that all the buckets
+     * have the same length.
+     *
+     * @param nanos
+     *         the value to round
+     * @param unit
+     *         the length of a bucket
+     * @return the rounded value in nanoseconds
+     */
+    public static long floor(long nanos, TimeUnit unit) {
+        checkNotNull(unit);
+        long bucket = unit.toNanos(1);
+        return nanos - Math.floorMod(nanos, bucket);
+    }
+
+    /**
+     * Rounds the passed value down to whole minutes.
+     *
+     * @see #floor(long, TimeUnit)
+     */
+    public static long floorToMinutes(long nanos) {
+        return nanos - Math.floorMod(nanos, NANOS_PER_MINUTE);
+    }
+
+    /**
+     * Rounds the passed value down to whole hours.
+     *
+     * @see #floor(long, TimeUnit)
+     */
+    public static long floorToHours(long nanos) {
+        return nanos - Math.floorMod(nanos, NANOS_PER_HOUR);
+    }
+}
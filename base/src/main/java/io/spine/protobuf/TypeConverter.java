@@ -22,11 +22,13 @@ package io.spine.protobuf;
 
 import com.google.common.base.Converter;
 import com.google.common.base.Function;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.protobuf.Any;
 import com.google.protobuf.BoolValue;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.BytesValue;
+import com.google.protobuf.Descriptors.Descriptor;
 import com.google.protobuf.DoubleValue;
 import com.google.protobuf.EnumValue;
 import com.google.protobuf.FloatValue;
@@ -37,6 +39,12 @@ import com.google.protobuf.StringValue;
 import com.google.protobuf.UInt32Value;
 import com.google.protobuf.UInt64Value;
 import io.spine.annotation.Internal;
+import io.spine.type.TypeUrl;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -95,10 +103,54 @@ public final class TypeConverter {
     public static <T> Any toAny(T value) {
         checkNotNull(value);
         Message message = toMessage(value);
+        String wrapperTypeUrl = WrapperTypeUrls.of(message);
+        if (wrapperTypeUrl != null) {
+            Any result = Any
+                    .newBuilder()
+                    .setTypeUrl(wrapperTypeUrl)
+                    .setValue(message.toByteString())
+                    .build();
+            return result;
+        }
         Any result = AnyPacker.pack(message);
         return result;
     }
 
+    /**
+     * Converts each of the given values to Protobuf {@link Any}.
+     *
+     * <p>The result is the same as if {@link #toAny(Object)} was called for each of the values.
+     * The type URLs of the values are obtained once per message type.
+     *
+     * @param values the values to convert
+     * @return the packed values in the order of the given values
+     */
+    public static ImmutableList<Any> toAnyAll(Iterable<?> values) {
+        checkNotNull(values);
+        ImmutableList.Builder<Any> result = values instanceof Collection
+                ? ImmutableList.builderWithExpectedSize(((Collection<?>) values).size())
+                : ImmutableList.builder();
+        Map<Descriptor, String> typeUrls = new HashMap<>();
+        Any.Builder builder = Any.newBuilder();
+        for (Object value : values) {
+            checkNotNull(value);
+            Message message = toMessage(value);
+            if (message instanceof Any) {
+                result.add((Any) message);
+                continue;
+            }
+            String typeUrl = typeUrls.computeIfAbsent(
+                    message.getDescriptorForType(),
+                    descriptor -> TypeUrl.from(descriptor).value()
+            );
+            Any packed = builder.setTypeUrl(typeUrl)
+                                .setValue(message.toByteString())
+                                .build();
+            result.add(packed);
+        }
+        return result.build();
+    }
+
     /**
      * Converts the given value to a corresponding Protobuf {@link Message} type.
      *
@@ -107,6 +159,10 @@ public final class TypeConverter {
      * @return the wrapped value
      */
     public static <T> Message toMessage(T value) {
+        Message wrapped = wrapDirectly(value);
+        if (wrapped != null) {
+            return wrapped;
+        }
         @SuppressWarnings("unchecked" /* Must be checked at runtime. */)
         Class<T> srcClass = (Class<T>) value.getClass();
         MessageCaster<Message, T> caster = MessageCaster.forType(srcClass);
@@ -131,13 +187,101 @@ public final class TypeConverter {
         return messageClass.cast(message);
     }
 
+    /**
+     * Wraps the values of the most commonly converted types without looking up a caster.
+     *
+     * @return the wrapped value or {@code null} if the value is not of a string, a boxed
+     *         primitive, or a {@code ByteString} type
+     */
+    @SuppressWarnings("ChainOfInstanceofChecks") // Intentionally avoiding the caster lookup.
+    private static @Nullable Message wrapDirectly(Object value) {
+        if (value instanceof String) {
+            return StringValue.of((String) value);
+        }
+        if (value instanceof Integer) {
+            return Int32Value.of((Integer) value);
+        }
+        if (value instanceof Long) {
+            return Int64Value.of((Long) value);
+        }
+        if (value instanceof Boolean) {
+            return BoolValue.of((Boolean) value);
+        }
+        if (value instanceof Double) {
+            return DoubleValue.of((Double) value);
+        }
+        if (value instanceof Float) {
+            return FloatValue.of((Float) value);
+        }
+        if (value instanceof ByteString) {
+            return BytesValue.of((ByteString) value);
+        }
+        return null;
+    }
+
+    /**
+     * The type URLs of the Protobuf wrapper types produced by
+     * {@link #wrapDirectly(Object) wrapDirectly(..)}.
+     */
+    private static final class WrapperTypeUrls {
+
+        private static final ImmutableMap<Class<? extends Message>, String> TYPE_URLS =
+                ImmutableMap.<Class<? extends Message>, String>builder()
+                        .put(StringValue.class, urlOf(StringValue.getDescriptor()))
+                        .put(Int32Value.class, urlOf(Int32Value.getDescriptor()))
+                        .put(Int64Value.class, urlOf(Int64Value.getDescriptor()))
+                        .put(BoolValue.class, urlOf(BoolValue.getDescriptor()))
+                        .put(DoubleValue.class, urlOf(DoubleValue.getDescriptor()))
+                        .put(FloatValue.class, urlOf(FloatValue.getDescriptor()))
+                        .put(BytesValue.class, urlOf(BytesValue.getDescriptor()))
+                        .build();
+
+        /** Prevents instantiation of this utility class. */
+        private WrapperTypeUrls() {
+        }
+
+        private static String urlOf(Descriptor descriptor) {
+            return TypeUrl.from(descriptor)
+                          .value();
+        }
+
+        /**
+         * Obtains the type URL of the given message if it is of a wrapper type.
+         */
+        private static @Nullable String of(Message message) {
+            return TYPE_URLS.get(message.getClass());
+        }
+    }
+
+    /**
+     * Caches the {@link MessageCaster}s per converted class.
+     */
+    private static final class CasterCache extends ClassValue<MessageCaster<?, ?>> {
+
+        private static final CasterCache INSTANCE = new CasterCache();
+
+        @Override
+        protected MessageCaster<?, ?> computeValue(Class<?> type) {
+            return MessageCaster.newCaster(type);
+        }
+    }
+
     /**
      * The {@link Function} performing the described type conversion.
+     *
+     * <p>Casters do not hold any state specific to a conversion, and are
+     * {@linkplain CasterCache shared} among all the conversions of the same type.
      */
     private abstract static class MessageCaster<M extends Message, T> extends Converter<M, T> {
 
         private static <M extends Message, T> MessageCaster<M, T> forType(Class<T> cls) {
             checkNotNull(cls);
+            @SuppressWarnings("unchecked") // Logically checked.
+            MessageCaster<M, T> result = (MessageCaster<M, T>) CasterCache.INSTANCE.get(cls);
+            return result;
+        }
+
+        private static MessageCaster<?, ?> newCaster(Class<?> cls) {
             MessageCaster<?, ?> caster;
             if (Message.class.isAssignableFrom(cls)) {
                 caster = new MessageTypeCaster();
@@ -150,9 +294,7 @@ public final class TypeConverter {
             } else {
                 caster = new PrimitiveTypeCaster<>();
             }
-            @SuppressWarnings("unchecked") // Logically checked.
-            MessageCaster<M, T> result = (MessageCaster<M, T>) caster;
-            return result;
+            return caster;
         }
 
         @Override
@@ -20,12 +20,47 @@
 
 package io.spine.security;
 
+import java.util.Optional;
+
+import static io.spine.util.Exceptions.newIllegalStateException;
+
 /**
  * Provides information about the class calling a method.
+ *
+ * <p>By default, the provider obtains the class context from a {@code SecurityManager}.
+ * If the runtime does not allow to create a {@code SecurityManager}, the stack is walked
+ * via {@code StackWalker}.
  */
-final class CallerProvider extends SecurityManager {
+final class CallerProvider {
+
+    private static final CallerProvider INSTANCE = new CallerProvider(defaultStack());
 
-    private static final CallerProvider INSTANCE = new CallerProvider();
+    private final CallStack stack;
+
+    private CallerProvider(CallStack stack) {
+        this.stack = stack;
+    }
+
+    /**
+     * Obtains the stack to use by default.
+     *
+     * <p>Capturing the class context via the {@code SecurityManager} is faster than walking
+     * the stack via {@code StackWalker} for the stack depths typical for the guarded calls.
+     * Therefore, the {@code StackWalker} is used only when the {@code SecurityManager}
+     * is not available.
+     */
+    private static CallStack defaultStack() {
+        Optional<CallStack> securityManager = SecurityManagerCallStack.create();
+        if (securityManager.isPresent()) {
+            return securityManager.get();
+        }
+        CallStack result = StackWalkerCallStack
+                .create()
+                .orElseThrow(() -> newIllegalStateException(
+                        "Neither `SecurityManager` nor `StackWalker` is available."
+                ));
+        return result;
+    }
 
     /**
      * Obtains the instance.
@@ -34,13 +69,19 @@ final class CallerProvider extends SecurityManager {
         return INSTANCE;
     }
 
+    /**
+     * Creates a new instance which obtains the classes from the given stack.
+     */
+    static CallerProvider on(CallStack stack) {
+        return new CallerProvider(stack);
+    }
+
     /**
      * Obtains the class of the object which calls the method from which this method
      * is being called.
      */
     Class getCallerClass() {
-        Class[] context = getClassContext();
-        Class result = context[2];
+        Class result = stack.classAt(2);
         return result;
     }
 
@@ -49,8 +90,7 @@ final class CallerProvider extends SecurityManager {
      * method from which this method is being called.
      */
     Class getPreviousCallerClass() {
-        Class[] context = getClassContext();
-        Class result = context[3];
+        Class result = stack.classAt(3);
         return result;
     }
 }
@@ -20,7 +20,6 @@
 
 package io.spine.security;
 
-import com.google.common.collect.ImmutableSet;
 import org.checkerframework.checker.signature.qual.ClassGetName;
 import org.checkerframework.checker.signature.qual.FullyQualifiedName;
 
@@ -57,14 +56,16 @@ public final class InvocationGuard {
         checkNotNull(otherClasses);
         Class callingClass = CallerProvider.instance()
                                            .getPreviousCallerClass();
-        ImmutableSet<@FullyQualifiedName String> allowedCallers = ImmutableSet
-                .<@FullyQualifiedName String>builder()
-                .add(firstClass)
-                .add(otherClasses)
-                .build();
-        if (!allowedCallers.contains(callingClass.getName())) {
-            throw nonAllowedCaller(callingClass);
+        String callingClassName = callingClass.getName();
+        if (firstClass.equals(callingClassName)) {
+            return;
+        }
+        for (String allowedClass : otherClasses) {
+            if (callingClassName.equals(allowedClass)) {
+                return;
+            }
         }
+        throw nonAllowedCaller(callingClass);
     }
 
     private static SecurityException nonAllowedCaller(@ClassGetName Class callingClass) {
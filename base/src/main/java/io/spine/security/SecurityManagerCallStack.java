@@ -0,0 +1,57 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.security;
+
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * The {@link CallStack} which obtains the class context from the {@link SecurityManager}.
+ *
+ * <p>Each call captures the classes of all the methods on the stack.
+ */
+final class SecurityManagerCallStack extends SecurityManager implements CallStack {
+
+    /** Prevents instantiation from outside. */
+    private SecurityManagerCallStack() {
+    }
+
+    /**
+     * Creates a new instance if the runtime allows to create a {@code SecurityManager}.
+     */
+    static Optional<CallStack> create() {
+        try {
+            return Optional.of(new SecurityManagerCallStack());
+        } catch (UnsupportedOperationException | SecurityException ignored) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public Class<?> classAt(int depth) {
+        Class<?>[] context = getClassContext();
+        int index = depth + 1;
+        checkState(index < context.length, "There is no frame at the depth %s.", depth);
+        Class<?> result = context[index];
+        return result;
+    }
+}
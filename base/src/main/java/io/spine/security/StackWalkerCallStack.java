@@ -0,0 +1,104 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.security;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static com.google.common.base.Preconditions.checkState;
+import static io.spine.util.Exceptions.illegalStateWithCauseOf;
+
+/**
+ * The {@link CallStack} which walks the stack via {@code java.lang.StackWalker}.
+ *
+ * <p>Only the frames up to the requested depth are walked. However, setting up a walk costs
+ * more than capturing the whole class context via {@link SecurityManagerCallStack}, unless
+ * the stack is very deep. The walker is used on the runtimes which do not allow to create
+ * a {@code SecurityManager}.
+ *
+ * <p>As the code is compiled for Java 8, {@code StackWalker} is accessed reflectively.
+ * The reflection frames are hidden from the walker, so the frames of this class are
+ * the only ones to skip.
+ */
+final class StackWalkerCallStack implements CallStack {
+
+    private static final String STACK_WALKER = "java.lang.StackWalker";
+    private static final String OPTION = "java.lang.StackWalker$Option";
+    private static final String STACK_FRAME = "java.lang.StackWalker$StackFrame";
+
+    private final Object walker;
+    private final Method walk;
+    private final Method getDeclaringClass;
+
+    private StackWalkerCallStack(Object walker, Method walk, Method getDeclaringClass) {
+        this.walker = walker;
+        this.walk = walk;
+        this.getDeclaringClass = getDeclaringClass;
+    }
+
+    /**
+     * Creates a new instance if {@code StackWalker} is available in the current runtime.
+     *
+     * @return new instance or {@code Optional.empty()} when running on Java 8
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"}) // Obtaining the enum constant reflectively.
+    static Optional<CallStack> create() {
+        try {
+            Class<?> walkerClass = Class.forName(STACK_WALKER);
+            Class<? extends Enum> optionClass = (Class<? extends Enum>) Class.forName(OPTION);
+            Class<?> frameClass = Class.forName(STACK_FRAME);
+            Object retainClassReference = Enum.valueOf(optionClass, "RETAIN_CLASS_REFERENCE");
+            Object walker = walkerClass.getMethod("getInstance", optionClass)
+                                       .invoke(null, retainClassReference);
+            Method walk = walkerClass.getMethod("walk", Function.class);
+            Method getDeclaringClass = frameClass.getMethod("getDeclaringClass");
+            return Optional.of(new StackWalkerCallStack(walker, walk, getDeclaringClass));
+        } catch (ReflectiveOperationException | RuntimeException ignored) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public Class<?> classAt(int depth) {
+        Function<Stream<?>, Optional<?>> atDepth = frames -> frames.skip(depth + 1L)
+                                                                   .findFirst();
+        Optional<?> frame;
+        try {
+            frame = (Optional<?>) walk.invoke(walker, atDepth);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+        checkState(frame.isPresent(), "There is no frame at the depth %s.", depth);
+        return declaringClass(frame.get());
+    }
+
+    private Class<?> declaringClass(Object frame) {
+        try {
+            Class<?> result = (Class<?>) getDeclaringClass.invoke(frame);
+            return result;
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.string;
+
+import com.google.protobuf.Duration;
+import com.google.protobuf.util.Durations;
+
+import java.text.ParseException;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Formats and parses {@code Duration}s in the format of the Protobuf JSON mapping,
+ * for example, {@code "-3.000001s"}.
+ *
+ * <p>Produces the same text as {@link Durations#toString(Duration)}, writing the digits
+ * directly into a {@code StringBuilder}.
+ *
+ * <p>The strings in the canonical form {@code [-]seconds[.fraction]s} are parsed without
+ * creating intermediate objects. Other strings are passed to {@link Durations#parse(String)},
+ * so the result of parsing is always the same as that of the Protobuf implementation.
+ */
+final class DurationFormat {
+
+    /** The maximum absolute number of seconds in a duration, which is about 10,000 years. */
+    private static final long MAX_SECONDS = 315_576_000_000L;
+
+    /** The maximum number of digits in the seconds part parsed without the Protobuf. */
+    private static final int MAX_SECONDS_DIGITS = 12;
+
+    /** The maximum length of a formatted duration. */
+    private static final int MAX_LENGTH = 25;
+
+    /** Prevents instantiation of this utility class. */
+    private DurationFormat() {
+    }
+
+    /**
+     * Formats the given duration.
+     *
+     * @throws IllegalArgumentException
+     *         if the duration is not {@linkplain Durations#isValid(Duration) valid}
+     */
+    static String toString(Duration duration) {
+        StringBuilder result = new StringBuilder(MAX_LENGTH);
+        appendTo(duration, result);
+        return result.toString();
+    }
+
+    /**
+     * Appends the text of the given duration to the given builder.
+     *
+     * @throws IllegalArgumentException
+     *         if the duration is not {@linkplain Durations#isValid(Duration) valid}
+     */
+    static void appendTo(Duration duration, StringBuilder builder) {
+        checkNotNull(duration);
+        checkNotNull(builder);
+        long seconds = duration.getSeconds();
+        int nanos = duration.getNanos();
+        checkArgument(Durations.isValid(seconds, nanos),
+                      "Duration is not valid. Seconds (%s) must be in range" +
+                              " [-315,576,000,000, +315,576,000,000]." +
+                              " Nanos (%s) must be in range [-999,999,999, +999,999,999]" +
+                              " and have the same sign as seconds.",
+                      seconds, nanos);
+        if (seconds < 0 || nanos < 0) {
+            builder.append('-');
+            seconds = -seconds;
+            nanos = -nanos;
+        }
+        builder.append(seconds);
+        if (nanos != 0) {
+            builder.append('.');
+            TimestampFormat.appendNanos(builder, nanos);
+        }
+        builder.append('s');
+    }
+
+    /**
+     * Parses the given duration string.
+     *
+     * @throws ParseException
+     *         if the string is not a valid duration
+     */
+    static Duration parse(String value) throws ParseException {
+        checkNotNull(value);
+        int length = value.length();
+        int position = 0;
+        boolean negative = length > 0 && value.charAt(0) == '-';
+        if (negative) {
+            position++;
+        }
+        long seconds = 0;
+        int secondsStart = position;
+        while (position < length && isDigit(value.charAt(position))) {
+            seconds = seconds * 10 + (value.charAt(position) - '0');
+            position++;
+        }
+        int secondsDigits = position - secondsStart;
+        int nanos = 0;
+        int nanosDigits = 0;
+        if (position < length && value.charAt(position) == '.') {
+            position++;
+            while (position < length && isDigit(value.charAt(position))) {
+                nanos = nanos * 10 + (value.charAt(position) - '0');
+                position++;
+                nanosDigits++;
+            }
+            if (nanosDigits == 0) {
+                return Durations.parse(value);
+            }
+        }
+        boolean canonical = secondsDigits > 0
+                && secondsDigits <= MAX_SECONDS_DIGITS
+                && nanosDigits <= 9
+                && position == length - 1
+                && value.charAt(position) == 's';
+        if (!canonical) {
+            return Durations.parse(value);
+        }
+        for (int i = nanosDigits; i < 9; i++) {
+            nanos *= 10;
+        }
+        if (seconds > MAX_SECONDS) {
+            throw new ParseException("Duration value is out of range.", 0);
+        }
+        Duration result = Duration
+                .newBuilder()
+                .setSeconds(negative ? -seconds : seconds)
+                .setNanos(negative ? -nanos : nanos)
+                .build();
+        return result;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
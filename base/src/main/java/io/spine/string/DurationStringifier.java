@@ -21,7 +21,6 @@
 package io.spine.string;
 
 import com.google.protobuf.Duration;
-import com.google.protobuf.util.Durations;
 
 import java.text.ParseException;
 
@@ -45,7 +44,7 @@ final class DurationStringifier extends SerializableStringifier<Duration> {
 
     @Override
     protected String toString(Duration duration) {
-        String result = Durations.toString(duration);
+        String result = DurationFormat.toString(duration);
         return result;
     }
 
@@ -53,7 +52,7 @@ final class DurationStringifier extends SerializableStringifier<Duration> {
     protected Duration fromString(String str) {
         Duration result;
         try {
-            result = Durations.parse(str);
+            result = DurationFormat.parse(str);
         } catch (ParseException e) {
             throw illegalArgumentWithCauseOf(e);
         }
@@ -0,0 +1,353 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.string;
+
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Timestamps;
+
+import java.text.ParseException;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Formats and parses {@code Timestamp}s in the RFC 3339 format.
+ *
+ * <p>Produces the same text as {@link Timestamps#toString(Timestamp)}, writing the digits
+ * directly into a {@code StringBuilder}.
+ *
+ * <p>The strings in the canonical form {@code yyyy-MM-ddTHH:mm:ss[.fraction](Z|+HH:mm|-HH:mm)}
+ * are parsed without creating intermediate objects. Other strings are passed to
+ * {@link Timestamps#parse(String)}, so the result of parsing is always the same as that of
+ * the Protobuf implementation.
+ */
+final class TimestampFormat {
+
+    /** The seconds of {@code 0001-01-01T00:00:00Z}. */
+    private static final long MIN_SECONDS = -62_135_596_800L;
+
+    /** The seconds of {@code 9999-12-31T23:59:59Z}. */
+    private static final long MAX_SECONDS = 253_402_300_799L;
+
+    private static final int MAX_NANOS = 999_999_999;
+    private static final int NANOS_PER_MICROSECOND = 1_000;
+    private static final int NANOS_PER_MILLISECOND = 1_000_000;
+    private static final int SECONDS_PER_MINUTE = 60;
+    private static final int SECONDS_PER_HOUR = 3_600;
+    private static final int SECONDS_PER_DAY = 86_400;
+
+    /** The length of the {@code yyyy-MM-ddTHH:mm:ss} part. */
+    private static final int DATE_TIME_LENGTH = 19;
+
+    /** The maximum length of a formatted timestamp. */
+    private static final int MAX_LENGTH = DATE_TIME_LENGTH + 11;
+
+    /** Prevents instantiation of this utility class. */
+    private TimestampFormat() {
+    }
+
+    /**
+     * Formats the given timestamp.
+     *
+     * @throws IllegalArgumentException
+     *         if the timestamp is not {@linkplain Timestamps#isValid(Timestamp) valid}
+     */
+    static String toString(Timestamp timestamp) {
+        StringBuilder result = new StringBuilder(MAX_LENGTH);
+        appendTo(timestamp, result);
+        return result.toString();
+    }
+
+    /**
+     * Appends the text of the given timestamp to the given builder.
+     *
+     * @throws IllegalArgumentException
+     *         if the timestamp is not {@linkplain Timestamps#isValid(Timestamp) valid}
+     */
+    static void appendTo(Timestamp timestamp, StringBuilder builder) {
+        checkNotNull(timestamp);
+        checkNotNull(builder);
+        long seconds = timestamp.getSeconds();
+        int nanos = timestamp.getNanos();
+        checkArgument(Timestamps.isValid(seconds, nanos),
+                      "Timestamp is not valid. Seconds (%s) must be in range" +
+                              " [-62,135,596,800, +253,402,300,799]." +
+                              " Nanos (%s) must be in range [0, +999,999,999].",
+                      seconds, nanos);
+        long days = Math.floorDiv(seconds, SECONDS_PER_DAY);
+        int secondOfDay = (int) Math.floorMod(seconds, SECONDS_PER_DAY);
+        appendDate(days, builder);
+        builder.append('T');
+        appendDigits(builder, secondOfDay / SECONDS_PER_HOUR, 2);
+        builder.append(':');
+        appendDigits(builder, secondOfDay % SECONDS_PER_HOUR / SECONDS_PER_MINUTE, 2);
+        builder.append(':');
+        appendDigits(builder, secondOfDay % SECONDS_PER_MINUTE, 2);
+        if (nanos != 0) {
+            builder.append('.');
+            appendNanos(builder, nanos);
+        }
+        builder.append('Z');
+    }
+
+    /**
+     * Appends the date of the given day since the epoch in the proleptic Gregorian calendar.
+     *
+     * @see <a href="http://howardhinnant.github.io/date_algorithms.html#civil_from_days">
+     *         The algorithm</a>
+     */
+    private static void appendDate(long epochDay, StringBuilder builder) {
+        long shifted = epochDay + 719_468;
+        long era = Math.floorDiv(shifted, 146_097);
+        long dayOfEra = shifted - era * 146_097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1_460 + dayOfEra / 36_524 - dayOfEra / 146_096)
+                / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long shiftedMonth = (5 * dayOfYear + 2) / 153;
+        int day = (int) (dayOfYear - (153 * shiftedMonth + 2) / 5 + 1);
+        int month = (int) (shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9);
+        int year = (int) (yearOfEra + era * 400 + (month <= 2 ? 1 : 0));
+        appendDigits(builder, year, 4);
+        builder.append('-');
+        appendDigits(builder, month, 2);
+        builder.append('-');
+        appendDigits(builder, day, 2);
+    }
+
+    /**
+     * Appends the fraction of a second using 3, 6, or 9 digits.
+     */
+    static void appendNanos(StringBuilder builder, int nanos) {
+        if (nanos % NANOS_PER_MILLISECOND == 0) {
+            appendDigits(builder, nanos / NANOS_PER_MILLISECOND, 3);
+        } else if (nanos % NANOS_PER_MICROSECOND == 0) {
+            appendDigits(builder, nanos / NANOS_PER_MICROSECOND, 6);
+        } else {
+            appendDigits(builder, nanos, 9);
+        }
+    }
+
+    /**
+     * Appends the given non-negative value padded with zeros to the given number of digits.
+     */
+    private static void appendDigits(StringBuilder builder, int value, int digits) {
+        int divisor = 1;
+        for (int i = 1; i < digits; i++) {
+            divisor *= 10;
+        }
+        int remainder = value;
+        for (; divisor > 0; divisor /= 10) {
+            builder.append((char) ('0' + remainder / divisor));
+            remainder %= divisor;
+        }
+    }
+
+    /**
+     * Parses the given RFC 3339 string.
+     *
+     * @throws ParseException
+     *         if the string is not a valid timestamp
+     */
+    static Timestamp parse(String value) throws ParseException {
+        checkNotNull(value);
+        Parser parser = new Parser(value);
+        if (!parser.parseCanonical()) {
+            return Timestamps.parse(value);
+        }
+        if (parser.seconds < MIN_SECONDS || parser.seconds > MAX_SECONDS) {
+            throw new ParseException("Failed to parse timestamp: timestamp is out of range.", 0);
+        }
+        return Timestamp.newBuilder()
+                        .setSeconds(parser.seconds)
+                        .setNanos(parser.nanos)
+                        .build();
+    }
+
+    /**
+     * Tells if the given year is a leap year in the proleptic Gregorian calendar.
+     */
+    private static boolean isLeapYear(int year) {
+        return (year % 4 == 0) && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    private static int daysInMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * Obtains the number of days since the epoch for the given date in the proleptic
+     * Gregorian calendar.
+     *
+     * @see <a href="http://howardhinnant.github.io/date_algorithms.html#days_from_civil">
+     *         The algorithm</a>
+     */
+    private static long epochDay(int year, int month, int day) {
+        long shiftedYear = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(shiftedYear, 400);
+        long yearOfEra = shiftedYear - era * 400;
+        long dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146_097 + dayOfEra - 719_468;
+    }
+
+    /**
+     * Parses a timestamp in the canonical form.
+     *
+     * <p>The strings which are not in the canonical form, or have the date and time fields out
+     * of their usual ranges, are left to the Protobuf implementation.
+     */
+    private static final class Parser {
+
+        private final String value;
+        private int position;
+        private long seconds;
+        private int nanos;
+
+        private Parser(String value) {
+            this.value = value;
+        }
+
+        /**
+         * Parses the string.
+         *
+         * @return {@code true} if the string is in the canonical form, {@code false} otherwise
+         */
+        private boolean parseCanonical() {
+            if (value.length() < DATE_TIME_LENGTH + 1) {
+                return false;
+            }
+            int year = digits(4);
+            int month = separatedDigits('-', 2);
+            int day = separatedDigits('-', 2);
+            int hour = separatedDigits('T', 2);
+            int minute = separatedDigits(':', 2);
+            int second = separatedDigits(':', 2);
+            if ((year | month | day | hour | minute | second) < 0) {
+                return false;
+            }
+            if (year < 1 || month < 1 || month > 12 || day < 1 || day > daysInMonth(year, month)
+                    || hour > 23 || minute > 59 || second > 59) {
+                return false;
+            }
+            seconds = epochDay(year, month, day) * SECONDS_PER_DAY
+                    + hour * SECONDS_PER_HOUR + minute * SECONDS_PER_MINUTE + second;
+            if (!parseFraction()) {
+                return false;
+            }
+            return parseOffset();
+        }
+
+        private boolean parseFraction() {
+            if (position >= value.length() || value.charAt(position) != '.') {
+                return true;
+            }
+            position++;
+            int start = position;
+            int result = 0;
+            while (position < value.length() && isDigit(value.charAt(position))) {
+                result = result * 10 + (value.charAt(position) - '0');
+                position++;
+            }
+            int count = position - start;
+            if (count == 0 || count > 9) {
+                return false;
+            }
+            for (int i = count; i < 9; i++) {
+                result *= 10;
+            }
+            nanos = result;
+            return true;
+        }
+
+        private boolean parseOffset() {
+            if (position >= value.length()) {
+                return false;
+            }
+            char sign = value.charAt(position);
+            position++;
+            if (sign == 'Z') {
+                return position == value.length();
+            }
+            if (sign != '+' && sign != '-') {
+                return false;
+            }
+            int hours = digits(2);
+            int minutes = separatedDigits(':', 2);
+            if (minutes < 0 || position != value.length()) {
+                return false;
+            }
+            long offset = (hours * 60L + minutes) * SECONDS_PER_MINUTE;
+            seconds = sign == '+' ? seconds - offset : seconds + offset;
+            return true;
+        }
+
+        /**
+         * Reads the given separator followed by the given number of digits.
+         *
+         * @return the parsed number or {@code -1} if the string does not match
+         */
+        private int separatedDigits(char separator, int count) {
+            if (position >= value.length() || value.charAt(position) != separator) {
+                position = value.length();
+                return -1;
+            }
+            position++;
+            return digits(count);
+        }
+
+        /**
+         * Reads the given number of digits.
+         *
+         * @return the parsed number or {@code -1} if the string does not match
+         */
+        private int digits(int count) {
+            if (position + count > value.length()) {
+                position = value.length();
+                return -1;
+            }
+            int result = 0;
+            for (int i = 0; i < count; i++) {
+                char c = value.charAt(position + i);
+                if (!isDigit(c)) {
+                    position = value.length();
+                    return -1;
+                }
+                result = result * 10 + (c - '0');
+            }
+            position += count;
+            return result;
+        }
+
+        private static boolean isDigit(char c) {
+            return c >= '0' && c <= '9';
+        }
+    }
+}
@@ -21,7 +21,6 @@
 package io.spine.string;
 
 import com.google.protobuf.Timestamp;
-import com.google.protobuf.util.Timestamps;
 
 import java.text.ParseException;
 
@@ -45,13 +44,13 @@ final class TimestampStringifier extends SerializableStringifier<Timestamp> {
 
     @Override
     protected String toString(Timestamp value) {
-        return Timestamps.toString(value);
+        return TimestampFormat.toString(value);
     }
 
     @Override
     protected Timestamp fromString(String str) {
         try {
-            return Timestamps.parse(str);
+            return TimestampFormat.parse(str);
         } catch (ParseException e) {
             throw newIllegalArgumentException(e.getMessage(), e);
         }
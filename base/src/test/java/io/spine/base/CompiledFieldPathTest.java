@@ -0,0 +1,122 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.base;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Timestamp;
+import io.spine.test.protobuf.GenericHolder;
+import io.spine.test.protobuf.StringHolder;
+import io.spine.test.protobuf.StringHolderHolder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.base.CompiledFieldPath.compile;
+import static io.spine.base.FieldPaths.parse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("CompiledFieldPath should")
+class CompiledFieldPathTest {
+
+    @Test
+    @DisplayName("obtain value at a nested path")
+    void obtainNested() {
+        String value = "nested";
+        GenericHolder holder = holderOf(value);
+        CompiledFieldPath path = compile(parse("holder_holder.holder.val"),
+                                         GenericHolder.getDescriptor());
+
+        assertThat(path.getValue(holder)).isEqualTo(value);
+    }
+
+    @Test
+    @DisplayName("obtain values from several messages")
+    void obtainBulk() {
+        CompiledFieldPath path = compile(parse("holder_holder.holder.val"),
+                                         GenericHolder.getDescriptor());
+        ImmutableList<GenericHolder> holders =
+                ImmutableList.of(holderOf("a"), holderOf("b"), holderOf("c"));
+
+        assertThat(path.getValues(holders)).containsExactly("a", "b", "c")
+                                           .inOrder();
+    }
+
+    @Test
+    @DisplayName("reuse a compiled path for the same type")
+    void cache() {
+        FieldPath path = parse("holder_holder.holder");
+        CompiledFieldPath first = compile(path, GenericHolder.getDescriptor());
+        CompiledFieldPath second = compile(path, GenericHolder.getDescriptor());
+
+        assertSame(first, second);
+    }
+
+    @Test
+    @DisplayName("obtain the referenced field and its class")
+    void fieldType() {
+        CompiledFieldPath path = compile(parse("holder_holder.holder"),
+                                         GenericHolder.getDescriptor());
+
+        assertThat(path.field()
+                       .getName()).isEqualTo("holder");
+        assertThat(path.fieldClass()).isEqualTo(StringHolder.class);
+    }
+
+    @Test
+    @DisplayName("fail to compile a path with a typo")
+    void failOnTypo() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> compile(parse("generic.hldr"), GenericHolder.getDescriptor()));
+    }
+
+    @Test
+    @DisplayName("fail to compile a path reaching over a primitive value")
+    void failOnPrimitive() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> compile(parse("val.absent"), StringHolder.getDescriptor()));
+    }
+
+    @Test
+    @DisplayName("fail to apply to a message of another type")
+    void failOnWrongType() {
+        CompiledFieldPath path = compile(parse("val"), StringHolder.getDescriptor());
+
+        assertThrows(IllegalArgumentException.class,
+                     () -> path.getValue(Timestamp.getDefaultInstance()));
+    }
+
+    private static GenericHolder holderOf(String value) {
+        StringHolder stringHolder = StringHolder
+                .newBuilder()
+                .setVal(value)
+                .build();
+        StringHolderHolder holderHolder = StringHolderHolder
+                .newBuilder()
+                .setHolder(stringHolder)
+                .build();
+        GenericHolder result = GenericHolder
+                .newBuilder()
+                .setHolderHolder(holderHolder)
+                .build();
+        return result;
+    }
+}
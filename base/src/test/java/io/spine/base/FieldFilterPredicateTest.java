@@ -0,0 +1,205 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.base;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Any;
+import com.google.protobuf.Timestamp;
+import io.spine.test.protobuf.GenericHolder;
+import io.spine.test.protobuf.StringHolder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.protobuf.AnyPacker.pack;
+import static io.spine.protobuf.TypeConverter.toAny;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("FieldFilterPredicate should")
+class FieldFilterPredicateTest {
+
+    private static final StringHolder FOO = stringHolder("foo");
+    private static final StringHolder BAR = stringHolder("bar");
+    private static final StringHolder BAZ = stringHolder("baz");
+
+    @Nested
+    @DisplayName("accept a message if the field value")
+    class Accept {
+
+        @Test
+        @DisplayName("is one of the accepted primitive values")
+        void primitive() {
+            FieldFilterPredicate predicate = predicate(filter("val", "foo", "bar"));
+
+            assertThat(predicate.test(FOO)).isTrue();
+            assertThat(predicate.test(BAR)).isTrue();
+            assertThat(predicate.test(BAZ)).isFalse();
+        }
+
+        @Test
+        @DisplayName("is one of the accepted messages")
+        void message() {
+            FieldFilter filter = FieldFilter
+                    .newBuilder()
+                    .setFieldPath("str")
+                    .addValue(pack(FOO))
+                    .build();
+            FieldFilterPredicate predicate =
+                    FieldFilterPredicate.compile(GenericHolder.getDescriptor(),
+                                                 ImmutableList.of(filter));
+
+            assertThat(predicate.test(genericHolder(FOO))).isTrue();
+            assertThat(predicate.test(genericHolder(BAR))).isFalse();
+        }
+
+        @Test
+        @DisplayName("at a nested path is accepted")
+        void nested() {
+            FieldFilter filter = filter("str.val", "bar");
+            FieldFilterPredicate predicate =
+                    FieldFilterPredicate.compile(GenericHolder.getDescriptor(),
+                                                 ImmutableList.of(filter));
+
+            assertThat(predicate.test(genericHolder(BAR))).isTrue();
+            assertThat(predicate.test(genericHolder(BAZ))).isFalse();
+        }
+
+        @Test
+        @DisplayName("is accepted by all the filters")
+        void allFilters() {
+            Timestamp time = Timestamp
+                    .newBuilder()
+                    .setSeconds(42)
+                    .setNanos(7)
+                    .build();
+            FieldFilter seconds = FieldFilter
+                    .newBuilder()
+                    .setFieldPath("seconds")
+                    .addValue(toAny(42L))
+                    .build();
+            FieldFilter nanos = FieldFilter
+                    .newBuilder()
+                    .setFieldPath("nanos")
+                    .addValue(toAny(7))
+                    .build();
+            FieldFilterPredicate predicate =
+                    FieldFilterPredicate.compile(Timestamp.getDescriptor(),
+                                                 ImmutableList.of(seconds, nanos));
+
+            assertThat(predicate.test(time)).isTrue();
+            assertThat(predicate.test(time.toBuilder()
+                                          .setNanos(8)
+                                          .build())).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("accept all messages if there are no filters")
+    void noFilters() {
+        FieldFilterPredicate predicate =
+                FieldFilterPredicate.compile(StringHolder.getDescriptor(), ImmutableList.of());
+
+        assertThat(predicate.test(FOO)).isTrue();
+    }
+
+    @Test
+    @DisplayName("accept no messages by a filter without values")
+    void noValues() {
+        FieldFilterPredicate predicate = predicate(filter("val"));
+
+        assertThat(predicate.test(FOO)).isFalse();
+    }
+
+    @Test
+    @DisplayName("filter an iterable preserving the order")
+    void filterIterable() {
+        FieldFilterPredicate predicate = predicate(filter("val", "baz", "foo"));
+
+        assertThat(predicate.filter(ImmutableList.of(FOO, BAR, BAZ)))
+                .containsExactly(FOO, BAZ)
+                .inOrder();
+    }
+
+    @Test
+    @DisplayName("filter a stream")
+    void filterStream() {
+        FieldFilterPredicate predicate = predicate(filter("val", "bar"));
+
+        ImmutableList<StringHolder> result = predicate.filter(ImmutableList.of(FOO, BAR, BAZ)
+                                                                           .stream())
+                                                      .collect(toImmutableList());
+        assertThat(result).containsExactly(BAR);
+    }
+
+    @Test
+    @DisplayName("filter a collection in parallel preserving the order")
+    void filterParallel() {
+        ImmutableList.Builder<StringHolder> messages = ImmutableList.builder();
+        for (int i = 0; i < 1_000; i++) {
+            messages.add(FOO, BAR, BAZ);
+        }
+        FieldFilterPredicate predicate = predicate(filter("val", "foo", "baz"));
+
+        ImmutableList<StringHolder> result = predicate.filterParallel(messages.build());
+
+        assertThat(result).hasSize(2_000);
+        assertThat(result.subList(0, 4)).containsExactly(FOO, BAZ, FOO, BAZ)
+                                        .inOrder();
+    }
+
+    @Test
+    @DisplayName("fail to compile a filter with an unknown field")
+    void unknownField() {
+        assertThrows(IllegalArgumentException.class, () -> predicate(filter("value", "foo")));
+    }
+
+    private static FieldFilterPredicate predicate(FieldFilter filter) {
+        return FieldFilterPredicate.compile(StringHolder.getDescriptor(),
+                                            ImmutableList.of(filter));
+    }
+
+    private static FieldFilter filter(String path, String... values) {
+        FieldFilter.Builder result = FieldFilter
+                .newBuilder()
+                .setFieldPath(path);
+        for (String value : values) {
+            Any packed = toAny(value);
+            result.addValue(packed);
+        }
+        return result.build();
+    }
+
+    private static StringHolder stringHolder(String value) {
+        return StringHolder
+                .newBuilder()
+                .setVal(value)
+                .build();
+    }
+
+    private static GenericHolder genericHolder(StringHolder str) {
+        return GenericHolder
+                .newBuilder()
+                .setStr(str)
+                .build();
+    }
+}
@@ -28,11 +28,14 @@ import io.spine.test.protobuf.AnyHolder;
 import io.spine.test.protobuf.GenericHolder;
 import io.spine.test.protobuf.StringHolder;
 import io.spine.test.protobuf.StringHolderHolder;
+import io.spine.test.validate.RepeatedRequiredMsgFieldValue;
 import io.spine.testing.UtilityClassTest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth8.assertThat;
+import static io.spine.base.FieldPaths.find;
 import static io.spine.base.FieldPaths.getValue;
 import static io.spine.base.FieldPaths.parse;
 import static io.spine.base.FieldPaths.typeOfFieldAt;
@@ -163,6 +166,18 @@ class FieldPathsTest extends UtilityClassTest<FieldPaths> {
         assertThrows(IllegalArgumentException.class, () -> getValue(wrongPath, holder));
     }
 
+    @Test
+    @DisplayName("find a value at the path")
+    void findValue() {
+        StringHolder holder = StringHolder
+                .newBuilder()
+                .setVal("found")
+                .build();
+        assertThat(find(parse("val"), holder)).hasValue("found");
+        assertThat(find(parse("val.this_field_is_absent"), holder)).isEmpty();
+        assertThat(find(parse("wrong_field_name"), holder)).isEmpty();
+    }
+
     @Test
     @DisplayName("obtain a field type")
     void findTypeByPath() {
@@ -186,6 +201,13 @@ class FieldPathsTest extends UtilityClassTest<FieldPaths> {
                      () -> typeOfFieldAt(GenericHolder.class, wrongPath));
     }
 
+    @Test
+    @DisplayName("lookup types through repeated message fields")
+    void repeatedTypeLookup() {
+        FieldPath path = parse("value.value");
+        assertEquals(String.class, typeOfFieldAt(RepeatedRequiredMsgFieldValue.class, path));
+    }
+
     @Test
     @DisplayName("lookup recursive types")
     void recursiveTypeLookup() {
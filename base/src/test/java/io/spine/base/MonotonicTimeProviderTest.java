@@ -0,0 +1,163 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.base;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Timestamps;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.base.Time.currentTimes;
+import static io.spine.base.Time.resetProvider;
+import static io.spine.base.Time.setProvider;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("MonotonicTimeProvider should")
+class MonotonicTimeProviderTest {
+
+    @AfterEach
+    void tearDown() {
+        resetProvider();
+    }
+
+    @Test
+    @DisplayName("produce strictly increasing values when the clock does not advance")
+    void strictlyMonotonic() {
+        MonotonicTimeProvider provider = MonotonicTimeProvider.withClock(() -> 42L);
+
+        Timestamp first = provider.currentTime();
+        Timestamp second = provider.currentTime();
+        Timestamp third = provider.currentTime();
+
+        assertThat(Timestamps.toNanos(first)).isEqualTo(42L);
+        assertThat(Timestamps.toNanos(second)).isEqualTo(43L);
+        assertThat(Timestamps.toNanos(third)).isEqualTo(44L);
+    }
+
+    @Test
+    @DisplayName("produce increasing values when the clock goes back")
+    void clockGoesBack() {
+        AtomicLong clock = new AtomicLong(1_000L);
+        MonotonicTimeProvider provider = MonotonicTimeProvider.withClock(clock::get);
+
+        Timestamp first = provider.currentTime();
+        clock.set(10L);
+        Timestamp second = provider.currentTime();
+
+        assertThat(Timestamps.compare(first, second)).isLessThan(0);
+    }
+
+    @Test
+    @DisplayName("follow the clock when it advances")
+    void followClock() {
+        AtomicLong clock = new AtomicLong(1_000L);
+        MonotonicTimeProvider provider = MonotonicTimeProvider.withClock(clock::get);
+
+        provider.currentTime();
+        clock.set(3_000_000_001L);
+        Timestamp time = provider.currentTime();
+
+        assertThat(time.getSeconds()).isEqualTo(3L);
+        assertThat(time.getNanos()).isEqualTo(1);
+    }
+
+    @Nested
+    @DisplayName("reserve a batch of time values")
+    class Batch {
+
+        @Test
+        @DisplayName("which are consecutive")
+        void consecutive() {
+            MonotonicTimeProvider provider = MonotonicTimeProvider.withClock(() -> 999_999_999L);
+
+            ImmutableList<Timestamp> times = provider.currentTimes(3);
+
+            assertThat(times).hasSize(3);
+            assertThat(times.get(0)).isEqualTo(Timestamps.fromNanos(999_999_999L));
+            assertThat(times.get(1)).isEqualTo(Timestamps.fromNanos(1_000_000_000L));
+            assertThat(times.get(2)).isEqualTo(Timestamps.fromNanos(1_000_000_001L));
+        }
+
+        @Test
+        @DisplayName("not overlapping with the following values")
+        void notOverlapping() {
+            MonotonicTimeProvider provider = MonotonicTimeProvider.withClock(() -> 0L);
+
+            List<Timestamp> batch = provider.currentTimes(5);
+            Timestamp next = provider.currentTime();
+
+            assertThat(Timestamps.compare(batch.get(4), next)).isLessThan(0);
+        }
+
+        @Test
+        @DisplayName("via the Time utility")
+        void viaTime() {
+            setProvider(MonotonicTimeProvider.withClock(() -> 100L));
+
+            ImmutableList<Timestamp> times = currentTimes(2);
+
+            assertThat(times).containsExactly(Timestamps.fromNanos(100L),
+                                              Timestamps.fromNanos(101L))
+                             .inOrder();
+        }
+
+        @Test
+        @DisplayName("rejecting non-positive size")
+        void rejectNonPositive() {
+            MonotonicTimeProvider provider = MonotonicTimeProvider.precise();
+            assertThrows(IllegalArgumentException.class, () -> provider.currentTimes(0));
+        }
+    }
+
+    @Nested
+    @DisplayName("in the coarse mode")
+    class Coarse {
+
+        @Test
+        @DisplayName("produce strictly increasing values")
+        void increasing() {
+            try (MonotonicTimeProvider provider =
+                         MonotonicTimeProvider.coarse(Duration.ofMillis(10))) {
+                Timestamp previous = provider.currentTime();
+                for (int i = 0; i < 1_000; i++) {
+                    Timestamp current = provider.currentTime();
+                    assertThat(Timestamps.compare(previous, current)).isLessThan(0);
+                    previous = current;
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("reject non-positive tick interval")
+        void rejectZeroInterval() {
+            assertThrows(IllegalArgumentException.class,
+                         () -> MonotonicTimeProvider.coarse(Duration.ZERO));
+        }
+    }
+}
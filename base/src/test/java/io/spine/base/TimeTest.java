@@ -98,6 +98,15 @@ class TimeTest {
         assertNotEquals(0, systemTime());
     }
 
+    @Test
+    @DisplayName("obtain a batch of time values from the provider")
+    void batch() {
+        Timestamp time = subtract(systemTime(), DURATION_1_MINUTE);
+        setProvider(new ConstantTimeProvider(time));
+
+        assertThat(Time.currentTimes(3)).containsExactly(time, time, time);
+    }
+
     @Test
     @DisplayName("obtain current time zone")
     void timeZone() {
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.code.proto;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.google.protobuf.Any;
+import com.google.protobuf.DescriptorProtos.FileDescriptorSet;
+import com.google.protobuf.Timestamp;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
+import org.junitpioneer.jupiter.TempDirectory.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static com.google.common.truth.Truth8.assertThat;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.copyOf;
+
+@DisplayName("DescriptorSetCache should")
+@ExtendWith(TempDirectory.class)
+class DescriptorSetCacheTest {
+
+    private static final HashCode KEY = Hashing.sha256()
+                                               .hashString("key", UTF_8);
+    private static final FileDescriptorSet DESCRIPTOR_SET = FileDescriptorSet
+            .newBuilder()
+            .addFile(Timestamp.getDescriptor()
+                              .getFile()
+                              .toProto())
+            .addFile(Any.getDescriptor()
+                        .getFile()
+                        .toProto())
+            .build();
+
+    private Path file;
+    private DescriptorSetCache cache;
+
+    @BeforeEach
+    void setUp(@TempDir Path directory) {
+        file = directory.resolve("cache")
+                        .resolve("descriptors.bin");
+        cache = new DescriptorSetCache(file);
+    }
+
+    @Test
+    @DisplayName("read the written descriptor set")
+    void readWritten() {
+        cache.write(KEY, DESCRIPTOR_SET);
+
+        assertThat(cache.read(KEY)).hasValue(DESCRIPTOR_SET);
+    }
+
+    @Test
+    @DisplayName("not read the descriptor set written under another key")
+    void ignoreStale() {
+        cache.write(KEY, DESCRIPTOR_SET);
+        HashCode anotherKey = Hashing.sha256()
+                                     .hashString("another key", UTF_8);
+
+        assertThat(cache.read(anotherKey)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("overwrite the stale descriptor set")
+    void overwrite() {
+        cache.write(KEY, FileDescriptorSet.getDefaultInstance());
+        cache.write(KEY, DESCRIPTOR_SET);
+
+        assertThat(cache.read(KEY)).hasValue(DESCRIPTOR_SET);
+    }
+
+    @Test
+    @DisplayName("be empty if the file does not exist")
+    void missingFile() {
+        assertThat(cache.read(KEY)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("be empty if the file is corrupted")
+    void corruptedFile() throws IOException {
+        cache.write(KEY, DESCRIPTOR_SET);
+        byte[] content = Files.readAllBytes(file);
+        Files.write(file, copyOf(content, content.length / 2));
+
+        assertThat(cache.read(KEY)).isEmpty();
+    }
+}
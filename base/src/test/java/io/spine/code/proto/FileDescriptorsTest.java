@@ -29,7 +29,13 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
 
+import static com.google.common.collect.Sets.newHashSet;
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth.assertWithMessage;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 
 @DisplayName("FileDescriptors utility class should")
@@ -50,4 +56,39 @@ class FileDescriptorsTest extends UtilityClassTest<FileDescriptors> {
         Collection<FileDescriptorProto> fileSets = FileDescriptors.load();
         assertFalse(fileSets.isEmpty());
     }
+
+    @Test
+    @DisplayName("load files in the dependency order")
+    void loadInDependencyOrder() {
+        Set<String> loaded = newHashSet();
+        for (FileDescriptorProto file : FileDescriptors.load()) {
+            for (String dependency : file.getDependencyList()) {
+                assertWithMessage("`%s` must be loaded before `%s`.", dependency, file.getName())
+                        .that(loaded)
+                        .contains(dependency);
+            }
+            loaded.add(file.getName());
+        }
+    }
+
+    @Test
+    @DisplayName("order files after their dependencies")
+    void orderByDependencies() {
+        FileDescriptorProto any = Any.getDescriptor()
+                                     .getFile()
+                                     .toProto();
+        FileDescriptorProto dependent = FileDescriptorProto
+                .newBuilder()
+                .setName("dependent.proto")
+                .addDependency(any.getName())
+                .addDependency("missing.proto")
+                .build();
+        Map<String, FileDescriptorProto> files = new LinkedHashMap<>();
+        files.put(dependent.getName(), dependent);
+        files.put(any.getName(), any);
+
+        assertThat(FileDescriptors.inDependencyOrder(files))
+                .containsExactly(any, dependent)
+                .inOrder();
+    }
 }
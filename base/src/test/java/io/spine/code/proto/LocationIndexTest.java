@@ -0,0 +1,125 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.code.proto;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.DescriptorProtos.SourceCodeInfo;
+import com.google.protobuf.DescriptorProtos.SourceCodeInfo.Location;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth8.assertThat;
+import static com.google.protobuf.DescriptorProtos.FileDescriptorProto.MESSAGE_TYPE_FIELD_NUMBER;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("LocationIndex should")
+class LocationIndexTest {
+
+    private static final Location MESSAGE =
+            location("Message comment.", MESSAGE_TYPE_FIELD_NUMBER, 0);
+    private static final Location FIELD =
+            location("Field comment.", MESSAGE_TYPE_FIELD_NUMBER, 0, 2, 1);
+    private static final Location DUPLICATE =
+            location("Duplicate.", MESSAGE_TYPE_FIELD_NUMBER, 0);
+    private static final Location UNCOMMENTED = Location
+            .newBuilder()
+            .addPath(MESSAGE_TYPE_FIELD_NUMBER)
+            .addPath(1)
+            .build();
+
+    private static final FileDescriptorProto FILE = FileDescriptorProto
+            .newBuilder()
+            .setName("index_test.proto")
+            .setSourceCodeInfo(SourceCodeInfo.newBuilder()
+                                             .addLocation(MESSAGE)
+                                             .addLocation(FIELD)
+                                             .addLocation(DUPLICATE)
+                                             .addLocation(UNCOMMENTED))
+            .build();
+
+    @Test
+    @DisplayName("find a location by its path")
+    void find() {
+        LocationIndex index = LocationIndex.of(FILE);
+
+        assertThat(index.find(path(MESSAGE_TYPE_FIELD_NUMBER, 0, 2, 1))).hasValue(FIELD);
+        assertThat(index.find(path(MESSAGE_TYPE_FIELD_NUMBER, 1))).hasValue(UNCOMMENTED);
+        assertThat(index.find(path(MESSAGE_TYPE_FIELD_NUMBER, 5))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("index the first of the locations with the same path")
+    void firstLocation() {
+        LocationIndex index = LocationIndex.of(FILE);
+
+        assertThat(index.find(path(MESSAGE_TYPE_FIELD_NUMBER, 0))).hasValue(MESSAGE);
+    }
+
+    @Test
+    @DisplayName("be built once per file")
+    void cached() {
+        assertSame(LocationIndex.of(FILE), LocationIndex.of(FILE));
+    }
+
+    @Test
+    @DisplayName("obtain all leading comments of the file")
+    void allComments() {
+        assertThat(LocationIndex.of(FILE).leadingComments())
+                .containsExactly(path(MESSAGE_TYPE_FIELD_NUMBER, 0), "Message comment.",
+                                 path(MESSAGE_TYPE_FIELD_NUMBER, 0, 2, 1), "Field comment.");
+    }
+
+    @Test
+    @DisplayName("tell if the file has no source code information")
+    void noSourceInfo() {
+        FileDescriptorProto file = FileDescriptorProto.newBuilder()
+                                                      .setName("no_info.proto")
+                                                      .build();
+        LocationIndex index = LocationIndex.of(file);
+
+        assertThat(index.hasSourceInfo()).isFalse();
+        assertThat(index.leadingComments()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("be used by `LocationPath`")
+    void locationPath() {
+        assertThat(path(MESSAGE_TYPE_FIELD_NUMBER, 0, 2, 1).toLocation(FILE)).isEqualTo(FIELD);
+        assertThrows(IllegalStateException.class,
+                     () -> path(MESSAGE_TYPE_FIELD_NUMBER, 5).toLocation(FILE));
+    }
+
+    private static Location location(String comment, Integer... path) {
+        return Location.newBuilder()
+                       .addAllPath(ImmutableList.copyOf(path))
+                       .setLeadingComments(comment)
+                       .build();
+    }
+
+    private static LocationPath path(Integer... items) {
+        LocationPath path = new LocationPath();
+        path.addAll(ImmutableList.copyOf(items));
+        return path;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.code.proto;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorSet;
+import io.spine.io.Resource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.code.proto.FileDescriptors.KNOWN_TYPES;
+
+@DisplayName("RawDescriptorSet should")
+class RawDescriptorSetTest {
+
+    private static final FileDescriptorProto BASE = file("base.proto", "first");
+    private static final FileDescriptorProto DEPENDENT = FileDescriptorProto
+            .newBuilder()
+            .setName("dependent.proto")
+            .addDependency(BASE.getName())
+            .build();
+
+    @Test
+    @DisplayName("skip missing resources")
+    void skipMissing() {
+        ImmutableList<Resource> resources = ImmutableList.of(Resource.file("missing.desc"),
+                                                             Resource.file(KNOWN_TYPES));
+        ImmutableList<RawDescriptorSet> read = RawDescriptorSet.readAll(resources.iterator());
+
+        assertThat(read).hasSize(1);
+        assertThat(read.get(0)
+                       .toString()).isEqualTo(KNOWN_TYPES);
+    }
+
+    @Test
+    @DisplayName("take the file from the first descriptor set")
+    void takeFirst() {
+        FileDescriptorProto duplicate = file(BASE.getName(), "second");
+        ImmutableList<RawDescriptorSet> descriptorSets = ImmutableList.of(
+                rawSet("first.desc", DEPENDENT, BASE),
+                rawSet("second.desc", duplicate),
+                rawSet("third.desc", duplicate, file("other.proto", "third"))
+        );
+
+        for (int attempt = 0; attempt < 20; attempt++) {
+            FileDescriptorSet merged = RawDescriptorSet.merge(descriptorSets);
+            assertThat(merged.getFileList())
+                    .containsExactly(BASE, DEPENDENT, file("other.proto", "third"))
+                    .inOrder();
+        }
+    }
+
+    private static FileDescriptorProto file(String name, String packageName) {
+        return FileDescriptorProto.newBuilder()
+                                  .setName(name)
+                                  .setPackage(packageName)
+                                  .build();
+    }
+
+    private static RawDescriptorSet rawSet(String name, FileDescriptorProto... files) {
+        byte[] content = FileDescriptorSet.newBuilder()
+                                          .addAllFile(ImmutableList.copyOf(files))
+                                          .build()
+                                          .toByteArray();
+        return new RawDescriptorSet(Resource.file(name), content);
+    }
+}
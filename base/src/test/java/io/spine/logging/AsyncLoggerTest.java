@@ -0,0 +1,234 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.logging;
+
+import io.spine.logging.AsyncLogging.OverflowPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+import org.slf4j.event.EventRecodingLogger;
+import org.slf4j.event.Level;
+import org.slf4j.event.SubstituteLoggingEvent;
+import org.slf4j.helpers.SubstituteLogger;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.util.concurrent.Uninterruptibles.awaitUninterruptibly;
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("AsyncLogger should")
+class AsyncLoggerTest {
+
+    private static final String CONTEXT_KEY = "request";
+
+    private final Queue<SubstituteLoggingEvent> events = new ConcurrentLinkedQueue<>();
+    private final SubstituteLogger target = new SubstituteLogger("async-test", events, false);
+    private LogDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.stop();
+        }
+        AsyncLogging.disable();
+        MDC.clear();
+    }
+
+    @Test
+    @DisplayName("pass formatted messages to the delegate in order")
+    void passMessages() {
+        Logger logger = asyncLogger(new EventRecodingLogger(target, events), 16,
+                                    OverflowPolicy.BLOCK);
+        IllegalStateException exception = new IllegalStateException("Test");
+
+        logger.info("Hello, {}!", "world");
+        logger.warn("{} + {} = {}", 1, 2, 3);
+        logger.error("Failed.", exception);
+        dispatcher.stop();
+
+        assertThat(messages()).containsExactly("Hello, world!", "1 + 2 = 3", "Failed.")
+                              .inOrder();
+        assertThat(levels()).containsExactly(Level.INFO, Level.WARN, Level.ERROR)
+                            .inOrder();
+        assertThat(events.stream()
+                         .map(SubstituteLoggingEvent::getThrowable)
+                         .collect(toList()))
+                .containsExactly(null, null, exception)
+                .inOrder();
+    }
+
+    @Test
+    @DisplayName("pass markers and the diagnostic context of the calling thread")
+    void markerAndContext() {
+        Queue<String> contextValues = new ConcurrentLinkedQueue<>();
+        Logger delegate = new EventRecodingLogger(target, events) {
+            @Override
+            public void info(Marker marker, String msg, Throwable t) {
+                contextValues.add(String.valueOf(MDC.get(CONTEXT_KEY)));
+                super.info(marker, msg, t);
+            }
+        };
+        Logger logger = asyncLogger(delegate, 16, OverflowPolicy.BLOCK);
+        Marker marker = MarkerFactory.getMarker("TEST");
+
+        MDC.put(CONTEXT_KEY, "42");
+        logger.info(marker, "With context");
+        MDC.remove(CONTEXT_KEY);
+        logger.info("Without context");
+        dispatcher.stop();
+
+        assertThat(contextValues).containsExactly("42", "null")
+                                 .inOrder();
+        assertThat(events.stream()
+                         .map(SubstituteLoggingEvent::getMarker)
+                         .collect(toList()))
+                .containsExactly(marker, null)
+                .inOrder();
+    }
+
+    @Test
+    @DisplayName("not record calls at disabled levels")
+    void disabledLevels() {
+        Logger delegate = new EventRecodingLogger(target, events) {
+            @Override
+            public boolean isTraceEnabled() {
+                return false;
+            }
+        };
+        Logger logger = asyncLogger(delegate, 16, OverflowPolicy.BLOCK);
+
+        logger.trace("Hidden {}", "message");
+        logger.debug("Visible {}", "message");
+        dispatcher.stop();
+
+        assertThat(messages()).containsExactly("Visible message");
+    }
+
+    @Test
+    @DisplayName("deliver all messages from concurrent threads when blocking")
+    void block() throws InterruptedException {
+        Logger logger = asyncLogger(new EventRecodingLogger(target, events), 4,
+                                    OverflowPolicy.BLOCK);
+        int threads = 4;
+        int perThread = 1_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    logger.debug("Message {}", i);
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, SECONDS)).isTrue();
+        dispatcher.stop();
+
+        assertThat(events).hasSize(threads * perThread);
+        assertThat(dispatcher.droppedCount()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("drop messages which do not fit into the buffer")
+    void drop() throws InterruptedException {
+        CountDownLatch dispatching = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Logger delegate = new EventRecodingLogger(target, events) {
+            @Override
+            public void info(Marker marker, String msg, Throwable t) {
+                dispatching.countDown();
+                awaitUninterruptibly(release);
+                super.info(marker, msg, t);
+            }
+        };
+        Logger logger = asyncLogger(delegate, 2, OverflowPolicy.DROP);
+
+        logger.info("Message {}", 0);
+        assertThat(dispatching.await(10, SECONDS)).isTrue();
+        for (int i = 1; i < 5; i++) {
+            logger.info("Message {}", i);
+        }
+        release.countDown();
+        dispatcher.stop();
+
+        assertThat(messages()).containsExactly("Message 0", "Message 1", "Message 2")
+                              .inOrder();
+        assertThat(dispatcher.droppedCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("log synchronously once stopped")
+    void synchronousAfterStop() {
+        Logger logger = asyncLogger(new EventRecodingLogger(target, events), 16,
+                                    OverflowPolicy.DROP);
+        dispatcher.stop();
+
+        logger.info("After stop");
+
+        assertThat(messages()).containsExactly("After stop");
+    }
+
+    @Test
+    @DisplayName("be produced only when the asynchronous mode is enabled")
+    void mode() {
+        Logger logger = new EventRecodingLogger(target, events);
+        assertSame(logger, AsyncLogging.wrap(logger));
+
+        AsyncLogging.enable();
+        assertThat(AsyncLogging.isEnabled()).isTrue();
+        assertThat(AsyncLogging.wrap(logger)).isInstanceOf(AsyncLogger.class);
+        assertThrows(IllegalStateException.class, AsyncLogging::enable);
+
+        AsyncLogging.disable();
+        assertThat(AsyncLogging.isEnabled()).isFalse();
+    }
+
+    private Logger asyncLogger(Logger delegate, int capacity, OverflowPolicy policy) {
+        dispatcher = new LogDispatcher(capacity, policy);
+        dispatcher.start();
+        return new AsyncLogger(delegate, dispatcher);
+    }
+
+    private List<String> messages() {
+        return events.stream()
+                     .map(SubstituteLoggingEvent::getMessage)
+                     .collect(toImmutableList());
+    }
+
+    private List<Level> levels() {
+        return events.stream()
+                     .map(SubstituteLoggingEvent::getLevel)
+                     .collect(toImmutableList());
+    }
+}
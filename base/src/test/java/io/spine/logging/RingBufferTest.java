@@ -0,0 +1,115 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("RingBuffer should")
+class RingBufferTest {
+
+    @Test
+    @DisplayName("round the capacity up to the power of two")
+    void capacity() {
+        assertThat(new RingBuffer<String>(5).capacity()).isEqualTo(8);
+        assertThat(new RingBuffer<String>(8).capacity()).isEqualTo(8);
+        assertThrows(IllegalArgumentException.class, () -> new RingBuffer<String>(0));
+    }
+
+    @Test
+    @DisplayName("reject elements when full")
+    void full() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(2);
+
+        assertThat(buffer.offer(1)).isTrue();
+        assertThat(buffer.offer(2)).isTrue();
+        assertThat(buffer.offer(3)).isFalse();
+    }
+
+    @Test
+    @DisplayName("drain elements in order in batches")
+    void drain() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(4);
+        List<Integer> drained = new ArrayList<>();
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 4; i++) {
+                buffer.offer(round * 4 + i);
+            }
+            assertThat(buffer.drainTo(drained::add, 3)).isEqualTo(3);
+            assertThat(buffer.drainTo(drained::add, 3)).isEqualTo(1);
+            assertThat(buffer.isEmpty()).isTrue();
+        }
+
+        assertThat(drained).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11)
+                           .inOrder();
+        assertThat(buffer.drainTo(drained::add, 3)).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("accept elements from concurrent producers")
+    void concurrentProducers() throws InterruptedException {
+        int producers = 4;
+        int perProducer = 10_000;
+        RingBuffer<Integer> buffer = new RingBuffer<>(64);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            executor.execute(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    Integer element = producer * perProducer + i;
+                    while (!buffer.offer(element)) {
+                        Thread.yield();
+                    }
+                }
+                done.countDown();
+            });
+        }
+        boolean[] seen = new boolean[producers * perProducer];
+        int[] lastOfProducer = new int[producers];
+        Arrays.fill(lastOfProducer, -1);
+        int received = 0;
+        while (received < seen.length) {
+            received += buffer.drainTo(element -> {
+                assertThat(seen[element]).isFalse();
+                seen[element] = true;
+                int producer = element / perProducer;
+                assertThat(element).isGreaterThan(lastOfProducer[producer]);
+                lastOfProducer[producer] = element;
+            }, 16);
+        }
+        assertThat(done.await(10, SECONDS)).isTrue();
+        executor.shutdown();
+
+        assertThat(buffer.isEmpty()).isTrue();
+    }
+}
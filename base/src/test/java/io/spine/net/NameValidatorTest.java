@@ -0,0 +1,191 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.net;
+
+import com.google.common.base.Strings;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth.assertWithMessage;
+import static io.spine.net.Patterns.EMAIL_ADDRESS;
+import static io.spine.net.Patterns.HOST_NAME_PATTERN;
+
+@DisplayName("NameValidator should")
+class NameValidatorTest {
+
+    /**
+     * The fragments to build random inputs from.
+     *
+     * <p>Includes the characters on the boundaries of the character classes used by the patterns,
+     * such as non-ASCII letters, Unicode space characters, supplementary code points, and
+     * unpaired surrogates.
+     */
+    private static final String[] FRAGMENTS = {
+            "a", "Z", "0", "9", "-", "_", "+", "%", ".", "@", " ",
+            "é", "\u00A0", "\u2005", "\u3000", "Ж", "\uF900", "\uFDD0", "\uFFEF",
+            "\uD83D\uDE00", "\uDB40\uDC01", "\uDB44\uDC00", "\uD800",
+            "xn--", "xn--p1ai", "com", "io"
+    };
+
+    private static final long SEED = 42L;
+    private static final int SAMPLE_COUNT = 200_000;
+
+    @Nested
+    @DisplayName("accept the same email addresses as the pattern")
+    class EmailAddress {
+
+        @ParameterizedTest
+        @DisplayName("for known values")
+        @ValueSource(strings = {
+                "user@site.com", "a@b.com", "a@b-c.com", "first.last+tag@mail.example.org",
+                "@site.org", "user@", "user @ site.com", "user@site", "user@site.", "user@.com",
+                "user@-site.com", "user@site..com", "user@si_te.com", "us@er@site.com",
+                "é@site.com", "user@sé.com"
+        })
+        void known(String value) {
+            assertSameAsPattern(value);
+        }
+
+        @Test
+        @DisplayName("on the boundaries of the length limits")
+        void lengthLimits() {
+            for (int length = 250; length < 260; length++) {
+                assertSameAsPattern(Strings.repeat("u", length) + "@site.com");
+            }
+            for (int length = 60; length < 70; length++) {
+                assertSameAsPattern("user@" + Strings.repeat("s", length) + ".com");
+            }
+            for (int length = 20; length < 30; length++) {
+                assertSameAsPattern("user@site." + Strings.repeat("c", length));
+            }
+        }
+
+        @Test
+        @DisplayName("for random values")
+        void random() {
+            Random random = new Random(SEED);
+            for (int i = 0; i < SAMPLE_COUNT; i++) {
+                String local = randomString(random);
+                String domain = randomDomain(random);
+                assertSameAsPattern(local + '@' + domain);
+                assertSameAsPattern(randomString(random));
+            }
+        }
+
+        private void assertSameAsPattern(String value) {
+            boolean expected = EMAIL_ADDRESS.matcher(value)
+                                            .matches();
+            assertWithMessage("Email address `%s`", value)
+                    .that(NameValidator.isEmailAddress(value))
+                    .isEqualTo(expected);
+        }
+    }
+
+    @Nested
+    @DisplayName("accept the same host names as the pattern")
+    class HostName {
+
+        @ParameterizedTest
+        @DisplayName("for known values")
+        @ValueSource(strings = {
+                "spine.io", "teamdev.com", "a.com", "boeng747.aero", "192.168.0.1", ".com", "com",
+                "a-.com", "-a.com", "a--b.com", "site.c", "site.xn--p1ai", "site.xn--",
+                "site.xn--a-", "пример.рф",
+                "site.c0m", "\uD83D\uDE00.com", "site\u3000.com"
+        })
+        void known(String value) {
+            assertSameAsPattern(value);
+        }
+
+        @Test
+        @DisplayName("on the boundaries of the length limits")
+        void lengthLimits() {
+            for (int length = 60; length < 66; length++) {
+                assertSameAsPattern(Strings.repeat("s", length) + ".com");
+                assertSameAsPattern("site." + Strings.repeat("c", length));
+                assertSameAsPattern("site.xn--" + Strings.repeat("c", length - 4));
+                assertSameAsPattern(Strings.repeat("\uD83D\uDE00", length) + ".com");
+            }
+        }
+
+        @Test
+        @DisplayName("for random values")
+        void random() {
+            Random random = new Random(SEED);
+            for (int i = 0; i < SAMPLE_COUNT; i++) {
+                assertSameAsPattern(randomDomain(random));
+                assertSameAsPattern(randomString(random));
+            }
+        }
+
+        private void assertSameAsPattern(String value) {
+            boolean expected = HOST_NAME_PATTERN.matcher(value)
+                                                .matches();
+            assertWithMessage("Host name `%s`", value)
+                    .that(NameValidator.isHostName(value))
+                    .isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("validate a long malicious input in linear time")
+    void noBacktracking() {
+        String input = Strings.repeat("a.", 50_000) + '!';
+
+        assertThat(NameValidator.isHostName(input)).isFalse();
+        assertThat(NameValidator.isEmailAddress("user@" + input)).isFalse();
+    }
+
+    private static String randomDomain(Random random) {
+        int labelCount = 1 + random.nextInt(4);
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < labelCount; i++) {
+            if (i > 0) {
+                result.append('.');
+            }
+            int maxLength = random.nextInt(5) == 0 ? 70 : 8;
+            int length = random.nextInt(maxLength);
+            for (int j = 0; j < length; j++) {
+                if (random.nextInt(8) == 0) {
+                    result.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+                } else {
+                    result.append((char) ('a' + random.nextInt(26)));
+                }
+            }
+        }
+        return result.toString();
+    }
+
+    private static String randomString(Random random) {
+        int length = random.nextInt(12);
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            result.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+        }
+        return result.toString();
+    }
+}
@@ -24,6 +24,7 @@ import io.spine.net.Uri.Authorization;
 import io.spine.net.Uri.Protocol;
 import io.spine.testing.UtilityClassTest;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -31,6 +32,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import java.util.stream.Stream;
 
 import static com.google.common.truth.Truth.assertThat;
+import static io.spine.net.UrlPrinter.printTo;
 import static io.spine.net.UrlPrinter.printToString;
 
 @SuppressWarnings("CheckReturnValue") // Calling builder methods.
@@ -112,4 +114,15 @@ class UrlPrinterTest extends UtilityClassTest<UrlPrinter> {
         String str = printToString(record);
         assertThat(str).isEqualTo(expectedOutput);
     }
+
+    @Test
+    @DisplayName("append URL to the given buffer")
+    void printToBuffer() {
+        StringBuilder buffer = new StringBuilder("URL: ");
+        printTo(Uri.newBuilder()
+                   .setHost(HOST)
+                   .setPath("docs")
+                   .build(), buffer);
+        assertThat(buffer.toString()).isEqualTo("URL: spine.io/docs");
+    }
 }
@@ -20,6 +20,7 @@
 
 package io.spine.net;
 
+import com.google.common.testing.NullPointerTester;
 import io.spine.testing.UtilityClassTest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -33,6 +34,11 @@ class UrlsTest extends UtilityClassTest<Urls> {
         super(Urls.class);
     }
 
+    @Override
+    protected void configure(NullPointerTester tester) {
+        tester.setDefault(Uri.class, Uri.getDefaultInstance());
+    }
+
     @Test
     @DisplayName("create new instances")
     void create() {
@@ -50,4 +56,20 @@ class UrlsTest extends UtilityClassTest<Urls> {
         Url url = Urls.create(expected);
         assertThat(Urls.toString(url)).isEqualTo(expected);
     }
+
+    @Test
+    @DisplayName("append URL records to a given buffer")
+    void appendTo() {
+        Uri uri = Uri.newBuilder()
+                     .setProtocol(Uri.Protocol.newBuilder()
+                                              .setSchema(Uri.Schema.HTTP))
+                     .setHost("foo-bar.com")
+                     .setPath("index")
+                     .build();
+        StringBuilder buffer = new StringBuilder("url: ");
+
+        Urls.appendTo(uri, buffer);
+
+        assertThat(buffer.toString()).isEqualTo("url: http://foo-bar.com/index");
+    }
 }
@@ -37,6 +37,7 @@ import static com.google.common.truth.Truth.assertThat;
 import static io.spine.net.string.NetStringifiers.forEmailAddress;
 import static io.spine.net.string.NetStringifiers.forInternetDomain;
 import static io.spine.net.string.NetStringifiers.forUrl;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class NetStringifiersTest extends UtilityClassTest<NetStringifiers> {
 
@@ -58,6 +59,17 @@ class NetStringifiersTest extends UtilityClassTest<NetStringifiers> {
         Truth8.assertThat(optional).hasValue(stringifier);
     }
 
+    @Test
+    @DisplayName("reject invalid values")
+    void rejectInvalid() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> forEmailAddress().reverse()
+                                            .convert("not an email"));
+        assertThrows(IllegalArgumentException.class,
+                     () -> forInternetDomain().reverse()
+                                              .convert("localhost"));
+    }
+
     @Nested
     @DisplayName("convert to string and back")
     class Convert {
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.protobuf;
+
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.UnknownFieldSet;
+import io.spine.base.FieldPath;
+import io.spine.code.proto.FieldDeclaration;
+import io.spine.test.protobuf.GenericHolder;
+import io.spine.test.protobuf.StringHolder;
+import io.spine.test.protobuf.StringHolderHolder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.base.FieldPaths.parse;
+import static io.spine.test.protobuf.GenericHolder.HOLDER_HOLDER_FIELD_NUMBER;
+import static io.spine.test.protobuf.GenericHolder.STR_FIELD_NUMBER;
+
+@DisplayName("Diff should")
+class DiffTest {
+
+    @Test
+    @DisplayName("be empty for equal messages")
+    void equalMessages() {
+        GenericHolder a = holder("foo", "bar");
+        GenericHolder b = holder("foo", "bar");
+
+        Diff diff = Diff.between(a, b);
+
+        assertThat(diff.isEmpty()).isTrue();
+        assertThat(diff.changedPaths()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("contain the fields with different values")
+    void changedFields() {
+        GenericHolder a = holder("foo", "bar");
+        GenericHolder b = holder("foo", "baz");
+
+        Diff diff = Diff.between(a, b);
+
+        FieldDescriptor str = field(STR_FIELD_NUMBER);
+        FieldDescriptor holderHolder = field(HOLDER_HOLDER_FIELD_NUMBER);
+        assertThat(diff.contains(str)).isFalse();
+        assertThat(diff.contains(holderHolder)).isTrue();
+        assertThat(diff.contains(new FieldDeclaration(holderHolder))).isTrue();
+    }
+
+    @Test
+    @DisplayName("contain the fields present only in one of the messages")
+    void presentInOne() {
+        GenericHolder a = holder("foo", "bar");
+        GenericHolder b = GenericHolder
+                .newBuilder()
+                .setStr(a.getStr())
+                .build();
+
+        Diff diff = Diff.between(a, b);
+
+        BitSet expected = new BitSet();
+        expected.set(HOLDER_HOLDER_FIELD_NUMBER);
+        assertThat(diff.changedFieldNumbers()).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("not contain fields of other types")
+    void otherType() {
+        Diff diff = Diff.between(holder("foo", "bar"), holder("baz", "bar"));
+
+        FieldDescriptor otherField = StringHolder.getDescriptor()
+                                                 .findFieldByNumber(STR_FIELD_NUMBER);
+        assertThat(diff.contains(otherField)).isFalse();
+    }
+
+    @Nested
+    @DisplayName("report changed paths")
+    class ChangedPaths {
+
+        @Test
+        @DisplayName("of the nested fields")
+        void nested() {
+            Diff diff = Diff.between(holder("foo", "bar"), holder("baz", "qux"));
+
+            assertThat(diff.changedPaths()).containsExactly(parse("str.val"),
+                                                            parse("holder_holder.holder.val"))
+                                           .inOrder();
+        }
+
+        @Test
+        @DisplayName("of the message fields present only in one of the messages")
+        void presentInOne() {
+            GenericHolder a = holder("foo", "bar");
+            GenericHolder b = a.toBuilder()
+                               .clearHolderHolder()
+                               .build();
+
+            FieldPath expected = parse("holder_holder");
+            assertThat(Diff.between(a, b)
+                           .changedPaths()).containsExactly(expected);
+        }
+
+        @Test
+        @DisplayName("of the message fields differing only in unknown fields")
+        void unknownFields() {
+            GenericHolder a = holder("foo", "bar");
+            UnknownFieldSet unknownFields = UnknownFieldSet
+                    .newBuilder()
+                    .addField(100, UnknownFieldSet.Field.newBuilder()
+                                                        .addVarint(42)
+                                                        .build())
+                    .build();
+            StringHolder str = a.getStr()
+                                .toBuilder()
+                                .setUnknownFields(unknownFields)
+                                .build();
+            GenericHolder b = a.toBuilder()
+                               .setStr(str)
+                               .build();
+
+            FieldPath expected = parse("str");
+            assertThat(Diff.between(a, b)
+                           .changedPaths()).containsExactly(expected);
+        }
+    }
+
+    private static FieldDescriptor field(int number) {
+        return GenericHolder.getDescriptor()
+                            .findFieldByNumber(number);
+    }
+
+    private static GenericHolder holder(String str, String nested) {
+        StringHolder nestedHolder = StringHolder
+                .newBuilder()
+                .setVal(nested)
+                .build();
+        StringHolderHolder holderHolder = StringHolderHolder
+                .newBuilder()
+                .setHolder(nestedHolder)
+                .build();
+        GenericHolder result = GenericHolder
+                .newBuilder()
+                .setStr(StringHolder.newBuilder()
+                                    .setVal(str))
+                .setHolderHolder(holderHolder)
+                .build();
+        return result;
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.protobuf;
+
+import com.google.protobuf.FieldMask;
+import com.google.protobuf.UnknownFieldSet;
+import io.spine.protobuf.MessageDelta.FieldChange;
+import io.spine.test.protobuf.DeltaAssignee;
+import io.spine.test.protobuf.DeltaTask;
+import io.spine.test.protobuf.DeltaTaskStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth8.assertThat;
+import static io.spine.base.FieldPaths.parse;
+import static io.spine.protobuf.MessageDelta.FieldChange.Kind.ADD_ELEMENT;
+import static io.spine.protobuf.MessageDelta.FieldChange.Kind.CLEAR;
+import static io.spine.protobuf.MessageDelta.FieldChange.Kind.PUT_ENTRY;
+import static io.spine.protobuf.MessageDelta.FieldChange.Kind.REMOVE_ENTRY;
+import static io.spine.protobuf.MessageDelta.FieldChange.Kind.SET;
+import static io.spine.protobuf.MessageDelta.FieldChange.Kind.SET_ELEMENT;
+import static io.spine.protobuf.MessageDelta.FieldChange.Kind.TRUNCATE;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("MessageDelta should")
+class MessageDeltaTest {
+
+    private static final int UNKNOWN_FIELD_NUMBER = 100;
+
+    private static final DeltaTask TASK = DeltaTask
+            .newBuilder()
+            .setTitle("Write tests")
+            .setAssignee(DeltaAssignee.newBuilder()
+                                      .setName("Jane")
+                                      .setEmail("jane@example.com"))
+            .addLabel("testing")
+            .addLabel("urgent")
+            .putEstimate("design", 2)
+            .putEstimate("coding", 5)
+            .setStatus(DeltaTaskStatus.DTS_OPEN)
+            .build();
+
+    @Test
+    @DisplayName("be empty for equal messages")
+    void empty() {
+        MessageDelta delta = MessageDelta.between(TASK, TASK.toBuilder()
+                                                            .build());
+        assertThat(delta.isEmpty()).isTrue();
+        assertThat(delta.toFieldMask()).isEqualTo(FieldMask.getDefaultInstance());
+    }
+
+    @Nested
+    @DisplayName("report")
+    class Report {
+
+        @Test
+        @DisplayName("changes of nested fields")
+        void nested() {
+            DeltaTask changed = TASK.toBuilder()
+                                    .setAssignee(TASK.getAssignee()
+                                                     .toBuilder()
+                                                     .setEmail("jane@example.org"))
+                                    .build();
+            MessageDelta delta = MessageDelta.between(TASK, changed);
+
+            assertThat(delta.changes()).hasSize(1);
+            FieldChange change = delta.changes()
+                                      .get(0);
+            assertThat(change.path()).isEqualTo(parse("assignee.email"));
+            assertThat(change.kind()).isEqualTo(SET);
+            assertThat(change.value()).hasValue("jane@example.org");
+        }
+
+        @Test
+        @DisplayName("cleared fields")
+        void cleared() {
+            DeltaTask changed = TASK.toBuilder()
+                                    .clearAssignee()
+                                    .clearTitle()
+                                    .build();
+            MessageDelta delta = MessageDelta.between(TASK, changed);
+
+            assertThat(delta.changes()).hasSize(2);
+            assertThat(delta.changes()
+                            .get(0)
+                            .kind()).isEqualTo(CLEAR);
+            assertThat(delta.toFieldMask()
+                            .getPathsList()).containsExactly("title", "assignee")
+                                            .inOrder();
+        }
+
+        @Test
+        @DisplayName("changes of repeated elements aligned by index")
+        void repeated() {
+            DeltaTask changed = TASK.toBuilder()
+                                    .setLabel(1, "later")
+                                    .addLabel("docs")
+                                    .build();
+            MessageDelta delta = MessageDelta.between(TASK, changed);
+
+            assertThat(delta.changes()).hasSize(2);
+            FieldChange setElement = delta.changes()
+                                          .get(0);
+            assertThat(setElement.kind()).isEqualTo(SET_ELEMENT);
+            assertThat(setElement.index()).isEqualTo(1);
+            assertThat(delta.changes()
+                            .get(1)
+                            .kind()).isEqualTo(ADD_ELEMENT);
+            assertThat(delta.toFieldMask()
+                            .getPathsList()).containsExactly("label");
+        }
+
+        @Test
+        @DisplayName("truncated repeated fields")
+        void truncated() {
+            DeltaTask changed = TASK.toBuilder()
+                                    .clearLabel()
+                                    .addLabel("testing")
+                                    .build();
+            MessageDelta delta = MessageDelta.between(TASK, changed);
+
+            FieldChange truncate = delta.changes()
+                                        .get(0);
+            assertThat(truncate.kind()).isEqualTo(TRUNCATE);
+            assertThat(truncate.index()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("changes of map entries aligned by key")
+        void map() {
+            DeltaTask changed = TASK.toBuilder()
+                                    .removeEstimate("design")
+                                    .putEstimate("coding", 8)
+                                    .build();
+            MessageDelta delta = MessageDelta.between(TASK, changed);
+
+            assertThat(delta.changes()).hasSize(2);
+            FieldChange put = delta.changes()
+                                   .get(0);
+            assertThat(put.kind()).isEqualTo(PUT_ENTRY);
+            assertThat(put.key()).hasValue("coding");
+            assertThat(put.value()).hasValue(8);
+            FieldChange remove = delta.changes()
+                                      .get(1);
+            assertThat(remove.kind()).isEqualTo(REMOVE_ENTRY);
+            assertThat(remove.key()).hasValue("design");
+        }
+    }
+
+    @Test
+    @DisplayName("turn the previous state into the current state")
+    void apply() {
+        DeltaTask changed = TASK.toBuilder()
+                                .setTitle("Write more tests")
+                                .setAssignee(TASK.getAssignee()
+                                                 .toBuilder()
+                                                 .setName("John"))
+                                .setLabel(0, "qa")
+                                .removeLabel(1)
+                                .removeEstimate("design")
+                                .putEstimate("review", 1)
+                                .setStatus(DeltaTaskStatus.DTS_DONE)
+                                .build();
+        MessageDelta delta = MessageDelta.between(TASK, changed);
+
+        DeltaTask.Builder builder = TASK.toBuilder();
+        DeltaTask patched = delta.applyTo(builder)
+                                 .build();
+
+        assertThat(patched).isEqualTo(changed);
+    }
+
+    @Test
+    @DisplayName("set nested messages which differ only in unknown fields")
+    void unknownFields() {
+        UnknownFieldSet unknownFields = UnknownFieldSet
+                .newBuilder()
+                .addField(UNKNOWN_FIELD_NUMBER, UnknownFieldSet.Field
+                        .newBuilder()
+                        .addVarint(42)
+                        .build())
+                .build();
+        DeltaAssignee assignee = TASK.getAssignee()
+                                     .toBuilder()
+                                     .setUnknownFields(unknownFields)
+                                     .build();
+        DeltaTask changed = TASK.toBuilder()
+                                .setAssignee(assignee)
+                                .build();
+        MessageDelta delta = MessageDelta.between(TASK, changed);
+
+        assertThat(delta.changes()).hasSize(1);
+        FieldChange change = delta.changes()
+                                  .get(0);
+        assertThat(change.kind()).isEqualTo(SET);
+        assertThat(change.path()).isEqualTo(parse("assignee"));
+        DeltaTask patched = delta.applyTo(TASK.toBuilder())
+                                 .build();
+        assertThat(patched).isEqualTo(changed);
+    }
+
+    @Test
+    @DisplayName("not apply to a builder of another type")
+    void anotherType() {
+        MessageDelta delta = MessageDelta.between(TASK, DeltaTask.getDefaultInstance());
+
+        assertThrows(IllegalArgumentException.class,
+                     () -> delta.applyTo(DeltaAssignee.newBuilder()));
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.protobuf;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.testing.NullPointerTester;
+import com.google.protobuf.Duration;
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Durations;
+import com.google.protobuf.util.Timestamps;
+import io.spine.testing.UtilityClassTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.spine.protobuf.Durations2.hoursAndMinutes;
+import static io.spine.protobuf.Durations2.minutes;
+import static io.spine.protobuf.Durations2.nanos;
+import static io.spine.protobuf.Durations2.seconds;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SuppressWarnings({"ClassCanBeStatic", "InnerClassMayBeStatic"})
+@DisplayName("Nanos utility class should")
+class NanosTest extends UtilityClassTest<Nanos> {
+
+    private static final long NANOS_PER_MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+    NanosTest() {
+        super(Nanos.class);
+    }
+
+    @Override
+    protected void configure(NullPointerTester nullTester) {
+        nullTester.setDefault(Duration.class, Duration.getDefaultInstance())
+                  .setDefault(Timestamp.class, Timestamp.getDefaultInstance())
+                  .setDefault(TimeUnit.class, TimeUnit.SECONDS);
+    }
+
+    @Nested
+    @DisplayName("convert")
+    class Convert {
+
+        @Test
+        @DisplayName("durations to nanoseconds and back")
+        void durations() {
+            Duration duration = Durations.fromNanos(-1_234_567_890_123L);
+            long nanos = Nanos.fromDuration(duration);
+
+            assertEquals(Durations.toNanos(duration), nanos);
+            assertEquals(duration, Nanos.toDuration(nanos));
+        }
+
+        @Test
+        @DisplayName("timestamps to nanoseconds and back")
+        void timestamps() {
+            Timestamp timestamp = Timestamps.fromNanos(1_558_088_430_123_456_789L);
+            long nanos = Nanos.fromTimestamp(timestamp);
+
+            assertEquals(Timestamps.toNanos(timestamp), nanos);
+            assertEquals(timestamp, Nanos.toTimestamp(nanos));
+        }
+
+        @Test
+        @DisplayName("lists of durations")
+        void durationLists() {
+            long[] nanos = Nanos.fromDurations(ImmutableList.of(seconds(1), minutes(-1), nanos(7)));
+            assertArrayEquals(new long[]{1_000_000_000L, -NANOS_PER_MINUTE, 7L}, nanos);
+        }
+
+        @Test
+        @DisplayName("lists of timestamps")
+        void timestampLists() {
+            Timestamp first = Timestamps.fromMillis(42);
+            Timestamp second = Timestamps.fromNanos(-3);
+            long[] nanos = Nanos.fromTimestamps(ImmutableList.of(first, second));
+            assertArrayEquals(new long[]{42_000_000L, -3L}, nanos);
+        }
+    }
+
+    @Test
+    @DisplayName("reject invalid values")
+    void rejectInvalid() {
+        Duration invalid = Duration.newBuilder()
+                                   .setSeconds(-1)
+                                   .setNanos(1)
+                                   .build();
+        assertThrows(IllegalArgumentException.class, () -> Nanos.fromDuration(invalid));
+    }
+
+    @Test
+    @DisplayName("throw ArithmeticException if a value does not fit a long")
+    void overflow() {
+        Timestamp farFuture = Timestamp.newBuilder()
+                                       .setSeconds(253_402_300_799L)
+                                       .build();
+        assertThrows(ArithmeticException.class, () -> Nanos.fromTimestamp(farFuture));
+        assertThrows(ArithmeticException.class, () -> Nanos.sum(Long.MAX_VALUE, 1L));
+    }
+
+    @Test
+    @DisplayName("sum values")
+    void sum() {
+        assertEquals(0L, Nanos.sum());
+        long[] nanos = Nanos.fromDurations(ImmutableList.of(hoursAndMinutes(1, 30), minutes(-30)));
+        assertEquals(hoursAndMinutes(1, 0), Nanos.toDuration(Nanos.sum(nanos)));
+    }
+
+    @Test
+    @DisplayName("find the least and the greatest values")
+    void minMax() {
+        long[] nanos = {5L, -8L, 13L, 0L};
+        assertEquals(-8L, Nanos.min(nanos));
+        assertEquals(13L, Nanos.max(nanos));
+        assertThrows(IllegalArgumentException.class, () -> Nanos.min());
+        assertThrows(IllegalArgumentException.class, () -> Nanos.max());
+    }
+
+    @Test
+    @DisplayName("round values down to whole time units")
+    void floor() {
+        long value = 2 * NANOS_PER_MINUTE + 5;
+        assertEquals(2 * NANOS_PER_MINUTE, Nanos.floorToMinutes(value));
+        assertEquals(-NANOS_PER_MINUTE, Nanos.floorToMinutes(-5L));
+        assertEquals(0L, Nanos.floorToHours(value));
+        assertEquals(TimeUnit.SECONDS.toNanos(-1), Nanos.floor(-1L, TimeUnit.SECONDS));
+    }
+}
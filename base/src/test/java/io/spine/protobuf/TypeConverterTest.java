@@ -21,6 +21,7 @@
 package io.spine.protobuf;
 
 import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableList;
 import com.google.common.testing.NullPointerTester;
 import com.google.protobuf.Any;
 import com.google.protobuf.BoolValue;
@@ -40,7 +41,11 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.truth.Truth.assertThat;
 import static io.spine.base.Identifier.newUuid;
+import static io.spine.protobuf.TypeConverter.toAny;
+import static io.spine.protobuf.TypeConverter.toAnyAll;
 import static io.spine.protobuf.TypeConverter.toMessage;
 import static io.spine.protobuf.given.TypeConverterTestEnv.TaskStatus.SUCCESS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -176,5 +181,32 @@ class TypeConverterTest extends UtilityClassTest<TypeConverter> {
             StringValue convertedValue = toMessage(stringValue, StringValue.class);
             assertEquals(stringValue, convertedValue.getValue());
         }
+
+        @Test
+        @DisplayName("a value to the same Any as packing the wrapped value does")
+        void sameAsPacking() {
+            ByteString bytes = ByteString.copyFrom("bytes", Charsets.UTF_8);
+            assertEquals(AnyPacker.pack(StringValue.of("str")), toAny("str"));
+            assertEquals(AnyPacker.pack(Int64Value.of(42L)), toAny(42L));
+            assertEquals(AnyPacker.pack(BytesValue.of(bytes)), toAny(bytes));
+            assertEquals(AnyPacker.pack(EnumValue.newBuilder()
+                                                 .setName(SUCCESS.name())
+                                                 .build()), toAny(SUCCESS));
+        }
+
+        @Test
+        @DisplayName("several values to Any")
+        void severalValues() {
+            Message message = StringValue.of(newUuid());
+            ImmutableList<Object> values = ImmutableList.of("str", 42, 3.14, SUCCESS, message);
+
+            ImmutableList<Any> packed = toAnyAll(values);
+
+            ImmutableList<Any> expected = values.stream()
+                                                .map(TypeConverter::toAny)
+                                                .collect(toImmutableList());
+            assertThat(packed).containsExactlyElementsIn(expected)
+                              .inOrder();
+        }
     }
 }
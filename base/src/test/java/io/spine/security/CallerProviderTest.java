@@ -0,0 +1,83 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.security;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth8.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("CallerProvider should")
+class CallerProviderTest {
+
+    @Test
+    @DisplayName("obtain the same classes from any call stack")
+    void sameClasses() {
+        ImmutableList<CallStack> stacks = ImmutableList.of(
+                SecurityManagerCallStack.create()
+                                        .get(),
+                StackWalkerCallStack.create()
+                                    .get()
+        );
+        for (CallStack stack : stacks) {
+            CallerProvider provider = CallerProvider.on(stack);
+            Caller.call(provider);
+
+            assertThat(Callee.callerClass).isEqualTo(Caller.class);
+            assertThat(Callee.previousCallerClass).isEqualTo(CallerProviderTest.class);
+        }
+    }
+
+    @Test
+    @DisplayName("fail if the stack is not deep enough")
+    void tooDeep() {
+        CallStack stack = SecurityManagerCallStack.create()
+                                                  .get();
+        assertThrows(IllegalStateException.class, () -> stack.classAt(100_000));
+    }
+
+    @Test
+    @DisplayName("be able to use `SecurityManager`")
+    void securityManager() {
+        assertThat(SecurityManagerCallStack.create()).isPresent();
+    }
+
+    private static final class Caller {
+
+        private static void call(CallerProvider provider) {
+            Callee.call(provider);
+        }
+    }
+
+    private static final class Callee {
+
+        private static Class<?> callerClass;
+        private static Class<?> previousCallerClass;
+
+        private static void call(CallerProvider provider) {
+            callerClass = provider.getCallerClass();
+            previousCallerClass = provider.getPreviousCallerClass();
+        }
+    }
+}
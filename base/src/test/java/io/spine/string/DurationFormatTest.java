@@ -0,0 +1,108 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.string;
+
+import com.google.protobuf.Duration;
+import com.google.protobuf.util.Durations;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.text.ParseException;
+import java.util.Random;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("DurationFormat should")
+class DurationFormatTest {
+
+    private static final long MAX_SECONDS = 315_576_000_000L;
+
+    @Test
+    @DisplayName("produce the same text as Protobuf")
+    void formatAsProtobuf() throws ParseException {
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            Duration duration = randomDuration(random);
+            String expected = Durations.toString(duration);
+            String formatted = DurationFormat.toString(duration);
+
+            assertThat(formatted).isEqualTo(expected);
+            assertThat(DurationFormat.parse(formatted)).isEqualTo(duration);
+        }
+    }
+
+    @Test
+    @DisplayName("parse values as Protobuf does")
+    void parseAsProtobuf() throws ParseException {
+        String[] values = {
+                "0s",
+                "-0.5s",
+                "1.000000001s",
+                "315576000000.999999999s",
+                "-315576000000.999999999s",
+                "00012s",
+                "+3s",
+                "1.s",
+                "1.1234567890s"
+        };
+        for (String value : values) {
+            assertThat(DurationFormat.parse(value)).isEqualTo(Durations.parse(value));
+        }
+    }
+
+    @Test
+    @DisplayName("reject malformed values")
+    void rejectMalformed() {
+        String[] values = {
+                "",
+                "s",
+                "1",
+                "--1s",
+                "315576000001s"
+        };
+        for (String value : values) {
+            assertThrows(ParseException.class, () -> DurationFormat.parse(value));
+        }
+    }
+
+    @Test
+    @DisplayName("reject invalid durations")
+    void rejectInvalid() {
+        Duration invalid = Duration.newBuilder()
+                                   .setSeconds(1)
+                                   .setNanos(-1)
+                                   .build();
+        assertThrows(IllegalArgumentException.class, () -> DurationFormat.toString(invalid));
+    }
+
+    private static Duration randomDuration(Random random) {
+        long seconds = (long) ((random.nextDouble() * 2 - 1) * MAX_SECONDS);
+        int nanos = random.nextBoolean() ? 0 : random.nextInt(1_000_000_000);
+        if (seconds < 0) {
+            nanos = -nanos;
+        }
+        return Duration.newBuilder()
+                       .setSeconds(seconds)
+                       .setNanos(nanos)
+                       .build();
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.string;
+
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Timestamps;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.text.ParseException;
+import java.util.Random;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("TimestampFormat should")
+class TimestampFormatTest {
+
+    private static final long MIN_SECONDS = -62_135_596_800L;
+    private static final long MAX_SECONDS = 253_402_300_799L;
+
+    @Test
+    @DisplayName("produce the same text as Protobuf")
+    void formatAsProtobuf() throws ParseException {
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            Timestamp timestamp = randomTimestamp(random);
+            String expected = Timestamps.toString(timestamp);
+            String formatted = TimestampFormat.toString(timestamp);
+
+            assertThat(formatted).isEqualTo(expected);
+            assertThat(TimestampFormat.parse(formatted)).isEqualTo(timestamp);
+        }
+    }
+
+    @Test
+    @DisplayName("parse values as Protobuf does")
+    void parseAsProtobuf() throws ParseException {
+        String[] values = {
+                "2019-05-17T10:20:30+03:00",
+                "2019-05-17T10:20:30.5-11:30",
+                "1970-01-01T00:00:00-00:01",
+                "0001-01-01T00:00:00Z",
+                "9999-12-31T23:59:59.999999999Z",
+                "2016-02-29T12:00:00.000001+14:00",
+                "2019-05-17T10:20:30.Z",
+                "2019-05-17T10:20:30.1234567890Z"
+        };
+        for (String value : values) {
+            assertThat(TimestampFormat.parse(value)).isEqualTo(Timestamps.parse(value));
+        }
+    }
+
+    @Test
+    @DisplayName("reject malformed values")
+    void rejectMalformed() {
+        String[] values = {
+                "",
+                "2019-05-17",
+                "2019-05-17T10:20:30",
+                "2019-05-17T10:20:30+0300",
+                "2019-05-17T10:20:30Zabc",
+                "0001-01-01T00:00:00+00:01"
+        };
+        for (String value : values) {
+            assertThrows(ParseException.class, () -> Timestamps.parse(value));
+            assertThrows(ParseException.class, () -> TimestampFormat.parse(value));
+        }
+    }
+
+    @Test
+    @DisplayName("reject invalid timestamps")
+    void rejectInvalid() {
+        Timestamp invalid = Timestamp.newBuilder()
+                                     .setSeconds(MAX_SECONDS + 1)
+                                     .build();
+        assertThrows(IllegalArgumentException.class, () -> TimestampFormat.toString(invalid));
+    }
+
+    private static Timestamp randomTimestamp(Random random) {
+        long seconds = MIN_SECONDS + (long) (random.nextDouble() * (MAX_SECONDS - MIN_SECONDS));
+        int nanos;
+        switch (random.nextInt(4)) {
+            case 0:
+                nanos = 0;
+                break;
+            case 1:
+                nanos = random.nextInt(1000) * 1_000_000;
+                break;
+            case 2:
+                nanos = random.nextInt(1_000_000) * 1000;
+                break;
+            default:
+                nanos = random.nextInt(1_000_000_000);
+        }
+        return Timestamp.newBuilder()
+                        .setSeconds(seconds)
+                        .setNanos(nanos)
+                        .build();
+    }
+}
@@ -25,22 +25,15 @@ import com.google.protobuf.Descriptors.FileDescriptor;
 import io.spine.code.fs.java.SourceFile;
 import io.spine.code.java.ClassName;
 import org.checkerframework.checker.nullness.qual.Nullable;
-import org.jboss.forge.roaster.Roaster;
 import org.jboss.forge.roaster.model.impl.AbstractJavaSource;
 import org.jboss.forge.roaster.model.source.AnnotationSource;
 import org.jboss.forge.roaster.model.source.AnnotationTargetSource;
 import org.jboss.forge.roaster.model.source.JavaClassSource;
 import org.jboss.forge.roaster.model.source.JavaSource;
 
-import java.io.FileNotFoundException;
-import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 
 import static com.google.common.base.Preconditions.checkNotNull;
-import static io.spine.util.Exceptions.illegalStateWithCauseOf;
-import static java.nio.file.Files.exists;
-import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
 
 /**
  * Abstract base class for the annotators of the generated Java sources.
@@ -63,12 +56,31 @@ public abstract class Annotator {
      */
     private final Path genProtoDir;
 
+    /**
+     * The sources modified by this annotator.
+     */
+    private final ParsedSources sources;
+
+    /**
+     * Creates a new annotator which rewrites a source file each time it is annotated.
+     */
     protected Annotator(ClassName annotation,
                         ImmutableList<FileDescriptor> descriptors,
                         Path genProtoDir) {
+        this(annotation, descriptors, genProtoDir, ParsedSources.immediate());
+    }
+
+    /**
+     * Creates a new annotator which modifies the passed sources.
+     */
+    Annotator(ClassName annotation,
+              ImmutableList<FileDescriptor> descriptors,
+              Path genProtoDir,
+              ParsedSources sources) {
         this.annotation = checkNotNull(annotation);
         this.descriptors = checkNotNull(descriptors);
         this.genProtoDir = checkNotNull(genProtoDir);
+        this.sources = checkNotNull(sources);
     }
 
     /**
@@ -102,6 +114,10 @@ public abstract class Annotator {
      *
      * <p>If the specified path does not exist, does nothing.
      *
+     * <p>The annotators created by the {@link DefaultAnnotatorFactory} share the parsed sources.
+     * The changes are written to disk when the factory is {@linkplain AnnotatorFactory#flush()
+     * flushed}.
+     *
      * @param sourcePathPrefix
      *         the prefix for the relative source path
      * @param sourceFile
@@ -109,34 +125,10 @@ public abstract class Annotator {
      * @param visitor
      *         the source visitor
      */
-    static <T extends JavaSource<T>>
+    <T extends JavaSource<T>>
     void rewriteSource(Path sourcePathPrefix, SourceFile sourceFile, SourceVisitor<T> visitor) {
         Path absoluteSourcePath = sourcePathPrefix.resolve(sourceFile.getPath());
-        if (exists(absoluteSourcePath)) {
-            @SuppressWarnings("unchecked" /* There is no way to specify generic parameter
-                                             for `AbstractJavaSource.class` value. */)
-            AbstractJavaSource<T> javaSource = (AbstractJavaSource<T>) parse(absoluteSourcePath);
-            visitor.accept(javaSource);
-            rewrite(javaSource, absoluteSourcePath);
-        }
-    }
-
-    private static <T extends JavaSource<T>>
-    void rewrite(AbstractJavaSource<T> javaSource, Path destination) {
-        String resultingSource = javaSource.toString();
-        try {
-            Files.write(destination, ImmutableList.of(resultingSource), TRUNCATE_EXISTING);
-        } catch (IOException e) {
-            throw illegalStateWithCauseOf(e);
-        }
-    }
-
-    private static AbstractJavaSource<?> parse(Path sourcePath) {
-        try {
-            return Roaster.parse(AbstractJavaSource.class, sourcePath.toFile());
-        } catch (FileNotFoundException e) {
-            throw illegalStateWithCauseOf(e);
-        }
+        sources.visit(absoluteSourcePath, visitor);
     }
 
     /**
@@ -39,4 +39,17 @@ public interface AnnotatorFactory {
     Annotator createPatternAnnotator(ClassName annotation, ClassNamePattern pattern);
 
     Annotator createMethodAnnotator(ClassName annotation, ImmutableSet<MethodPattern> patterns);
+
+    /**
+     * Writes the sources modified by the annotators created by this factory.
+     *
+     * <p>The annotators may keep the modified sources in memory, so that each source file is
+     * parsed and written only once. The {@link ModuleAnnotator} calls this method after all
+     * the annotation jobs are executed.
+     *
+     * <p>Does nothing by default.
+     */
+    default void flush() {
+        // No sources to write.
+    }
 }
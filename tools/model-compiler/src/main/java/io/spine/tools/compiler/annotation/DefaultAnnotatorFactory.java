@@ -30,6 +30,7 @@ import java.io.File;
 import java.nio.file.Path;
 import java.util.Collection;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
@@ -54,52 +55,100 @@ public final class DefaultAnnotatorFactory implements AnnotatorFactory {
      */
     private final Path genGrpcDir;
 
+    /**
+     * The sources shared by all the annotators created by this factory.
+     */
+    private final ParsedSources sources;
+
     private DefaultAnnotatorFactory(Collection<FileDescriptor> fileDescriptors,
                                     Path genProtoDir,
-                                    Path genGrpcDir) {
+                                    Path genGrpcDir,
+                                    int parallelism) {
         checkNotNull(fileDescriptors);
         checkNotNull(genProtoDir);
         checkNotNull(genGrpcDir);
         this.fileDescriptors = ImmutableList.copyOf(fileDescriptors);
         this.genProtoDir = genProtoDir;
         this.genGrpcDir = genGrpcDir;
+        this.sources = ParsedSources.deferred(parallelism);
     }
 
+    /**
+     * Creates a new factory which annotates the source files one by one.
+     */
     public static AnnotatorFactory newInstance(File descriptorSetFile,
                                                Path generatedProtoDir,
                                                Path generatedGrpcDir) {
+        return newInstance(descriptorSetFile, generatedProtoDir, generatedGrpcDir, 1);
+    }
+
+    /**
+     * Creates a new factory which annotates up to {@code parallelism} source files concurrently.
+     *
+     * <p>Each source file is handled by a single worker. The resulting sources are the same as
+     * if annotated one by one.
+     *
+     * @param descriptorSetFile
+     *         the descriptor set file of the Protobuf types to process
+     * @param generatedProtoDir
+     *         the directory with the Java sources generated from the Protobuf types
+     * @param generatedGrpcDir
+     *         the directory with the gRPC services generated from the Protobuf types
+     * @param parallelism
+     *         the maximum number of source files annotated concurrently; must be positive
+     */
+    public static AnnotatorFactory newInstance(File descriptorSetFile,
+                                               Path generatedProtoDir,
+                                               Path generatedGrpcDir,
+                                               int parallelism) {
+        checkArgument(parallelism > 0,
+                      "The parallelism must be positive. Got: %s.", parallelism);
         FileSet files = FileSet.parseAsKnownFiles(descriptorSetFile);
-        return new DefaultAnnotatorFactory(files.files(), generatedProtoDir, generatedGrpcDir);
+        return new DefaultAnnotatorFactory(files.files(), generatedProtoDir, generatedGrpcDir,
+                                           parallelism);
     }
 
     @Override
     public Annotator createFileAnnotator(ClassName annotation, ApiOption option) {
-        return new FileAnnotator(annotation, option, fileDescriptors, genProtoDir, genGrpcDir);
+        return new FileAnnotator(annotation, option, fileDescriptors,
+                                 genProtoDir, genGrpcDir, sources);
     }
 
     @Override
     public Annotator createMessageAnnotator(ClassName annotation, ApiOption option) {
-        return new MessageAnnotator(annotation, option, fileDescriptors, genProtoDir);
+        return new MessageAnnotator(annotation, option, fileDescriptors, genProtoDir, sources);
     }
 
     @Override
     public Annotator createFieldAnnotator(ClassName annotation, ApiOption option) {
-        return new FieldAnnotator(annotation, option, fileDescriptors, genProtoDir);
+        return new FieldAnnotator(annotation, option, fileDescriptors, genProtoDir, sources);
     }
 
     @Override
     public Annotator createServiceAnnotator(ClassName annotation, ApiOption option) {
-        return new ServiceAnnotator(annotation, option, fileDescriptors, genGrpcDir);
+        return new ServiceAnnotator(annotation, option, fileDescriptors, genGrpcDir, sources);
     }
 
     @Override
     public Annotator createPatternAnnotator(ClassName annotation, ClassNamePattern pattern) {
-        return new PatternAnnotator(annotation, pattern, fileDescriptors, genProtoDir);
+        return new PatternAnnotator(annotation, pattern, fileDescriptors, genProtoDir, sources);
     }
 
     @Override
     public Annotator createMethodAnnotator(ClassName annotation,
                                            ImmutableSet<MethodPattern> patterns) {
-        return new MethodNameAnnotator(annotation, patterns, fileDescriptors, genProtoDir);
+        return new MethodNameAnnotator(annotation, patterns, fileDescriptors,
+                                       genProtoDir, sources);
+    }
+
+    /**
+     * Writes all the sources modified by the annotators of this factory.
+     *
+     * <p>Each source file is parsed and written once, regardless of the number of the annotators
+     * which modified it.
+     */
+    @Override
+    public void flush() {
+        sources.flush();
     }
 }
@@ -57,8 +57,9 @@ final class FieldAnnotator extends OptionAnnotator<FieldDescriptor> {
     FieldAnnotator(ClassName annotation,
                    ApiOption option,
                    ImmutableList<FileDescriptor> fileDescriptors,
-                   Path genProtoDir) {
-        super(annotation, option, fileDescriptors, genProtoDir);
+                   Path genProtoDir,
+                   ParsedSources sources) {
+        super(annotation, option, fileDescriptors, genProtoDir, sources);
     }
 
     @Override
@@ -46,8 +46,9 @@ final class MessageAnnotator extends OptionAnnotator<Descriptor> {
     MessageAnnotator(ClassName annotation,
                      ApiOption option,
                      ImmutableList<FileDescriptor> files,
-                     Path genProtoDir) {
-        super(annotation, option, files, genProtoDir);
+                     Path genProtoDir,
+                     ParsedSources sources) {
+        super(annotation, option, files, genProtoDir, sources);
     }
 
     @Override
@@ -50,8 +50,9 @@ final class MethodNameAnnotator extends Annotator {
     MethodNameAnnotator(ClassName annotation,
                         ImmutableSet<MethodPattern> patterns,
                         ImmutableList<FileDescriptor> descriptors,
-                        Path genProtoDir) {
-        super(annotation, descriptors, genProtoDir);
+                        Path genProtoDir,
+                        ParsedSources sources) {
+        super(annotation, descriptors, genProtoDir, sources);
         this.patterns = patterns;
     }
 
@@ -47,9 +47,14 @@ public final class ModuleAnnotator {
 
     /**
      * Executes the {@linkplain Job annotation jobs}.
+     *
+     * <p>After all the jobs are executed, the annotated sources are
+     * {@linkplain AnnotatorFactory#flush() written} at once. Depending on the factory,
+     * the sources may be processed concurrently.
      */
     public void annotate() {
         jobs.forEach(job -> job.execute(annotatorFactory));
+        annotatorFactory.flush();
     }
 
     /**
@@ -62,6 +62,15 @@ public abstract class OptionAnnotator<D extends GenericDescriptor> extends Annot
         this.option = checkNotNull(option);
     }
 
+    OptionAnnotator(ClassName annotation,
+                    ApiOption option,
+                    ImmutableList<FileDescriptor> fileDescriptors,
+                    Path genProtoDir,
+                    ParsedSources sources) {
+        super(annotation, fileDescriptors, genProtoDir, sources);
+        this.option = checkNotNull(option);
+    }
+
     /**
      * Annotates the Java sources generated from the specified file descriptor.
      */
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.annotation;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.spine.logging.Logging;
+import org.jboss.forge.roaster.Roaster;
+import org.jboss.forge.roaster.model.impl.AbstractJavaSource;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Throwables.throwIfUnchecked;
+import static io.spine.util.Exceptions.illegalStateWithCauseOf;
+import static java.nio.file.Files.exists;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+
+/**
+ * Java sources modified by the {@linkplain Annotator annotators}.
+ *
+ * <p>In the {@linkplain #deferred(int) deferred} mode, the visitors of each source file are
+ * recorded in the order of the visits. When the sources are {@linkplain #flush() flushed},
+ * each file is parsed once, all its visitors are applied, and the file is written once.
+ * Different files are processed concurrently by a bounded pool of workers. A file is always
+ * handled by a single worker, and its visitors are applied in the recorded order. Therefore,
+ * the result does not depend on the number of workers.
+ *
+ * <p>In the {@linkplain #immediate() immediate} mode, the file is parsed and written on each
+ * visit.
+ */
+final class ParsedSources implements Logging {
+
+    private final boolean deferred;
+
+    /**
+     * The maximum number of files processed concurrently.
+     */
+    private final int parallelism;
+
+    /**
+     * The recorded visitors by the absolute paths of the sources.
+     */
+    private final Map<Path, List<SourceVisitor<?>>> visitors = new LinkedHashMap<>();
+
+    private ParsedSources(boolean deferred, int parallelism) {
+        this.deferred = deferred;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Creates a new instance which applies the visitors when {@linkplain #flush() flushed}.
+     *
+     * @param parallelism
+     *         the maximum number of files processed concurrently; must be positive
+     */
+    static ParsedSources deferred(int parallelism) {
+        checkArgument(parallelism > 0,
+                      "The parallelism must be positive. Got: %s.", parallelism);
+        return new ParsedSources(true, parallelism);
+    }
+
+    /**
+     * Creates a new instance which rewrites a source file on each visit.
+     */
+    static ParsedSources immediate() {
+        return new ParsedSources(false, 1);
+    }
+
+    /**
+     * Applies the passed visitor to the source at the given path.
+     *
+     * <p>If the file does not exist, does nothing.
+     */
+    synchronized void visit(Path sourcePath, SourceVisitor<?> visitor) {
+        checkNotNull(sourcePath);
+        checkNotNull(visitor);
+        if (deferred) {
+            visitors.computeIfAbsent(sourcePath, path -> new ArrayList<>())
+                    .add(visitor);
+        } else {
+            rewrite(sourcePath, ImmutableList.of(visitor));
+        }
+    }
+
+    /**
+     * Applies the recorded visitors and writes the visited sources to disk.
+     */
+    void flush() {
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        synchronized (this) {
+            visitors.forEach((path, fileVisitors) -> tasks.add(() -> rewrite(path, fileVisitors)));
+            visitors.clear();
+        }
+        int workers = Math.min(parallelism, tasks.size());
+        long written = workers > 1
+                       ? runConcurrently(tasks, workers)
+                       : runSequentially(tasks);
+        _debug("{} annotated source files written by {} worker(s).", written, workers);
+    }
+
+    private static long runSequentially(List<Callable<Boolean>> tasks) {
+        long written = 0;
+        for (Callable<Boolean> task : tasks) {
+            if (call(task)) {
+                written++;
+            }
+        }
+        return written;
+    }
+
+    private static long runConcurrently(List<Callable<Boolean>> tasks, int workers) {
+        ThreadFactory threadFactory = new ThreadFactoryBuilder()
+                .setNameFormat("ParsedSources-worker-%d")
+                .setDaemon(true)
+                .build();
+        ExecutorService executor = Executors.newFixedThreadPool(workers, threadFactory);
+        try {
+            List<Future<Boolean>> results = executor.invokeAll(tasks);
+            long written = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get()) {
+                    written++;
+                }
+            }
+            return written;
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw illegalStateWithCauseOf(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throwIfUnchecked(cause);
+            throw illegalStateWithCauseOf(cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static boolean call(Callable<Boolean> task) {
+        try {
+            return task.call();
+        } catch (Exception e) {
+            throwIfUnchecked(e);
+            throw illegalStateWithCauseOf(e);
+        }
+    }
+
+    /**
+     * Parses the source, applies the visitors to it and writes the result.
+     *
+     * @return {@code true} if the file was written, {@code false} if it does not exist
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"} /* The visitors accept the source they
+                                                   were recorded for. */)
+    private static boolean rewrite(Path sourcePath, List<SourceVisitor<?>> fileVisitors) {
+        if (!exists(sourcePath)) {
+            return false;
+        }
+        AbstractJavaSource javaSource = parse(sourcePath);
+        for (SourceVisitor visitor : fileVisitors) {
+            visitor.accept(javaSource);
+        }
+        write(javaSource, sourcePath);
+        return true;
+    }
+
+    private static AbstractJavaSource<?> parse(Path sourcePath) {
+        try {
+            return Roaster.parse(AbstractJavaSource.class, sourcePath.toFile());
+        } catch (FileNotFoundException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+    }
+
+    private static void write(AbstractJavaSource<?> javaSource, Path destination) {
+        String resultingSource = javaSource.toString();
+        try {
+            Files.write(destination, ImmutableList.of(resultingSource), TRUNCATE_EXISTING);
+        } catch (IOException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+    }
+}
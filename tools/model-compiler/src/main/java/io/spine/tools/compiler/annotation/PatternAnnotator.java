@@ -49,8 +49,9 @@ final class PatternAnnotator extends Annotator {
     PatternAnnotator(ClassName annotation,
                      ClassNamePattern pattern,
                      ImmutableList<FileDescriptor> fileDescriptors,
-                     Path genProtoDir) {
-        super(annotation, fileDescriptors, genProtoDir);
+                     Path genProtoDir,
+                     ParsedSources sources) {
+        super(annotation, fileDescriptors, genProtoDir, sources);
         this.pattern = pattern;
     }
 
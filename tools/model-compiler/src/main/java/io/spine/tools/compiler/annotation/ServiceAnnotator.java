@@ -42,8 +42,9 @@ final class ServiceAnnotator extends OptionAnnotator<ServiceDescriptor> {
     ServiceAnnotator(ClassName annotation,
                      ApiOption option,
                      ImmutableList<FileDescriptor> fileDescriptors,
-                     Path genProtoDir) {
-        super(annotation, option, fileDescriptors, genProtoDir);
+                     Path genProtoDir,
+                     ParsedSources sources) {
+        super(annotation, option, fileDescriptors, genProtoDir, sources);
     }
 
     @Override
@@ -22,6 +22,8 @@ package io.spine.tools.compiler.validation;
 
 import com.google.common.collect.ImmutableCollection;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.spine.code.gen.Indent;
 import io.spine.code.proto.FileSet;
 import io.spine.code.proto.ProtoBelongsToModule;
@@ -32,9 +34,20 @@ import io.spine.type.MessageType;
 import org.slf4j.Logger;
 
 import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Predicates.not;
+import static com.google.common.base.Throwables.throwIfUnchecked;
 import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.collect.ImmutableSet.toImmutableSet;
+import static io.spine.util.Exceptions.illegalStateWithCauseOf;
 import static java.lang.String.format;
 
 /**
@@ -53,6 +66,9 @@ public final class VBuilderGenerator implements Logging {
     /** Indentation for the generated code. */
     private final Indent indent;
 
+    /** The maximum number of validating builders generated concurrently. */
+    private final int parallelism;
+
     /**
      * Creates new instance of the generator.
      *
@@ -64,14 +80,48 @@ public final class VBuilderGenerator implements Logging {
      *         the indentation for generated code
      */
     public VBuilderGenerator(File protoSrcDir, File targetDir, Indent indent) {
+        this(protoSrcDir, targetDir, indent, 1);
+    }
+
+    /**
+     * Creates new instance of the generator which generates up to {@code parallelism}
+     * validating builders concurrently.
+     *
+     * <p>Each validating builder is generated by a single thread. Thus, the generated files are
+     * the same as if generated one by one.
+     *
+     * @param protoSrcDir
+     *         the directory with proto source files
+     * @param targetDir
+     *         an absolute path to the folder, serving as a target for the code generation
+     * @param indent
+     *         the indentation for generated code
+     * @param parallelism
+     *         the maximum number of validating builders generated concurrently;
+     *         must be positive
+     */
+    public VBuilderGenerator(File protoSrcDir, File targetDir, Indent indent, int parallelism) {
+        checkArgument(parallelism > 0,
+                      "The parallelism must be positive. Got: %s.", parallelism);
         this.protoSrcDir = protoSrcDir;
         this.targetDir = targetDir;
         this.indent = indent;
+        this.parallelism = parallelism;
         _debug("Initiating generation of validating builders. " +
                        "Proto src dir: {} Target dir: {}", protoSrcDir, targetDir);
     }
 
-    public void process(FileSet files) {
+    /**
+     * Generates validating builders for the custom message types declared in the module files.
+     *
+     * <p>A failure to generate a validating builder for a type is logged and does not stop
+     * generation for other types.
+     *
+     * @param files
+     *         the files to process; the files which do not belong to the module are skipped
+     * @return the names of the files declaring the types for which the generation failed
+     */
+    public ImmutableSet<String> process(FileSet files) {
         FileSet fileSet = moduleFiles(files);
         ImmutableCollection<MessageType> messageTypes = TypeSet.onlyMessages(fileSet);
         @SuppressWarnings("Guava") // it's more neat Guava way here.
@@ -80,7 +130,7 @@ public final class VBuilderGenerator implements Logging {
                             .filter(MessageType::isCustom)
                             .filter(not(MessageType::isRejection))
                             .collect(toImmutableList());
-        generate(customTypes);
+        return generate(customTypes);
     }
 
     private FileSet moduleFiles(FileSet allFiles) {
@@ -88,17 +138,76 @@ public final class VBuilderGenerator implements Logging {
         return allFiles.filter(predicate.forDescriptor());
     }
 
-    private void generate(ImmutableCollection<MessageType> messages) {
+    private ImmutableSet<String> generate(ImmutableCollection<MessageType> messages) {
         _debug("Generating validating builders for {} types.", messages.size());
-        for (MessageType messageType : messages) {
-            try {
-                VBuilderCode code = new VBuilderCode(targetDir, indent, messageType);
-                code.write();
-            } catch (RuntimeException e) {
-                logError(messageType, e);
+        int threads = Math.min(parallelism, messages.size());
+        ImmutableSet<MessageType> failed = threads > 1
+                                           ? generateConcurrently(messages, threads)
+                                           : generateOneByOne(messages);
+        _debug("Validating builder generation is finished.");
+        return failed.stream()
+                     .map(type -> type.declaringFileName()
+                                      .value())
+                     .collect(toImmutableSet());
+    }
+
+    private ImmutableSet<MessageType> generateOneByOne(ImmutableCollection<MessageType> messages) {
+        ImmutableSet.Builder<MessageType> failed = ImmutableSet.builder();
+        for (MessageType type : messages) {
+            if (!generate(type)) {
+                failed.add(type);
             }
         }
-        _debug("Validating builder generation is finished.");
+        return failed.build();
+    }
+
+    private ImmutableSet<MessageType>
+    generateConcurrently(ImmutableCollection<MessageType> messages, int threads) {
+        ThreadFactory threadFactory = new ThreadFactoryBuilder()
+                .setNameFormat("VBuilderGenerator-%d")
+                .setDaemon(true)
+                .build();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, threadFactory);
+        try {
+            Map<MessageType, Future<Boolean>> results = new LinkedHashMap<>();
+            for (MessageType type : messages) {
+                results.put(type, executor.submit(() -> generate(type)));
+            }
+            ImmutableSet.Builder<MessageType> failed = ImmutableSet.builder();
+            for (Map.Entry<MessageType, Future<Boolean>> result : results.entrySet()) {
+                if (!result.getValue()
+                           .get()) {
+                    failed.add(result.getKey());
+                }
+            }
+            return failed.build();
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw illegalStateWithCauseOf(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throwIfUnchecked(cause);
+            throw illegalStateWithCauseOf(cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Generates the validating builder for the given type.
+     *
+     * @return {@code true} if the builder is generated, {@code false} if the generation failed
+     */
+    private boolean generate(MessageType messageType) {
+        try {
+            VBuilderCode code = new VBuilderCode(targetDir, indent, messageType);
+            code.write();
+            return true;
+        } catch (RuntimeException e) {
+            logError(messageType, e);
+            return false;
+        }
     }
 
     private void logError(MessageType type, RuntimeException e) {
@@ -20,19 +20,24 @@
 
 package io.spine.tools.gradle.compiler;
 
+import com.google.common.base.MoreObjects;
 import com.google.common.collect.ImmutableSet;
 import io.spine.code.java.ClassName;
 import io.spine.tools.compiler.annotation.AnnotatorFactory;
 import io.spine.tools.compiler.annotation.DefaultAnnotatorFactory;
 import io.spine.tools.compiler.annotation.ModuleAnnotator;
+import io.spine.tools.gradle.GradleTask;
 import io.spine.tools.gradle.SpinePlugin;
 import org.gradle.api.Action;
 import org.gradle.api.Project;
 import org.gradle.api.Task;
+import org.gradle.api.tasks.TaskInputs;
+import org.gradle.api.tasks.TaskOutputs;
 
 import java.io.File;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.concurrent.Callable;
 
 import static io.spine.tools.compiler.annotation.ApiOption.beta;
 import static io.spine.tools.compiler.annotation.ApiOption.experimental;
@@ -191,19 +196,21 @@ public class ProtoAnnotatorPlugin extends SpinePlugin {
     }
 
     private void createMainTask(Project project) {
-        Action<Task> task = new Annotate(true);
-        newTask(annotateProto, task)
+        Annotate action = new Annotate(true);
+        GradleTask task = newTask(annotateProto, action)
                 .insertBeforeTask(compileJava)
                 .insertAfterTask(mergeDescriptorSet)
                 .applyNowTo(project);
+        action.declareInputsAndOutputs(task.getTask());
     }
 
     private void createTestTask(Project project) {
-        Action<Task> testTask = new Annotate(false);
-        newTask(annotateTestProto, testTask)
+        Annotate action = new Annotate(false);
+        GradleTask task = newTask(annotateTestProto, action)
                 .insertBeforeTask(compileTestJava)
                 .insertAfterTask(mergeTestDescriptorSet)
                 .applyNowTo(project);
+        action.declareInputsAndOutputs(task.getTask());
     }
 
     /**
@@ -217,6 +224,44 @@ public class ProtoAnnotatorPlugin extends SpinePlugin {
             this.productionTask = productionTask;
         }
 
+        /**
+         * Declares the inputs and the outputs of the given task.
+         *
+         * <p>The task is skipped by Gradle if the descriptor set, the annotation settings and
+         * the generated sources did not change since the task was executed the last time.
+         *
+         * <p>The values are evaluated when the task is executed, as the project is not yet
+         * evaluated when the task is created.
+         */
+        private void declareInputsAndOutputs(Task task) {
+            Project project = task.getProject();
+            TaskInputs inputs = task.getInputs();
+            inputs.files((Callable<File>) () -> descriptorSet(project))
+                  .withPropertyName("descriptorSet")
+                  .optional();
+            inputs.property("annotationSettings",
+                            (Callable<String>) () -> annotationSettings(project));
+            TaskOutputs outputs = task.getOutputs();
+            outputs.dir((Callable<String>) () -> generatedProtoDir(project))
+                   .withPropertyName("generatedProtoDir")
+                   .optional();
+            outputs.dir((Callable<String>) () -> generatedGrpcDir(project))
+                   .withPropertyName("generatedGrpcDir")
+                   .optional();
+        }
+
+        private String annotationSettings(Project project) {
+            CodeGenAnnotations annotations = getCodeGenAnnotations(project);
+            return MoreObjects.toStringHelper(CodeGenAnnotations.class)
+                              .add("spi", annotations.spiClassName())
+                              .add("beta", annotations.betaClassName())
+                              .add("experimental", annotations.experimentalClassName())
+                              .add("internal", annotations.internalClassName())
+                              .add("internalClassPatterns", getInternalClassPatterns(project))
+                              .add("internalMethodNames", getInternalMethodNames(project))
+                              .toString();
+        }
+
         @Override
         public void execute(Task task) {
             Project project = task.getProject();
@@ -240,8 +285,11 @@ public class ProtoAnnotatorPlugin extends SpinePlugin {
                                                 String generatedGrpcDir) {
             Path generatedProtoPath = Paths.get(generatedProtoDir);
             Path generatedGrpcPath = Paths.get(generatedGrpcDir);
+            int workers = project.getGradle()
+                                 .getStartParameter()
+                                 .getMaxWorkerCount();
             AnnotatorFactory annotatorFactory = DefaultAnnotatorFactory
-                    .newInstance(descriptorSetFile, generatedProtoPath, generatedGrpcPath);
+                    .newInstance(descriptorSetFile, generatedProtoPath, generatedGrpcPath, workers);
             CodeGenAnnotations annotations = getCodeGenAnnotations(project);
             ClassName internalClassName = annotations.internalClassName();
             ImmutableSet<String> internalClassPatterns = getInternalClassPatterns(project);
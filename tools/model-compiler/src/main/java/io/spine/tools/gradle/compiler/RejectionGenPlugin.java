@@ -29,6 +29,7 @@ import io.spine.code.proto.SourceProtoBelongsToModule;
 import io.spine.tools.compiler.rejection.RejectionWriter;
 import io.spine.tools.gradle.CodeGenerationAction;
 import io.spine.tools.gradle.GradleTask;
+import io.spine.tools.gradle.ProtoFingerprints;
 import io.spine.tools.gradle.ProtoPlugin;
 import io.spine.type.RejectionType;
 import org.gradle.api.Action;
@@ -139,12 +140,16 @@ public class RejectionGenPlugin extends ProtoPlugin {
 
         @Override
         public void execute(Task task) {
-            ImmutableSet<RejectionsFile> rejectionFiles = findModuleRejections(protoFiles().get());
+            ProtoFingerprints fingerprints =
+                    ProtoFingerprints.of(task, RejectionWriter.class, generatorSettings());
+            FileSet changedFiles = changedProtoFiles(fingerprints);
+            ImmutableSet<RejectionsFile> rejectionFiles = findModuleRejections(changedFiles);
             _debug("Processing the file descriptors for the rejections {}", rejectionFiles);
             for (RejectionsFile source : rejectionFiles) {
                 // We are sure that this is a rejections file because we got them filtered.
                 generateRejections(source);
             }
+            fingerprints.save();
         }
 
         /**
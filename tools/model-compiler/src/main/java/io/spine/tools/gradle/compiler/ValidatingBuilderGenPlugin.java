@@ -20,11 +20,13 @@
 
 package io.spine.tools.gradle.compiler;
 
+import com.google.common.collect.ImmutableSet;
 import io.spine.code.gen.Indent;
 import io.spine.code.proto.FileSet;
 import io.spine.tools.compiler.validation.VBuilderGenerator;
 import io.spine.tools.gradle.CodeGenerationAction;
 import io.spine.tools.gradle.GradleTask;
+import io.spine.tools.gradle.ProtoFingerprints;
 import io.spine.tools.gradle.ProtoPlugin;
 import org.gradle.api.Action;
 import org.gradle.api.Project;
@@ -153,9 +155,17 @@ public class ValidatingBuilderGenPlugin extends ProtoPlugin {
             if (!isGenerateValidatingBuilders(project())) {
                 return;
             }
+            ProtoFingerprints fingerprints =
+                    ProtoFingerprints.of(task, VBuilderGenerator.class, generatorSettings());
+            FileSet changedFiles = changedProtoFiles(fingerprints);
+            _debug("Generating validating builders for {} changed files.", changedFiles.size());
+            int workers = project().getGradle()
+                                   .getStartParameter()
+                                   .getMaxWorkerCount();
             VBuilderGenerator generator =
-                    new VBuilderGenerator(protoSrcDir(), targetDir(), indent());
-            generator.process(protoFiles().get());
+                    new VBuilderGenerator(protoSrcDir(), targetDir(), indent(), workers);
+            ImmutableSet<String> failedFiles = generator.process(changedFiles);
+            fingerprints.save(failedFiles);
         }
 
         @Override
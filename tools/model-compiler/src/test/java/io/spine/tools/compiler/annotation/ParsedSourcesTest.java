@@ -0,0 +1,134 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.annotation;
+
+import org.jboss.forge.roaster.model.source.JavaClassSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junitpioneer.jupiter.TempDirectory.TempDir;
+
+@ExtendWith(TempDirectory.class)
+@DisplayName("ParsedSources should")
+class ParsedSourcesTest {
+
+    private static final String SOURCE = "package given;\n\npublic class Sample {\n}\n";
+
+    private Path tempDir;
+    private Path sourceFile;
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDir) throws IOException {
+        this.tempDir = tempDir;
+        sourceFile = tempDir.resolve("Sample.java");
+        Files.write(sourceFile, SOURCE.getBytes(UTF_8));
+    }
+
+    @Test
+    @DisplayName("write deferred changes only when flushed")
+    void deferWriting() throws IOException {
+        ParsedSources sources = ParsedSources.deferred(1);
+        sources.visit(sourceFile, addAnnotation("java.lang.Deprecated"));
+        sources.visit(sourceFile, addAnnotation("javax.annotation.Generated"));
+        assertEquals(SOURCE, content());
+
+        sources.flush();
+        String content = content();
+        assertTrue(content.contains("@java.lang.Deprecated"));
+        assertTrue(content.contains("@javax.annotation.Generated"));
+    }
+
+    @Test
+    @DisplayName("write immediate changes on each visit")
+    void writeImmediately() throws IOException {
+        ParsedSources sources = ParsedSources.immediate();
+        sources.visit(sourceFile, addAnnotation("java.lang.Deprecated"));
+        assertTrue(content().contains("@java.lang.Deprecated"));
+    }
+
+    @Test
+    @DisplayName("skip missing files")
+    void skipMissing() {
+        Path missing = sourceFile.resolveSibling("Missing.java");
+        ParsedSources sources = ParsedSources.deferred(1);
+        sources.visit(missing, addAnnotation("java.lang.Deprecated"));
+        sources.flush();
+        assertFalse(Files.exists(missing));
+    }
+
+    @Test
+    @DisplayName("produce the same sources when processing files concurrently")
+    void concurrentFlush() throws IOException {
+        int fileCount = 16;
+        List<Path> sequential = newSources("sequential", fileCount);
+        List<Path> concurrent = newSources("concurrent", fileCount);
+        annotate(ParsedSources.deferred(1), sequential);
+        annotate(ParsedSources.deferred(4), concurrent);
+
+        for (int i = 0; i < fileCount; i++) {
+            assertEquals(content(sequential.get(i)), content(concurrent.get(i)));
+        }
+    }
+
+    private List<Path> newSources(String dirName, int count) throws IOException {
+        Path dir = Files.createDirectory(tempDir.resolve(dirName));
+        List<Path> result = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Path file = dir.resolve("Sample" + i + ".java");
+            Files.write(file, SOURCE.getBytes(UTF_8));
+            result.add(file);
+        }
+        return result;
+    }
+
+    private static void annotate(ParsedSources sources, List<Path> files) {
+        for (Path file : files) {
+            sources.visit(file, addAnnotation("java.lang.Deprecated"));
+            sources.visit(file, addAnnotation("javax.annotation.Generated"));
+        }
+        sources.flush();
+    }
+
+    private String content() throws IOException {
+        return content(sourceFile);
+    }
+
+    private static String content(Path file) throws IOException {
+        return new String(Files.readAllBytes(file), UTF_8);
+    }
+
+    private static SourceVisitor<JavaClassSource> addAnnotation(String annotation) {
+        return source -> source.addAnnotation(annotation);
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package io.spine.tools.compiler.validation;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.Descriptors.FileDescriptor;
+import io.spine.code.gen.Indent;
+import io.spine.code.proto.FileSet;
+import io.spine.test.tools.validation.builder.TheOuterProto;
+import io.spine.test.tools.validation.builder.VbtProject;
+import io.spine.test.tools.validation.builder.VbtScalarFields;
+import io.spine.test.tools.validation.builder.VbtTree;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static com.google.common.collect.ImmutableMap.toImmutableMap;
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.util.Exceptions.illegalStateWithCauseOf;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junitpioneer.jupiter.TempDirectory.TempDir;
+
+@ExtendWith(TempDirectory.class)
+@DisplayName("VBuilderGenerator should")
+class VBuilderGeneratorTest {
+
+    private Path tempDir;
+    private Path protoSrcDir;
+    private FileSet files;
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDir) throws IOException {
+        this.tempDir = tempDir;
+        protoSrcDir = tempDir.resolve("proto");
+        ImmutableSet<FileDescriptor> moduleFiles = ImmutableSet.of(
+                VbtProject.getDescriptor().getFile(),
+                VbtScalarFields.getDescriptor().getFile(),
+                VbtTree.getDescriptor().getFile(),
+                TheOuterProto.getDescriptor()
+        );
+        ImmutableSet.Builder<FileDescriptorProto> protos = ImmutableSet.builder();
+        for (FileDescriptor file : moduleFiles) {
+            Path source = protoSrcDir.resolve(file.getName());
+            Files.createDirectories(source.getParent());
+            Files.createFile(source);
+            addWithDependencies(file, protos);
+        }
+        files = FileSet.ofFiles(protos.build());
+    }
+
+    @Test
+    @DisplayName("produce the same sources when generating concurrently")
+    void concurrentGeneration() throws IOException {
+        Path sequential = generate("sequential", 1);
+        Path concurrent = generate("concurrent", 4);
+
+        ImmutableMap<Path, byte[]> expected = contentOf(sequential);
+        ImmutableMap<Path, byte[]> actual = contentOf(concurrent);
+        assertThat(expected).isNotEmpty();
+        assertThat(actual.keySet()).containsExactlyElementsIn(expected.keySet());
+        for (Map.Entry<Path, byte[]> file : expected.entrySet()) {
+            assertArrayEquals(file.getValue(), actual.get(file.getKey()));
+        }
+    }
+
+    private Path generate(String dirName, int parallelism) {
+        Path targetDir = tempDir.resolve(dirName);
+        VBuilderGenerator generator = new VBuilderGenerator(protoSrcDir.toFile(),
+                                                            targetDir.toFile(),
+                                                            Indent.of4(),
+                                                            parallelism);
+        ImmutableSet<String> failedFiles = generator.process(files);
+        assertThat(failedFiles).isEmpty();
+        return targetDir;
+    }
+
+    private static ImmutableMap<Path, byte[]> contentOf(Path dir) throws IOException {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            return paths.filter(Files::isRegularFile)
+                        .collect(toImmutableMap(dir::relativize,
+                                                VBuilderGeneratorTest::readAllBytes));
+        }
+    }
+
+    private static byte[] readAllBytes(Path file) {
+        try {
+            return Files.readAllBytes(file);
+        } catch (IOException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+    }
+
+    private static void addWithDependencies(FileDescriptor file,
+                                            ImmutableSet.Builder<FileDescriptorProto> result) {
+        result.add(file.toProto());
+        for (FileDescriptor dependency : file.getDependencies()) {
+            addWithDependencies(dependency, result);
+        }
+    }
+}
@@ -108,6 +108,19 @@ public abstract class CodeGenerationAction implements Action<Task>, Logging {
      */
     protected abstract Indent getIndent(Project project);
 
+    /**
+     * Obtains the settings of the code generation which affect the generated code.
+     *
+     * <p>The settings are {@linkplain ProtoFingerprints stored} along with the fingerprints of
+     * the processed files. Once the settings change, the code is generated for all the files.
+     *
+     * <p>By default, includes the {@linkplain #indent() indentation}. Override to add other
+     * settings.
+     */
+    protected String generatorSettings() {
+        return "indent=" + indent().getSize();
+    }
+
     /**
      * Obtains the project for which the code is generated.
      */
@@ -122,6 +135,26 @@ public abstract class CodeGenerationAction implements Action<Task>, Logging {
         return protoFiles;
     }
 
+    /**
+     * Obtains the Protobuf files which changed since the code was generated the last time.
+     *
+     * <p>If the {@linkplain #targetDir() target directory} does not exist, all the files are
+     * returned.
+     *
+     * <p>The caller should {@linkplain ProtoFingerprints#save() save} the fingerprints after
+     * the code is generated.
+     *
+     * @param fingerprints
+     *         the fingerprints of the files processed by the previous execution of the task
+     */
+    protected final FileSet changedProtoFiles(ProtoFingerprints fingerprints) {
+        FileSet files = protoFiles.get();
+        FileSet changed = fingerprints.changedFiles(files);
+        return targetDir().exists()
+               ? changed
+               : files;
+    }
+
     /**
      * Obtains directory with source proto files.
      */
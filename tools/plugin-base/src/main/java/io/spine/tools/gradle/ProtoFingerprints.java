@@ -0,0 +1,318 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.gradle;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.protobuf.Descriptors.FileDescriptor;
+import io.spine.code.proto.FileSet;
+import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.gradle.api.Task;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.CodeSource;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static com.google.common.io.ByteStreams.toByteArray;
+import static io.spine.util.Exceptions.illegalStateWithCauseOf;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Content hashes of the Protobuf files processed by a code generation task.
+ *
+ * <p>The fingerprint of a file is calculated from its {@code FileDescriptorProto} and
+ * the fingerprints of its dependencies. Therefore, a change in a file also changes
+ * the fingerprints of all the files which import it.
+ *
+ * <p>Along with the fingerprints of the files, the fingerprint of the code generator is stored.
+ * It is calculated from the implementation of the generator and its settings. If either
+ * changes, all the files are treated as changed.
+ *
+ * <p>The fingerprints are stored in the temporary directory of the task between builds.
+ * Usage:
+ * <pre>
+ *     {@code
+ *     ProtoFingerprints fingerprints = ProtoFingerprints.of(task, Generator.class, settings);
+ *     FileSet changed = fingerprints.changedFiles(allFiles);
+ *     generateCode(changed);
+ *     fingerprints.save();
+ *     }
+ * </pre>
+ */
+public final class ProtoFingerprints {
+
+    @VisibleForTesting
+    static final String FILE_NAME = "proto-fingerprints.properties";
+
+    /**
+     * The version of the fingerprint calculation.
+     *
+     * <p>The fingerprints of another version are ignored.
+     */
+    private static final String VERSION_KEY = "fingerprint.version";
+    private static final String VERSION = "1";
+
+    /**
+     * The fingerprint of the code generator which processed the files.
+     */
+    private static final String GENERATOR_KEY = "fingerprint.generator";
+
+    /**
+     * The value stored for the files which failed to be processed.
+     *
+     * <p>Never matches a calculated fingerprint, so such files are selected as changed
+     * by the next execution.
+     */
+    private static final String NO_FINGERPRINT = "";
+
+    private final File stateFile;
+    private final String generator;
+    private final ImmutableMap<String, String> previous;
+    private @MonotonicNonNull ImmutableMap<String, String> current;
+
+    private ProtoFingerprints(File stateFile,
+                              String generator,
+                              ImmutableMap<String, String> previous) {
+        this.stateFile = stateFile;
+        this.generator = generator;
+        this.previous = previous;
+    }
+
+    /**
+     * Loads the fingerprints stored by the previous execution of the given task.
+     *
+     * @param task
+     *         the code generation task
+     * @param generatorClass
+     *         the class of the code generator; the fingerprint of the generator is calculated
+     *         from the JAR or the class file of this class
+     * @param settings
+     *         the settings of the code generator which affect the generated code
+     */
+    public static ProtoFingerprints of(Task task, Class<?> generatorClass, String settings) {
+        checkNotNull(task);
+        checkNotNull(generatorClass);
+        checkNotNull(settings);
+        File stateFile = new File(task.getTemporaryDir(), FILE_NAME);
+        String generator = generatorFingerprint(generatorClass, settings);
+        return load(stateFile, generator);
+    }
+
+    /**
+     * Loads the fingerprints from the given file.
+     *
+     * <p>If the file does not exist, was written by another version of the fingerprint
+     * calculation, or was written for another generator, no fingerprints are loaded.
+     *
+     * @param stateFile
+     *         the file with the fingerprints
+     * @param generator
+     *         the fingerprint of the code generator
+     */
+    @VisibleForTesting
+    static ProtoFingerprints load(File stateFile, String generator) {
+        checkNotNull(stateFile);
+        checkNotNull(generator);
+        ImmutableMap<String, String> previous = ImmutableMap.of();
+        if (stateFile.exists()) {
+            Properties properties = new Properties();
+            try (InputStream in = Files.newInputStream(stateFile.toPath())) {
+                properties.load(in);
+            } catch (IOException e) {
+                throw illegalStateWithCauseOf(e);
+            }
+            boolean sameVersion = VERSION.equals(properties.getProperty(VERSION_KEY));
+            boolean sameGenerator = generator.equals(properties.getProperty(GENERATOR_KEY));
+            if (sameVersion && sameGenerator) {
+                properties.remove(VERSION_KEY);
+                properties.remove(GENERATOR_KEY);
+                ImmutableMap.Builder<String, String> loaded = ImmutableMap.builder();
+                for (String fileName : properties.stringPropertyNames()) {
+                    loaded.put(fileName, properties.getProperty(fileName));
+                }
+                previous = loaded.build();
+            }
+        }
+        return new ProtoFingerprints(stateFile, generator, previous);
+    }
+
+    /**
+     * Calculates the fingerprint of a code generator.
+     *
+     * <p>The implementation of the generator is identified by the content of the JAR file
+     * containing the given class. If the class is not loaded from a JAR, the content of
+     * the class file is used.
+     */
+    @VisibleForTesting
+    static String generatorFingerprint(Class<?> generatorClass, String settings) {
+        Hasher hasher = Hashing.sha256()
+                               .newHasher()
+                               .putString(settings, UTF_8);
+        try {
+            hasher.putBytes(implementationOf(generatorClass));
+        } catch (IOException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+        return hasher.hash()
+                     .toString();
+    }
+
+    private static byte[] implementationOf(Class<?> cls) throws IOException {
+        CodeSource codeSource = cls.getProtectionDomain()
+                                   .getCodeSource();
+        if (codeSource != null && codeSource.getLocation() != null) {
+            Path location = pathOf(codeSource.getLocation());
+            if (location != null && Files.isRegularFile(location)) {
+                return Files.readAllBytes(location);
+            }
+        }
+        String className = cls.getName();
+        String classFile = className.substring(className.lastIndexOf('.') + 1) + ".class";
+        try (InputStream in = cls.getResourceAsStream(classFile)) {
+            checkState(in != null, "Unable to find the class file of `%s`.", cls.getName());
+            return toByteArray(in);
+        }
+    }
+
+    private static @Nullable Path pathOf(URL location) {
+        try {
+            return Paths.get(location.toURI());
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Selects the files which changed since the fingerprints were saved.
+     *
+     * <p>All the passed files are selected if no fingerprints were saved before, or if some of
+     * the previously processed files are no longer present.
+     *
+     * @param files
+     *         all the files to be processed by the task
+     * @return the new files and the files whose fingerprints changed
+     */
+    public FileSet changedFiles(FileSet files) {
+        checkNotNull(files);
+        current = fingerprintsOf(files);
+        boolean fullRebuild = previous.isEmpty()
+                || !current.keySet()
+                           .containsAll(previous.keySet());
+        if (fullRebuild) {
+            return files;
+        }
+        ImmutableMap<String, String> fingerprints = current;
+        FileSet result = files.filter(
+                file -> !fingerprints.get(file.getName())
+                                     .equals(previous.get(file.getName()))
+        );
+        return result;
+    }
+
+    /**
+     * Stores the fingerprints of the files passed to {@link #changedFiles(FileSet)}.
+     *
+     * <p>Should be called after the files are processed successfully.
+     */
+    public void save() {
+        save(ImmutableSet.of());
+    }
+
+    /**
+     * Stores the fingerprints of the files passed to {@link #changedFiles(FileSet)} except for
+     * the files which failed to be processed.
+     *
+     * <p>The failed files are selected as changed by the next execution.
+     *
+     * @param failedFiles
+     *         the names of the files which failed to be processed
+     */
+    public void save(Set<String> failedFiles) {
+        checkNotNull(failedFiles);
+        checkState(current != null, "The fingerprints are not calculated yet.");
+        Properties properties = new Properties();
+        properties.putAll(current);
+        for (String failedFile : failedFiles) {
+            if (current.containsKey(failedFile)) {
+                properties.setProperty(failedFile, NO_FINGERPRINT);
+            }
+        }
+        properties.setProperty(VERSION_KEY, VERSION);
+        properties.setProperty(GENERATOR_KEY, generator);
+        try {
+            Files.createDirectories(stateFile.getParentFile()
+                                             .toPath());
+            try (OutputStream out = Files.newOutputStream(stateFile.toPath())) {
+                properties.store(out, null);
+            }
+        } catch (IOException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+    }
+
+    private static ImmutableMap<String, String> fingerprintsOf(FileSet files) {
+        Map<String, String> fingerprints = new HashMap<>();
+        for (FileDescriptor file : files.files()) {
+            fingerprint(file, fingerprints);
+        }
+        ImmutableMap.Builder<String, String> result = ImmutableMap.builder();
+        for (FileDescriptor file : files.files()) {
+            result.put(file.getName(), fingerprints.get(file.getName()));
+        }
+        return result.build();
+    }
+
+    private static String fingerprint(FileDescriptor file, Map<String, String> known) {
+        String name = file.getName();
+        String cached = known.get(name);
+        if (cached != null) {
+            return cached;
+        }
+        Hasher hasher = Hashing.sha256()
+                               .newHasher()
+                               .putBytes(file.toProto()
+                                             .toByteArray());
+        for (FileDescriptor dependency : file.getDependencies()) {
+            hasher.putString(fingerprint(dependency, known), UTF_8);
+        }
+        String result = hasher.hash()
+                              .toString();
+        known.put(name, result);
+        return result;
+    }
+}
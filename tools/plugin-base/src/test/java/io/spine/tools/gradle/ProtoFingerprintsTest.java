@@ -0,0 +1,169 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.gradle;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.Descriptors.FileDescriptor;
+import io.spine.code.proto.FileSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
+
+import java.io.File;
+import java.nio.file.Path;
+
+import static com.google.common.collect.ImmutableSet.toImmutableSet;
+import static com.google.common.truth.Truth.assertThat;
+import static org.junitpioneer.jupiter.TempDirectory.TempDir;
+
+@ExtendWith(TempDirectory.class)
+@DisplayName("ProtoFingerprints should")
+class ProtoFingerprintsTest {
+
+    private static final String BASE = "given/base.proto";
+    private static final String DEPENDENT = "given/dependent.proto";
+    private static final String STANDALONE = "given/standalone.proto";
+    private static final String GENERATOR = "generator-1";
+
+    private File stateFile;
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDir) {
+        stateFile = tempDir.resolve(ProtoFingerprints.FILE_NAME)
+                           .toFile();
+    }
+
+    @Test
+    @DisplayName("select all files on the first run")
+    void allOnFirstRun() {
+        FileSet files = fileSet("BaseMessage");
+        FileSet changed = ProtoFingerprints.load(stateFile, GENERATOR)
+                                           .changedFiles(files);
+        assertThat(namesOf(changed)).containsExactly(BASE, DEPENDENT, STANDALONE);
+    }
+
+    @Test
+    @DisplayName("select no files if nothing changed")
+    void noneIfUnchanged() {
+        saveFingerprints(fileSet("BaseMessage"));
+
+        FileSet changed = ProtoFingerprints.load(stateFile, GENERATOR)
+                                           .changedFiles(fileSet("BaseMessage"));
+        assertThat(changed.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("select changed files and the files depending on them")
+    void changedAndDependent() {
+        saveFingerprints(fileSet("BaseMessage"));
+
+        FileSet changed = ProtoFingerprints.load(stateFile, GENERATOR)
+                                           .changedFiles(fileSet("RenamedMessage"));
+        assertThat(namesOf(changed)).containsExactly(BASE, DEPENDENT);
+    }
+
+    @Test
+    @DisplayName("select all files if a file was removed")
+    void allIfRemoved() {
+        saveFingerprints(fileSet("BaseMessage"));
+
+        FileSet withoutStandalone = fileSet("BaseMessage")
+                .filter(file -> !file.getName().equals(STANDALONE));
+        FileSet changed = ProtoFingerprints.load(stateFile, GENERATOR)
+                                           .changedFiles(withoutStandalone);
+        assertThat(namesOf(changed)).containsExactly(BASE, DEPENDENT);
+    }
+
+    @Test
+    @DisplayName("select all files if the generator changed")
+    void allIfGeneratorChanged() {
+        saveFingerprints(fileSet("BaseMessage"));
+
+        FileSet changed = ProtoFingerprints.load(stateFile, "generator-2")
+                                           .changedFiles(fileSet("BaseMessage"));
+        assertThat(namesOf(changed)).containsExactly(BASE, DEPENDENT, STANDALONE);
+    }
+
+    @Test
+    @DisplayName("select the files which failed to be processed")
+    void failedFiles() {
+        ProtoFingerprints fingerprints = ProtoFingerprints.load(stateFile, GENERATOR);
+        fingerprints.changedFiles(fileSet("BaseMessage"));
+        fingerprints.save(ImmutableSet.of(STANDALONE));
+
+        FileSet changed = ProtoFingerprints.load(stateFile, GENERATOR)
+                                           .changedFiles(fileSet("BaseMessage"));
+        assertThat(namesOf(changed)).containsExactly(STANDALONE);
+    }
+
+    @Test
+    @DisplayName("calculate generator fingerprints from the implementation and the settings")
+    void generatorFingerprint() {
+        String fingerprint = ProtoFingerprints.generatorFingerprint(ProtoFingerprints.class,
+                                                                    "indent=4");
+        assertThat(ProtoFingerprints.generatorFingerprint(ProtoFingerprints.class, "indent=4"))
+                .isEqualTo(fingerprint);
+        assertThat(ProtoFingerprints.generatorFingerprint(ProtoFingerprints.class, "indent=2"))
+                .isNotEqualTo(fingerprint);
+        assertThat(ProtoFingerprints.generatorFingerprint(FileSet.class, "indent=4"))
+                .isNotEqualTo(fingerprint);
+    }
+
+    private void saveFingerprints(FileSet files) {
+        ProtoFingerprints fingerprints = ProtoFingerprints.load(stateFile, GENERATOR);
+        fingerprints.changedFiles(files);
+        fingerprints.save();
+    }
+
+    private static FileSet fileSet(String baseMessageName) {
+        FileDescriptorProto base = file(BASE, baseMessageName);
+        FileDescriptorProto dependent = file(DEPENDENT, "DependentMessage")
+                .toBuilder()
+                .addDependency(BASE)
+                .build();
+        FileDescriptorProto standalone = file(STANDALONE, "StandaloneMessage");
+        return FileSet.ofFiles(ImmutableSet.of(base, dependent, standalone));
+    }
+
+    private static FileDescriptorProto file(String name, String messageName) {
+        DescriptorProto message = DescriptorProto
+                .newBuilder()
+                .setName(messageName)
+                .build();
+        return FileDescriptorProto
+                .newBuilder()
+                .setName(name)
+                .setPackage("spine.test.fingerprints")
+                .addMessageType(message)
+                .build();
+    }
+
+    private static ImmutableSet<String> namesOf(FileSet files) {
+        return files.files()
+                    .stream()
+                    .map(FileDescriptor::getName)
+                    .collect(toImmutableSet());
+    }
+}
@@ -30,12 +30,14 @@ import io.spine.code.proto.TypeSet;
 import io.spine.js.generate.output.CodeLine;
 import io.spine.js.generate.output.CodeLines;
 import io.spine.js.generate.output.FileWriter;
+import io.spine.js.generate.output.JsFileContent;
 import io.spine.js.generate.output.snippet.Comment;
 import io.spine.js.generate.output.snippet.Method;
 import io.spine.js.generate.output.snippet.Return;
 import io.spine.type.Type;
 import io.spine.type.TypeUrl;
 
+import static com.google.common.base.Preconditions.checkNotNull;
 import static io.spine.js.generate.output.CodeLine.emptyLine;
 
 /**
@@ -43,7 +45,7 @@ import static io.spine.js.generate.output.CodeLine.emptyLine;
  *
  * <p>The class handles messages and enums of any nesting level.
  */
-public class AppendTypeUrlGetter extends GenerationTask {
+public class AppendTypeUrlGetter extends GenerationTask implements FileTransformation {
 
     private static final String METHOD_NAME = "typeUrl";
 
@@ -64,6 +66,13 @@ public class AppendTypeUrlGetter extends GenerationTask {
         writer.append(typeUrlMethods);
     }
 
+    @Override
+    public void transform(FileDescriptor file, JsFileContent content) {
+        checkNotNull(file);
+        checkNotNull(content);
+        content.append(typeUrlMethods(file));
+    }
+
     @VisibleForTesting
     static CodeLines typeUrlMethods(FileDescriptor file) {
         CodeLines output = new CodeLines();
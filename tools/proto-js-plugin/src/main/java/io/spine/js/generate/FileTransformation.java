@@ -0,0 +1,45 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.js.generate;
+
+import com.google.protobuf.Descriptors.FileDescriptor;
+import io.spine.js.generate.output.JsFileContent;
+
+/**
+ * A transformation of the JavaScript file generated for a Protobuf file.
+ *
+ * <p>Transformations are applied by the {@link TransformFiles} task, which reads each
+ * generated file once, applies all the transformations in memory, and writes the file once.
+ *
+ * <p>A transformation may be applied to several files concurrently.
+ */
+public interface FileTransformation {
+
+    /**
+     * Transforms the content of the JavaScript file generated for the given Protobuf file.
+     *
+     * @param file
+     *         the Protobuf file
+     * @param content
+     *         the content of the generated JavaScript file
+     */
+    void transform(FileDescriptor file, JsFileContent content);
+}
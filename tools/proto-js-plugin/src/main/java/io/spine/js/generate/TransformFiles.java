@@ -0,0 +1,128 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.js.generate;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.protobuf.Descriptors.FileDescriptor;
+import io.spine.code.fs.js.Directory;
+import io.spine.code.fs.js.FileName;
+import io.spine.code.proto.FileSet;
+import io.spine.js.generate.output.JsFileContent;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Throwables.throwIfUnchecked;
+import static io.spine.util.Exceptions.illegalStateWithCauseOf;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * The task applying several {@linkplain FileTransformation transformations} to the generated
+ * JavaScript files.
+ *
+ * <p>Each generated file is read once, transformed in memory by all the transformations in
+ * the order of their declaration, and written once.
+ *
+ * <p>Different files are processed concurrently, using up to the given number of threads.
+ */
+public final class TransformFiles extends GenerationTask {
+
+    private final ImmutableList<FileTransformation> transformations;
+    private final int parallelism;
+
+    /**
+     * Creates a new task.
+     *
+     * @param generatedRoot
+     *         the root of the generated Protobuf sources
+     * @param transformations
+     *         the transformations to apply in the order of application
+     * @param parallelism
+     *         the maximum number of files processed concurrently
+     */
+    public TransformFiles(Directory generatedRoot,
+                          List<? extends FileTransformation> transformations,
+                          int parallelism) {
+        super(generatedRoot);
+        checkNotNull(transformations);
+        checkArgument(parallelism > 0,
+                      "The parallelism must be positive. Got: %s.", parallelism);
+        this.transformations = ImmutableList.copyOf(transformations);
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    protected void generateFor(FileSet fileSet) {
+        Collection<FileDescriptor> files = fileSet.files();
+        int threads = Math.min(parallelism, files.size());
+        if (threads > 1) {
+            transformConcurrently(files, threads);
+        } else {
+            files.forEach(this::transform);
+        }
+    }
+
+    private void transformConcurrently(Collection<FileDescriptor> files, int threads) {
+        ThreadFactory threadFactory = new ThreadFactoryBuilder()
+                .setNameFormat("TransformFiles-%d")
+                .setDaemon(true)
+                .build();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, threadFactory);
+        try {
+            List<Future<?>> results = files
+                    .stream()
+                    .map(file -> executor.submit(() -> transform(file)))
+                    .collect(toList());
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw illegalStateWithCauseOf(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throwIfUnchecked(cause);
+            throw illegalStateWithCauseOf(cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void transform(FileDescriptor file) {
+        FileName fileName = FileName.from(file);
+        Path path = generatedRoot().resolve(fileName);
+        JsFileContent content = JsFileContent.read(path);
+        for (FileTransformation transformation : transformations) {
+            transformation.transform(file, content);
+        }
+        content.write();
+    }
+}
@@ -25,14 +25,17 @@ import io.spine.code.gen.Indent;
 import io.spine.code.gen.IndentLevel;
 import io.spine.js.generate.Snippet;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.util.Exceptions.illegalStateWithCauseOf;
 import static java.lang.String.join;
 import static java.lang.System.lineSeparator;
 
@@ -43,7 +46,7 @@ import static java.lang.System.lineSeparator;
  * adding the code.
  *
  * <p>The writable representation of the output may be obtained through the {@link #toString()}
- * method.
+ * method, or written directly to a {@link Writer} via {@link #writeTo(Writer)}.
  */
 @SuppressWarnings("DuplicateStringLiteralInspection" /* The generated code duplicates the code
                                                         used in test that checks it. */)
@@ -59,10 +62,21 @@ public final class CodeLines {
      */
     private final Indent indentation;
 
+    /**
+     * The lines added to this code directly.
+     *
+     * <p>The lines are only appended to the list, so a range of the list once filled never
+     * changes.
+     */
+    private final List<IndentedLine> ownLines;
+
     /**
      * The aggregator of the JS code.
+     *
+     * <p>Consists of the ranges of the own lines of this code and of the lines appended from
+     * other code. The lines appended from other code are shared with it.
      */
-    private final List<IndentedLine> codeLines;
+    private final List<Segment> segments;
 
     /**
      * The current indent level of the code on which the next line will be added.
@@ -83,7 +97,8 @@ public final class CodeLines {
      *         the indentation to use
      */
     public CodeLines(Indent indentation) {
-        this.codeLines = new ArrayList<>();
+        this.ownLines = new ArrayList<>();
+        this.segments = new ArrayList<>();
         this.currentLevel = IndentLevel.zero();
         this.indentation = indentation;
     }
@@ -94,19 +109,25 @@ public final class CodeLines {
      * <p>If the appended lines have different indent level, then the level
      * of appended lines is adjusted to match the level of the current lines.
      *
-     * <p>The indent level is adjusted by the difference of the levels.
+     * <p>The appended lines are not copied. Instead, they are shared along with the difference
+     * of the levels, which is applied when the code is {@linkplain #writeTo(Writer) written}.
+     * The lines added to the appended code afterwards do not affect this code.
      *
      * @param appended
      *         the code to append
+     * @throws IllegalArgumentException
+     *         if the indentation of the appended code differs, or if adjusting the level of
+     *         the appended lines makes it negative
      */
     public void append(CodeLines appended) {
         checkArgument(indentation.equals(appended.indentation),
                       "Cannot merge code parts with different indentation.");
         int levelDifference = currentLevel.value() - appended.currentLevel.value();
-        for (IndentedLine appendedLine : appended.codeLines) {
-            IndentedLine adjusted = appendedLine.adjustLevelBy(levelDifference);
-            appendIndented(adjusted);
+        List<Segment> shifted = new ArrayList<>(appended.segments.size());
+        for (Segment segment : appended.segments) {
+            shifted.add(segment.shiftedBy(levelDifference));
         }
+        segments.addAll(shifted);
     }
 
     /**
@@ -125,7 +146,7 @@ public final class CodeLines {
     public void append(String codeLine) {
         checkNotNull(codeLine);
         IndentedLine indented = IndentedLine.of(codeLine, currentLevel, indentation);
-        codeLines.add(indented);
+        appendIndented(indented);
     }
 
     /**
@@ -149,7 +170,15 @@ public final class CodeLines {
     @VisibleForTesting // otherwise private
     void appendIndented(IndentedLine codeLine) {
         checkNotNull(codeLine);
-        codeLines.add(codeLine);
+        ownLines.add(codeLine);
+        int lastIndex = segments.size() - 1;
+        if (lastIndex >= 0 && segments.get(lastIndex).isTailOf(ownLines)) {
+            segments.set(lastIndex, segments.get(lastIndex).extended());
+        } else {
+            int level = codeLine.indentLevel()
+                                .value();
+            segments.add(new Segment(ownLines, ownLines.size() - 1, ownLines.size(), 0, level));
+        }
     }
 
     /**
@@ -301,9 +330,54 @@ public final class CodeLines {
      */
     @Override
     public String toString() {
-        String result = codeLines.stream()
-                                 .map(CodeLine::toString)
-                                 .collect(Collectors.joining(LINE_SEPARATOR));
+        StringWriter writer = new StringWriter();
+        try {
+            writeTo(writer);
+        } catch (IOException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+        String result = writer.toString();
+        return result;
+    }
+
+    /**
+     * Writes all the code lines with the correct indentation and line separator to
+     * the given writer.
+     *
+     * <p>The lines are written one by one without building the whole code in memory.
+     * The last line is not terminated with the line separator.
+     *
+     * @param writer
+     *         the writer to write the code to
+     * @throws IOException
+     *         if the writer fails
+     */
+    public void writeTo(Writer writer) throws IOException {
+        checkNotNull(writer);
+        boolean first = true;
+        for (Segment segment : segments) {
+            for (int i = segment.from; i < segment.to; i++) {
+                if (!first) {
+                    writer.write(LINE_SEPARATOR);
+                }
+                segment.lines.get(i)
+                             .writeTo(writer, segment.levelOffset);
+                first = false;
+            }
+        }
+    }
+
+    /**
+     * Obtains all the lines of this code with the adjusted indent levels.
+     */
+    private List<IndentedLine> lines() {
+        List<IndentedLine> result = new ArrayList<>();
+        for (Segment segment : segments) {
+            for (int i = segment.from; i < segment.to; i++) {
+                result.add(segment.lines.get(i)
+                                        .adjustLevelBy(segment.levelOffset));
+            }
+        }
         return result;
     }
 
@@ -327,11 +401,68 @@ public final class CodeLines {
         }
         CodeLines lines = (CodeLines) o;
         return indentation.equals(lines.indentation) &&
-                codeLines.equals(lines.codeLines);
+                lines().equals(lines.lines());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(indentation, codeLines);
+        return Objects.hash(indentation, lines());
+    }
+
+    /**
+     * A range of lines along with the value to adjust their indent levels by.
+     */
+    private static final class Segment {
+
+        private final List<IndentedLine> lines;
+        private final int from;
+        private final int to;
+        private final int levelOffset;
+
+        /** The lowest indent level of the lines in the range after the adjustment. */
+        private final int minLevel;
+
+        private Segment(List<IndentedLine> lines, int from, int to, int levelOffset, int minLevel) {
+            this.lines = lines;
+            this.from = from;
+            this.to = to;
+            this.levelOffset = levelOffset;
+            this.minLevel = minLevel;
+        }
+
+        /**
+         * Checks if this segment ends with the last line of the given list and
+         * is not shifted.
+         */
+        private boolean isTailOf(List<IndentedLine> list) {
+            return lines == list
+                    && to == list.size() - 1
+                    && levelOffset == 0;
+        }
+
+        /**
+         * Obtains the segment which also includes the line following the range.
+         */
+        private Segment extended() {
+            int addedLevel = lines.get(to)
+                                  .indentLevel()
+                                  .value() + levelOffset;
+            return new Segment(lines, from, to + 1, levelOffset, Math.min(minLevel, addedLevel));
+        }
+
+        /**
+         * Obtains the segment with the indent levels of the lines adjusted by the given value.
+         *
+         * @throws IllegalArgumentException
+         *         if the adjusted level of any of the lines is negative
+         */
+        private Segment shiftedBy(int levelChange) {
+            if (levelChange == 0) {
+                return this;
+            }
+            int shiftedMinLevel = minLevel + levelChange;
+            checkArgument(shiftedMinLevel >= 0, "An indent level cannot be negative.");
+            return new Segment(lines, from, to, levelOffset + levelChange, shiftedMinLevel);
+        }
     }
 }
@@ -22,17 +22,19 @@ package io.spine.js.generate.output;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Charsets;
-import com.google.common.collect.ImmutableList;
 import com.google.protobuf.Descriptors.FileDescriptor;
 import io.spine.code.fs.js.Directory;
 import io.spine.code.fs.js.FileName;
 import io.spine.code.fs.js.LibraryFile;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.js.generate.output.CodeLines.LINE_SEPARATOR;
 import static java.nio.file.StandardOpenOption.APPEND;
 import static java.nio.file.StandardOpenOption.CREATE;
 import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
@@ -89,14 +91,7 @@ public final class FileWriter {
      */
     public void write(CodeLines jsOutput) {
         checkNotNull(jsOutput);
-        try {
-            Files.write(path,
-                        ImmutableList.of(jsOutput.toString()),
-                        Charsets.UTF_8,
-                        CREATE, TRUNCATE_EXISTING);
-        } catch (IOException e) {
-            throw new IllegalStateException(e);
-        }
+        writeLines(jsOutput, CREATE, TRUNCATE_EXISTING);
     }
 
     /**
@@ -109,9 +104,16 @@ public final class FileWriter {
      */
     public void append(CodeLines jsOutput) {
         checkNotNull(jsOutput);
-        try {
-            ImmutableList<String> linesToAppend = ImmutableList.of(jsOutput.toString());
-            Files.write(path, linesToAppend, Charsets.UTF_8, APPEND);
+        writeLines(jsOutput, APPEND);
+    }
+
+    /**
+     * Streams the given output to the file and terminates it with a line separator.
+     */
+    private void writeLines(CodeLines jsOutput, StandardOpenOption... options) {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, Charsets.UTF_8, options)) {
+            jsOutput.writeTo(writer);
+            writer.write(LINE_SEPARATOR);
         } catch (IOException e) {
             throw new IllegalStateException(e);
         }
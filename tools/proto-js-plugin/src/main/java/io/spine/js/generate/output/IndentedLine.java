@@ -20,9 +20,12 @@
 
 package io.spine.js.generate.output;
 
+import com.google.common.base.Strings;
 import io.spine.code.gen.Indent;
 import io.spine.code.gen.IndentLevel;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.Objects;
 
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -37,6 +40,14 @@ import static com.google.common.base.Preconditions.checkNotNull;
  */
 final class IndentedLine extends CodeLine {
 
+    /**
+     * The spaces shared by the indentation of all the lines.
+     *
+     * <p>Most of the lines are indented with a part of this string. Longer indentation is
+     * written by repeating it.
+     */
+    private static final String SPACES = Strings.repeat(" ", 64);
+
     private final IndentLevel indentLevel;
     /** The indent per a level. */
     private final Indent indent;
@@ -82,6 +93,13 @@ final class IndentedLine extends CodeLine {
         return new IndentedLine(line, indentLevel, indent);
     }
 
+    /**
+     * Obtains the level of the line indent.
+     */
+    IndentLevel indentLevel() {
+        return indentLevel;
+    }
+
     /**
      * Obtains the content of the line prepended with the indent.
      */
@@ -92,14 +110,34 @@ final class IndentedLine extends CodeLine {
         return result;
     }
 
+    /**
+     * Writes the content of the line prepended with the indent to the given writer.
+     *
+     * <p>The line is written as if its indent level was {@linkplain #adjustLevelBy(int)
+     * adjusted} by the specified value. Unlike {@link #content()}, does not create
+     * the intermediate strings.
+     */
+    void writeTo(Writer writer, int levelChange) throws IOException {
+        int remaining = indent.getSize() * (indentLevel.value() + levelChange);
+        while (remaining > 0) {
+            int chunk = Math.min(remaining, SPACES.length());
+            writer.write(SPACES, 0, chunk);
+            remaining -= chunk;
+        }
+        writer.write(unaliagned.content());
+    }
+
     /**
      * Obtains a line with the indent level adjusted by the specified value.
      *
      * @param levelChange
      *         the value to adjust the indent level by
-     * @return a new line with the adjusted indent level
+     * @return a line with the adjusted indent level, or this line if the level is not changed
      */
     IndentedLine adjustLevelBy(int levelChange) {
+        if (levelChange == 0) {
+            return this;
+        }
         int newLevelValue = indentLevel.value() + levelChange;
         IndentLevel newLevel = IndentLevel.of(newLevelValue);
         return new IndentedLine(unaliagned, newLevel, indent);
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.js.generate.output;
+
+import com.google.common.base.Charsets;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.UnaryOperator;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.js.generate.output.CodeLines.LINE_SEPARATOR;
+import static io.spine.util.Exceptions.illegalStateWithCauseOf;
+
+/**
+ * The content of a JavaScript file loaded into memory.
+ *
+ * <p>The content is read from the file once, may be updated several times, and then is written
+ * back to the file once.
+ *
+ * <p>The class wraps all {@link IOException}s which occur during its operations in the
+ * {@link IllegalStateException}.
+ */
+public final class JsFileContent {
+
+    /**
+     * The path of the file.
+     */
+    private final Path path;
+    private final StringWriter content;
+
+    private JsFileContent(Path path, String content) {
+        this.path = path;
+        this.content = new StringWriter(content.length());
+        this.content.write(content);
+    }
+
+    /**
+     * Reads the content of the file at the given path.
+     *
+     * @throws IllegalStateException
+     *         if something went wrong when reading the file
+     */
+    public static JsFileContent read(Path path) {
+        checkNotNull(path);
+        try {
+            byte[] bytes = Files.readAllBytes(path);
+            return new JsFileContent(path, new String(bytes, Charsets.UTF_8));
+        } catch (IOException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+    }
+
+    /**
+     * Obtains the path of the file.
+     */
+    public Path path() {
+        return path;
+    }
+
+    /**
+     * Appends the given code to the end of the content.
+     *
+     * <p>The code is terminated with a line separator in the same way as
+     * {@link FileWriter#append(CodeLines)} does it.
+     */
+    public void append(CodeLines code) {
+        checkNotNull(code);
+        try {
+            code.writeTo(content);
+        } catch (IOException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+        content.write(LINE_SEPARATOR);
+    }
+
+    /**
+     * Replaces each line of the content with the result of the given function.
+     *
+     * <p>Each line of the updated content is terminated with a line separator.
+     */
+    public void updateLines(UnaryOperator<String> update) {
+        checkNotNull(update);
+        StringBuilder updated = new StringBuilder(content.length());
+        try (BufferedReader reader = new BufferedReader(new StringReader(content.toString()))) {
+            String line = reader.readLine();
+            while (line != null) {
+                updated.append(update.apply(line))
+                       .append(LINE_SEPARATOR);
+                line = reader.readLine();
+            }
+        } catch (IOException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+        content.getBuffer()
+               .setLength(0);
+        content.append(updated);
+    }
+
+    /**
+     * Writes the content to the file.
+     *
+     * <p>Overwrites the previous file content.
+     *
+     * @throws IllegalStateException
+     *         if something went wrong when writing to file
+     */
+    public void write() {
+        try {
+            Files.write(path, content.toString()
+                                     .getBytes(Charsets.UTF_8));
+        } catch (IOException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return content.toString();
+    }
+}
@@ -29,9 +29,11 @@ import io.spine.code.fs.js.FileName;
 import io.spine.code.proto.FileDescriptors;
 import io.spine.code.proto.FileSet;
 import io.spine.code.proto.TypeSet;
+import io.spine.js.generate.FileTransformation;
 import io.spine.js.generate.GenerationTask;
 import io.spine.js.generate.output.CodeLines;
 import io.spine.js.generate.output.FileWriter;
+import io.spine.js.generate.output.JsFileContent;
 import io.spine.js.generate.output.snippet.Comment;
 import io.spine.js.generate.output.snippet.Import;
 import io.spine.type.MessageType;
@@ -45,7 +47,7 @@ import static io.spine.js.generate.output.CodeLine.emptyLine;
  * This class writes the {@linkplain GeneratedParser code} for
  * parsing of messages generated by Protobuf JS compiler.
  */
-public final class GenerateKnownTypeParsers extends GenerationTask {
+public final class GenerateKnownTypeParsers extends GenerationTask implements FileTransformation {
 
     /**
      * The name of the import of parsers registry.
@@ -107,6 +109,16 @@ public final class GenerateKnownTypeParsers extends GenerationTask {
         writer.append(code);
     }
 
+    @Override
+    public void transform(FileDescriptor file, JsFileContent content) {
+        checkNotNull(file);
+        checkNotNull(content);
+        if (targetTypes(file).isEmpty()) {
+            return;
+        }
+        content.append(codeFor(file));
+    }
+
     @VisibleForTesting
     static CodeLines codeFor(FileDescriptor file) {
         ImmutableCollection<MessageType> types = targetTypes(file);
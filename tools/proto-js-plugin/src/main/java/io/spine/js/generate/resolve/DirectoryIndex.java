@@ -0,0 +1,109 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.js.generate.resolve;
+
+import com.google.common.collect.ImmutableSet;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.ImmutableSet.toImmutableSet;
+import static io.spine.util.Exceptions.illegalStateWithCauseOf;
+
+/**
+ * An in-memory index of files present on a file system.
+ *
+ * <p>All the files and directories under the root directory are listed once, when the index
+ * is created. The contents of other directories are listed once, on the first lookup of a file
+ * in them.
+ *
+ * <p>The index does not reflect the changes made to the file system after the listing.
+ */
+final class DirectoryIndex {
+
+    private final Path root;
+    private final ImmutableSet<Path> underRoot;
+    private final Map<Path, ImmutableSet<Path>> outsideRoot = new ConcurrentHashMap<>();
+
+    private DirectoryIndex(Path root, ImmutableSet<Path> underRoot) {
+        this.root = root;
+        this.underRoot = underRoot;
+    }
+
+    /**
+     * Creates a new index listing all the files under the given root directory.
+     */
+    static DirectoryIndex of(Path root) {
+        checkNotNull(root);
+        Path normalizedRoot = normalize(root);
+        ImmutableSet<Path> files = listRecursively(normalizedRoot);
+        return new DirectoryIndex(normalizedRoot, files);
+    }
+
+    /**
+     * Tells whether the file or directory at the given path exists.
+     */
+    boolean exists(Path path) {
+        checkNotNull(path);
+        Path normalized = normalize(path);
+        if (normalized.startsWith(root)) {
+            return underRoot.contains(normalized);
+        }
+        Path directory = normalized.getParent();
+        if (directory == null) {
+            return Files.exists(normalized);
+        }
+        ImmutableSet<Path> files = outsideRoot.computeIfAbsent(directory, DirectoryIndex::list);
+        return files.contains(normalized);
+    }
+
+    private static Path normalize(Path path) {
+        return path.toAbsolutePath()
+                   .normalize();
+    }
+
+    private static ImmutableSet<Path> listRecursively(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            return ImmutableSet.of();
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.collect(toImmutableSet());
+        } catch (IOException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+    }
+
+    private static ImmutableSet<Path> list(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            return ImmutableSet.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.collect(toImmutableSet());
+        } catch (IOException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+    }
+}
@@ -21,7 +21,6 @@
 package io.spine.js.generate.resolve;
 
 import io.spine.code.fs.js.FileReference;
-import io.spine.logging.Logging;
 
 import java.io.File;
 import java.nio.file.Path;
@@ -32,7 +31,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
 /**
  * An import statement extracted from a source file.
  */
-public class ImportStatement implements Logging {
+public class ImportStatement {
 
     private static final String IMPORT_BEGIN_SIGN = "require('";
     private static final String IMPORT_END_SIGN = "')";
@@ -88,17 +87,6 @@ public class ImportStatement implements Logging {
         return text;
     }
 
-    /**
-     * Tells whether the imported file is present on a file system.
-     */
-    boolean importedFileExists() {
-        Path filePath = importedFilePath();
-        boolean exists = filePath.toFile()
-                                 .exists();
-        _debug("Checking if the imported file {} exists, result: {}", filePath, exists);
-        return exists;
-    }
-
     /**
      * Obtains the absolute path to the imported file.
      */
@@ -20,43 +20,41 @@
 
 package io.spine.js.generate.resolve;
 
-import com.google.common.base.Charsets;
+import io.spine.js.generate.output.JsFileContent;
 
 import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.stream.Stream;
 
 import static com.google.common.base.Preconditions.checkArgument;
-import static io.spine.util.Exceptions.illegalStateWithCauseOf;
-import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
-import static java.util.stream.Collectors.toList;
+import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
- * A JavaScript file present on a file system.
+ * A JavaScript file loaded into memory.
+ *
+ * <p>The changes are made to the {@linkplain JsFileContent content} of the file and
+ * are not written to the file system by this class.
  */
 final class JsFile {
 
     private static final String EXTENSION = ".js";
 
+    private final JsFileContent content;
     private final Path path;
 
-    JsFile(Path path) {
+    JsFile(JsFileContent content) {
+        checkNotNull(content);
+        this.path = content.path();
         checkArgument(path.toString()
                           .endsWith(EXTENSION), "A JavaScript file is expected.");
-        checkArgument(path.toFile()
-                          .exists(), "File %s doesn't exist", path);
-        this.path = path;
+        this.content = content;
     }
 
     /**
      * Processes import statements in this file.
      *
-     * <p>Rewrites the file using the updated imports.
+     * <p>Updates the content of the file using the updated imports.
      *
      * @param importFilter
      *         the predicate to filter out imports to be processed
@@ -65,14 +63,7 @@ final class JsFile {
      */
     void processImports(Predicate<ImportStatement> importFilter,
                         ProcessImport processFunction) {
-        try (Stream<String> lines = Files.lines(path)) {
-            List<String> updatedLines = lines
-                    .map(line -> processLine(line, importFilter, processFunction))
-                    .collect(toList());
-            rewriteFile(updatedLines);
-        } catch (IOException e) {
-            throw illegalStateWithCauseOf(e);
-        }
+        content.updateLines(line -> processLine(line, importFilter, processFunction));
     }
 
     private String processLine(String line,
@@ -90,14 +81,6 @@ final class JsFile {
         return line;
     }
 
-    private void rewriteFile(Iterable<String> lines) {
-        try {
-            Files.write(path, lines, Charsets.UTF_8, TRUNCATE_EXISTING);
-        } catch (IOException e) {
-            throw illegalStateWithCauseOf(e);
-        }
-    }
-
     /**
      * A function processing an import statement.
      */
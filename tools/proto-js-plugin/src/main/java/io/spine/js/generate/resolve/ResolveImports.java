@@ -22,21 +22,28 @@ package io.spine.js.generate.resolve;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Predicate;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableSet;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import com.google.protobuf.Descriptors.FileDescriptor;
 import io.spine.code.fs.js.Directory;
+import io.spine.code.fs.js.DirectoryReference;
 import io.spine.code.fs.js.FileName;
 import io.spine.code.fs.js.FileReference;
 import io.spine.code.proto.FileSet;
+import io.spine.js.generate.FileTransformation;
 import io.spine.js.generate.GenerationTask;
+import io.spine.js.generate.output.JsFileContent;
 import io.spine.logging.Logging;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -46,10 +53,16 @@ import static com.google.common.base.Preconditions.checkNotNull;
  *
  * <p>Supports only {@code CommonJs} imports.
  *
+ * <p>The existence of the imported files is checked against a {@linkplain DirectoryIndex
+ * directory index}, which is built on the first resolution and then reused by this task.
+ * The external module providing a directory is also looked up once per directory.
+ *
  * <p>The task should be performed last among {@linkplain GenerationTask generation tasks}
- * to ensure that imports won't be modified after execution of this task.
+ * to ensure that imports won't be modified after execution of this task. When used as
+ * a {@linkplain io.spine.js.generate.TransformFiles file transformation}, it should be
+ * the last transformation.
  */
-public final class ResolveImports extends GenerationTask implements Logging {
+public final class ResolveImports extends GenerationTask implements FileTransformation, Logging {
 
     /**
      * The relative path from the test sources directory to the main sources directory.
@@ -62,10 +75,15 @@ public final class ResolveImports extends GenerationTask implements Logging {
             Pattern.compile(GOOGLE_PROTOBUF_MODULE + FileReference.separator());
 
     private final Set<ExternalModule> modules;
+    private final Supplier<DirectoryIndex> directoryIndex;
+    private final Map<DirectoryReference, Optional<ExternalModule>> moduleByDirectory =
+            new ConcurrentHashMap<>();
 
     public ResolveImports(Directory generatedRoot, Collection<ExternalModule> modules) {
         super(generatedRoot);
         this.modules = ImmutableSet.copyOf(modules);
+        this.directoryIndex =
+                Suppliers.memoize(() -> DirectoryIndex.of(generatedRoot.getPath()));
     }
 
     @Override
@@ -78,15 +96,30 @@ public final class ResolveImports extends GenerationTask implements Logging {
         }
     }
 
+    @Override
+    public void transform(FileDescriptor file, JsFileContent content) {
+        checkNotNull(file);
+        checkNotNull(content);
+        _debug("Resolving imports in file {}.", FileName.from(file));
+        resolveIn(content);
+    }
+
     @VisibleForTesting
     void resolveInFile(Path filePath) {
-        JsFile file = new JsFile(filePath);
+        JsFileContent content = JsFileContent.read(filePath);
+        resolveIn(content);
+        content.write();
+    }
+
+    private void resolveIn(JsFileContent content) {
+        JsFile file = new JsFile(content);
         relativizeStandardProtoImports(file);
         resolveRelativeImports(file);
     }
 
     private void resolveRelativeImports(JsFile file) {
-        file.processImports(new IsUnresolvedRelativeImport(), this::resolveRelativeImports);
+        file.processImports(new IsUnresolvedRelativeImport(directoryIndex.get()),
+                            this::resolveRelativeImports);
     }
 
     /**
@@ -129,19 +162,35 @@ public final class ResolveImports extends GenerationTask implements Logging {
             return mainSourceImport.get();
         }
         FileReference fileReference = resolvable.path();
-        for (ExternalModule module : modules) {
-            if (module.provides(fileReference)) {
-                FileReference fileInModule = module.fileInModule(fileReference);
-                return resolvable.replacePath(fileInModule.value());
-            }
+        Optional<ExternalModule> module = moduleProviding(fileReference);
+        if (module.isPresent()) {
+            FileReference fileInModule = module.get()
+                                               .fileInModule(fileReference);
+            return resolvable.replacePath(fileInModule.value());
         }
         return resolvable;
     }
 
+    /**
+     * Obtains the first external module providing the referenced file.
+     *
+     * <p>Whether a module provides a file depends only on the directory of the file,
+     * so the result is computed once per directory.
+     */
+    private Optional<ExternalModule> moduleProviding(FileReference fileReference) {
+        DirectoryReference directory = fileReference.directory();
+        return moduleByDirectory.computeIfAbsent(
+                directory,
+                dir -> modules.stream()
+                              .filter(module -> module.provides(fileReference))
+                              .findFirst()
+        );
+    }
+
     /**
      * Attempts to resolve a relative import among main sources.
      */
-    private static Optional<ImportStatement> resolveInMainSources(ImportStatement resolvable) {
+    private Optional<ImportStatement> resolveInMainSources(ImportStatement resolvable) {
         String fileReference = resolvable.path()
                                          .value();
         String delimiter = FileReference.currentDirectory();
@@ -150,7 +199,9 @@ public final class ResolveImports extends GenerationTask implements Logging {
                 + TEST_PROTO_RELATIVE_TO_MAIN
                 + fileReference.substring(insertionIndex);
         ImportStatement updatedImport = resolvable.replacePath(updatedReference);
-        return updatedImport.importedFileExists()
+        boolean exists = directoryIndex.get()
+                                       .exists(updatedImport.importedFilePath());
+        return exists
                ? Optional.of(updatedImport)
                : Optional.empty();
     }
@@ -160,12 +211,19 @@ public final class ResolveImports extends GenerationTask implements Logging {
      */
     private static final class IsUnresolvedRelativeImport implements Predicate<ImportStatement> {
 
+        private final DirectoryIndex directoryIndex;
+
+        private IsUnresolvedRelativeImport(DirectoryIndex directoryIndex) {
+            this.directoryIndex = directoryIndex;
+        }
+
         @CanIgnoreReturnValue
         @Override
         public boolean apply(@Nullable ImportStatement statement) {
             checkNotNull(statement);
             FileReference fileReference = statement.path();
-            return fileReference.isRelative() && !statement.importedFileExists();
+            return fileReference.isRelative()
+                    && !directoryIndex.exists(statement.importedFilePath());
         }
     }
 
@@ -26,6 +26,7 @@ import io.spine.code.fs.js.Directory;
 import io.spine.code.proto.FileSet;
 import io.spine.js.generate.AppendTypeUrlGetter;
 import io.spine.js.generate.GenerationTask;
+import io.spine.js.generate.TransformFiles;
 import io.spine.js.generate.index.GenerateIndexFile;
 import io.spine.js.generate.parse.GenerateKnownTypeParsers;
 import io.spine.js.generate.resolve.ExternalModule;
@@ -110,8 +111,11 @@ public class ProtoJsPlugin extends ProtoPlugin {
     }
 
     private void generateJsonParsers(Project project) {
-        generateForMain(project);
-        generateForTest(project);
+        int parallelism = project.getGradle()
+                                 .getStartParameter()
+                                 .getMaxWorkerCount();
+        generateForMain(project, parallelism);
+        generateForTest(project, parallelism);
     }
 
     @Override
@@ -124,28 +128,40 @@ public class ProtoJsPlugin extends ProtoPlugin {
         return () -> Extension.getTestDescriptorSet(project);
     }
 
-    private void generateForMain(Project project) {
+    private void generateForMain(Project project, int parallelism) {
         Directory generatedRoot = Extension.getMainGenProto(project);
         Supplier<FileSet> files = mainProtoFiles(project);
         List<ExternalModule> modules = Extension.modules(project);
-        generateCode(generatedRoot, files, modules);
+        generateCode(generatedRoot, files, modules, parallelism);
     }
 
-    private void generateForTest(Project project) {
+    private void generateForTest(Project project, int parallelism) {
         Directory generatedRoot = Extension.getTestGenProtoDir(project);
         Supplier<FileSet> files = testProtoFiles(project);
         List<ExternalModule> modules = Extension.modules(project);
-        generateCode(generatedRoot, files, modules);
+        generateCode(generatedRoot, files, modules, parallelism);
     }
 
+    /**
+     * Generates the code for the given files.
+     *
+     * <p>The per-file changes are fused into a single {@link TransformFiles} task, so that each
+     * generated file is read and written only once.
+     */
     private static void generateCode(Directory generatedRoot,
                                      Supplier<FileSet> files,
-                                     List<ExternalModule> modules) {
+                                     List<ExternalModule> modules,
+                                     int parallelism) {
+        TransformFiles transformFiles = new TransformFiles(
+                generatedRoot,
+                ImmutableList.of(GenerateKnownTypeParsers.createFor(generatedRoot),
+                                 new AppendTypeUrlGetter(generatedRoot),
+                                 new ResolveImports(generatedRoot, modules)),
+                parallelism
+        );
         List<GenerationTask> tasks = ImmutableList.of(
-                GenerateKnownTypeParsers.createFor(generatedRoot),
-                new AppendTypeUrlGetter(generatedRoot),
                 new GenerateIndexFile(generatedRoot),
-                new ResolveImports(generatedRoot, modules)
+                transformFiles
         );
         FileSet suppliedFiles = files.get();
         for (GenerationTask task : tasks) {
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.js.generate;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.Descriptors.FileDescriptor;
+import io.spine.code.fs.js.Directory;
+import io.spine.code.fs.js.FileName;
+import io.spine.code.proto.FileSet;
+import io.spine.js.generate.output.CodeLines;
+import io.spine.js.generate.output.JsFileContent;
+import io.spine.js.generate.typeurl.OuterMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
+import org.junitpioneer.jupiter.TempDirectory.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(TempDirectory.class)
+@DisplayName("TransformFiles should")
+class TransformFilesTest {
+
+    private static final String ORIGINAL_LINE = "// The original code.";
+
+    private final FileDescriptor taskFile = TaskProto.getDescriptor();
+    private final FileDescriptor typeUrlFile = OuterMessage.getDescriptor()
+                                                           .getFile();
+    private Directory generatedRoot;
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDir) throws IOException {
+        generatedRoot = Directory.at(tempDir);
+        createGeneratedFile(taskFile);
+        createGeneratedFile(typeUrlFile);
+    }
+
+    @Test
+    @DisplayName("not accept non-positive parallelism")
+    void rejectParallelism() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> new TransformFiles(generatedRoot, ImmutableList.of(), 0));
+    }
+
+    @Test
+    @DisplayName("apply transformations in the order of declaration")
+    void applyInOrder() throws IOException {
+        transformWith(1);
+        assertTransformed(taskFile);
+        assertTransformed(typeUrlFile);
+    }
+
+    @Test
+    @DisplayName("transform files concurrently")
+    void transformConcurrently() throws IOException {
+        transformWith(2);
+        assertTransformed(taskFile);
+        assertTransformed(typeUrlFile);
+    }
+
+    private void transformWith(int parallelism) {
+        List<FileTransformation> transformations = ImmutableList.of(
+                new AppendFileName("first"),
+                new AppendFileName("second")
+        );
+        TransformFiles task = new TransformFiles(generatedRoot, transformations, parallelism);
+        task.performFor(fileSet());
+    }
+
+    private void assertTransformed(FileDescriptor file) throws IOException {
+        List<String> lines = Files.readAllLines(generatedRoot.resolve(FileName.from(file)));
+        assertThat(lines).containsExactly(ORIGINAL_LINE,
+                                          "// first " + file.getName(),
+                                          "// second " + file.getName())
+                         .inOrder();
+    }
+
+    private void createGeneratedFile(FileDescriptor file) throws IOException {
+        Path path = generatedRoot.resolve(FileName.from(file));
+        Files.createDirectories(path.getParent());
+        Files.write(path, ImmutableList.of(ORIGINAL_LINE));
+    }
+
+    private FileSet fileSet() {
+        ImmutableSet.Builder<FileDescriptorProto> files = ImmutableSet.builder();
+        addWithDependencies(taskFile, files);
+        addWithDependencies(typeUrlFile, files);
+        return FileSet.ofFiles(files.build());
+    }
+
+    private static void addWithDependencies(FileDescriptor file,
+                                            ImmutableSet.Builder<FileDescriptorProto> files) {
+        for (FileDescriptor dependency : file.getDependencies()) {
+            addWithDependencies(dependency, files);
+        }
+        files.add(file.toProto());
+    }
+
+    /**
+     * A transformation appending a comment with the name of the Protobuf file.
+     */
+    private static final class AppendFileName implements FileTransformation {
+
+        private final String prefix;
+
+        private AppendFileName(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public void transform(FileDescriptor file, JsFileContent content) {
+            CodeLines code = new CodeLines();
+            code.append("// " + prefix + ' ' + file.getName());
+            content.append(code);
+        }
+    }
+}
@@ -33,6 +33,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.List;
 
 import static io.spine.js.generate.given.Generators.assertContains;
@@ -179,6 +181,19 @@ class CodeLinesTest {
             );
         }
 
+        @Test
+        @DisplayName("only if the adjusted depth is not negative")
+        void notAllowNegativeDepth() {
+            CodeLines first = newCodeLines(FIRST_PART);
+            CodeLines second = newCodeLines(SECOND_PART);
+            second.increaseDepth();
+            second.increaseDepth();
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () -> first.append(second)
+            );
+        }
+
         @Test
         @DisplayName("and increase depth")
         void increaseDepth() {
@@ -266,6 +281,36 @@ class CodeLinesTest {
         assertEquals(expected, output);
     }
 
+    @Test
+    @DisplayName("write lines with deep indent to a writer")
+    void writeToWriter() throws IOException {
+        CodeLines code = newCodeLines("line 1");
+        IndentLevel deepLevel = IndentLevel.of(40);
+        code.appendIndented(IndentedLine.of("line 2", deepLevel, code.indent()));
+        StringWriter writer = new StringWriter();
+        code.writeTo(writer);
+        String expected = "line 1" + LINE_SEPARATOR
+                + deepLevel.totalIndent(code.indent()) + "line 2";
+        assertEquals(expected, writer.toString());
+        assertEquals(expected, code.toString());
+    }
+
+    @Test
+    @DisplayName("append nested code on the current indent level")
+    void appendNested() {
+        CodeLines nested = newCodeLines("nested 1");
+        CodeLines code = newCodeLines("line 1");
+        code.increaseDepth();
+        code.append(nested);
+        nested.append("nested 2");
+        code.append(nested);
+        String expected = "line 1" + LINE_SEPARATOR
+                + "  nested 1" + LINE_SEPARATOR
+                + "  nested 1" + LINE_SEPARATOR
+                + "  nested 2";
+        assertEquals(expected, code.toString());
+    }
+
     private static StringSubject assertThat(CodeLines lines) {
         return Truth.assertThat(lines.toString());
     }
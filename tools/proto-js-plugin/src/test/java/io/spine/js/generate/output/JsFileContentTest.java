@@ -0,0 +1,105 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.js.generate.output;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.code.fs.js.Directory;
+import io.spine.code.fs.js.FileName;
+import io.spine.js.generate.TaskProto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
+import org.junitpioneer.jupiter.TempDirectory.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(TempDirectory.class)
+@DisplayName("JsFileContent should")
+class JsFileContentTest {
+
+    private static final String FIRST_LINE = "const first = 1;";
+    private static final String SECOND_LINE = "const second = 2;";
+
+    private Path filePath;
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDir) throws IOException {
+        filePath = tempDir.resolve("test-file.js");
+        Files.write(filePath, ImmutableList.of(FIRST_LINE, SECOND_LINE));
+    }
+
+    @Test
+    @DisplayName("not change the file until written")
+    void notChangeUntilWritten() throws IOException {
+        JsFileContent content = JsFileContent.read(filePath);
+        content.updateLines(line -> "");
+        assertThat(Files.readAllLines(filePath)).containsExactly(FIRST_LINE, SECOND_LINE);
+    }
+
+    @Test
+    @DisplayName("append code and update lines in memory")
+    void appendAndUpdate() throws IOException {
+        JsFileContent content = JsFileContent.read(filePath);
+        CodeLines code = new CodeLines();
+        code.append("const third = 3;");
+        content.append(code);
+        content.updateLines(line -> line.replace("const", "let"));
+        content.write();
+        assertThat(Files.readAllLines(filePath))
+                .containsExactly("let first = 1;", "let second = 2;", "let third = 3;")
+                .inOrder();
+    }
+
+    @Test
+    @DisplayName("append code in the same way as FileWriter")
+    void appendAsFileWriter(@TempDir Path tempDir) throws IOException {
+        Directory directory = Directory.at(tempDir);
+        FileName fileName = FileName.from(TaskProto.getDescriptor()
+                                                   .getFile());
+        Path writerFile = directory.resolve(fileName);
+        Files.createDirectories(writerFile.getParent());
+        Files.copy(filePath, writerFile);
+        CodeLines code = new CodeLines();
+        code.append("const third = 3;");
+
+        FileWriter.createFor(directory, fileName)
+                  .append(code);
+        JsFileContent content = JsFileContent.read(filePath);
+        content.append(code);
+        content.write();
+
+        assertThat(Files.readAllBytes(filePath)).isEqualTo(Files.readAllBytes(writerFile));
+    }
+
+    @Test
+    @DisplayName("throw IllegalStateException if the file cannot be read")
+    void throwOnMissingFile(@TempDir Path tempDir) {
+        Path missingFile = tempDir.resolve("missing.js");
+        assertThrows(IllegalStateException.class, () -> JsFileContent.read(missingFile));
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.js.generate.resolve;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
+import org.junitpioneer.jupiter.TempDirectory.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(TempDirectory.class)
+@DisplayName("DirectoryIndex should")
+class DirectoryIndexTest {
+
+    private Path root;
+    private Path outside;
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDir) throws IOException {
+        root = tempDir.resolve("root");
+        outside = tempDir.resolve("outside");
+        Files.createDirectories(root.resolve("nested"));
+        Files.createFile(root.resolve("nested/file.js"));
+        Files.createDirectories(outside);
+        Files.createFile(outside.resolve("other.js"));
+    }
+
+    @Test
+    @DisplayName("find files under the root")
+    void findUnderRoot() {
+        DirectoryIndex index = DirectoryIndex.of(root);
+        assertTrue(index.exists(root.resolve("nested/file.js")));
+        assertTrue(index.exists(root.resolve("nested")));
+        assertFalse(index.exists(root.resolve("nested/missing.js")));
+    }
+
+    @Test
+    @DisplayName("find files by non-normalized paths")
+    void findByNonNormalizedPath() {
+        DirectoryIndex index = DirectoryIndex.of(root);
+        assertTrue(index.exists(root.resolve("nested/../nested/./file.js")));
+    }
+
+    @Test
+    @DisplayName("find files outside the root")
+    void findOutsideRoot() {
+        DirectoryIndex index = DirectoryIndex.of(root);
+        assertTrue(index.exists(outside.resolve("other.js")));
+        assertFalse(index.exists(outside.resolve("missing.js")));
+        assertFalse(index.exists(outside.resolve("missing/file.js")));
+    }
+
+    @Test
+    @DisplayName("not reflect files created after indexing")
+    void notReflectLaterChanges() throws IOException {
+        DirectoryIndex index = DirectoryIndex.of(root);
+        Path created = Files.createFile(root.resolve("created.js"));
+        assertFalse(index.exists(created));
+    }
+
+    @Test
+    @DisplayName("be empty if the root does not exist")
+    void emptyForMissingRoot() {
+        Path missingRoot = root.resolve("missing");
+        DirectoryIndex index = DirectoryIndex.of(missingRoot);
+        assertFalse(index.exists(missingRoot.resolve("file.js")));
+    }
+}
@@ -21,6 +21,7 @@
 package io.spine.js.generate.resolve;
 
 import com.google.common.collect.ImmutableList;
+import io.spine.js.generate.output.JsFileContent;
 import io.spine.js.generate.resolve.JsFile.ProcessImport;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -73,9 +74,11 @@ class JsFileTest {
     }
 
     private void resolveImports() {
-        JsFile file = new JsFile(filePath);
+        JsFileContent content = JsFileContent.read(filePath);
+        JsFile file = new JsFile(content);
         file.processImports(importStatement -> true,
                             PROCESS_IMPORT_FUNCTION);
+        content.write();
     }
 
     private void writeFile(String... lines) throws IOException {
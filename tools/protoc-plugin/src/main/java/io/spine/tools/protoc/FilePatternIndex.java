@@ -0,0 +1,172 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.protoc;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import io.spine.type.MessageType;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.collect.Maps.newHashMap;
+
+/**
+ * A set of {@link FilePattern}s compiled for matching many Protobuf files at once.
+ *
+ * <p>The prefix and suffix patterns are stored in character tries, so matching a file name
+ * against all of them takes a single pass over the name. The regular expressions are compiled
+ * once, when the index is created.
+ *
+ * <p>The patterns matching a file are computed once per file name and then reused for all
+ * the types declared in the file.
+ */
+public final class FilePatternIndex {
+
+    private final ImmutableSet<FilePattern> patterns;
+    private final CharTrie prefixes = new CharTrie();
+    private final CharTrie suffixes = new CharTrie();
+    private final ImmutableMap<FilePattern, Pattern> regexes;
+    private final Map<String, ImmutableSet<FilePattern>> matchesByFile =
+            new ConcurrentHashMap<>();
+
+    private FilePatternIndex(ImmutableSet<FilePattern> patterns) {
+        this.patterns = patterns;
+        ImmutableMap.Builder<FilePattern, Pattern> regexes = ImmutableMap.builder();
+        for (FilePattern pattern : patterns) {
+            switch (pattern.getValueCase()) {
+                case SUFFIX:
+                    suffixes.add(reversed(pattern.getSuffix()), pattern);
+                    break;
+                case PREFIX:
+                    prefixes.add(pattern.getPrefix(), pattern);
+                    break;
+                case REGEX:
+                    regexes.put(pattern, Pattern.compile(pattern.getRegex()));
+                    break;
+                case VALUE_NOT_SET:
+                default:
+                    break;
+            }
+        }
+        this.regexes = regexes.build();
+    }
+
+    /**
+     * Creates a new index of the given patterns.
+     */
+    public static FilePatternIndex of(Iterable<FilePattern> patterns) {
+        checkNotNull(patterns);
+        return new FilePatternIndex(ImmutableSet.copyOf(patterns));
+    }
+
+    /**
+     * Creates a new index of the given patterns.
+     */
+    public static FilePatternIndex of(FilePattern... patterns) {
+        checkNotNull(patterns);
+        return of(ImmutableList.copyOf(patterns));
+    }
+
+    /**
+     * Obtains all the indexed patterns matching the given Protobuf file name.
+     */
+    public ImmutableSet<FilePattern> matching(String protoFileName) {
+        checkNotNull(protoFileName);
+        return matchesByFile.computeIfAbsent(protoFileName, this::findMatching);
+    }
+
+    /**
+     * Obtains a predicate which returns {@code true} if the declaring file of a message type
+     * matches the given pattern.
+     *
+     * @param pattern
+     *         one of the indexed patterns
+     */
+    public Predicate<MessageType> matcher(FilePattern pattern) {
+        checkNotNull(pattern);
+        checkArgument(patterns.contains(pattern),
+                      "The pattern `%s` is not indexed.", pattern);
+        return type -> {
+            checkNotNull(type);
+            String protoFileName = type.declaringFileName()
+                                       .value();
+            return matching(protoFileName).contains(pattern);
+        };
+    }
+
+    private ImmutableSet<FilePattern> findMatching(String protoFileName) {
+        ImmutableSet.Builder<FilePattern> result = ImmutableSet.builder();
+        prefixes.collect(protoFileName, result);
+        suffixes.collect(reversed(protoFileName), result);
+        regexes.forEach((pattern, regex) -> {
+            if (regex.matcher(protoFileName)
+                     .matches()) {
+                result.add(pattern);
+            }
+        });
+        return result.build();
+    }
+
+    private static String reversed(String value) {
+        return new StringBuilder(value).reverse()
+                                       .toString();
+    }
+
+    /**
+     * A prefix tree which maps character sequences to the patterns ending at them.
+     */
+    private static final class CharTrie {
+
+        private final Map<Character, CharTrie> children = newHashMap();
+        private final List<FilePattern> patterns = newArrayList();
+
+        private void add(String key, FilePattern pattern) {
+            CharTrie node = this;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new CharTrie());
+            }
+            node.patterns.add(pattern);
+        }
+
+        /**
+         * Collects the patterns of all the keys which are prefixes of the given value.
+         */
+        private void collect(String value, ImmutableSet.Builder<FilePattern> result) {
+            CharTrie node = this;
+            result.addAll(node.patterns);
+            for (int i = 0; i < value.length(); i++) {
+                node = node.children.get(value.charAt(i));
+                if (node == null) {
+                    return;
+                }
+                result.addAll(node.patterns);
+            }
+        }
+    }
+}
@@ -29,31 +29,23 @@ import static com.google.common.base.Preconditions.checkNotNull;
 /**
  * {@link FilePattern} predicate that returns {@code true} if supplied Protobuf
  * {@link MessageType type} matches pattern's value.
+ *
+ * <p>Matches the types by means of a {@link FilePatternIndex} of the single pattern. To match
+ * types against many patterns, use the index directly.
  */
 public final class FilePatternMatcher implements Predicate<MessageType> {
 
-    private final FilePattern pattern;
+    private final Predicate<MessageType> matcher;
 
     public FilePatternMatcher(FilePattern filePattern) {
         checkNotNull(filePattern);
-        this.pattern = filePattern;
+        this.matcher = FilePatternIndex.of(filePattern)
+                                       .matcher(filePattern);
     }
 
     @Override
     public boolean test(MessageType type) {
         checkNotNull(type);
-        String protoFileName = type.declaringFileName()
-                                   .value();
-        switch (pattern.getValueCase()) {
-            case SUFFIX:
-                return protoFileName.endsWith(pattern.getSuffix());
-            case PREFIX:
-                return protoFileName.startsWith(pattern.getPrefix());
-            case REGEX:
-                return protoFileName.matches(pattern.getRegex());
-            case VALUE_NOT_SET:
-            default:
-                return false;
-        }
+        return matcher.test(type);
     }
 }
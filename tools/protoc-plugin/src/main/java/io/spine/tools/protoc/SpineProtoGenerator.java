@@ -31,18 +31,21 @@ import io.spine.code.proto.FileName;
 import io.spine.code.proto.FileSet;
 import io.spine.code.proto.TypeSet;
 import io.spine.type.Type;
+import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
 
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.Lists.newArrayList;
 import static com.google.common.collect.Lists.newArrayListWithExpectedSize;
-import static java.util.stream.Collectors.groupingBy;
-import static java.util.stream.Collectors.partitioningBy;
-import static java.util.stream.Collectors.reducing;
+import static com.google.common.collect.Maps.immutableEntry;
+import static com.google.common.collect.Maps.newLinkedHashMap;
+import static com.google.common.collect.Sets.newLinkedHashSet;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 
@@ -128,6 +131,9 @@ public abstract class SpineProtoGenerator {
      *     <li>contain extra types to generate for the given message declaration.
      * </ul>
      *
+     * <p>The method may be called concurrently for different types, so the implementations
+     * must not share mutable state between the calls.
+     *
      * @param type
      *         the Protobuf type to process
      * @return optionally a {@link Collection} of {@linkplain CompilerOutput CompilerOutputs}
@@ -149,7 +155,7 @@ public abstract class SpineProtoGenerator {
      * Processes all passed proto files.
      */
     private CodeGeneratorResponse process(TypeSet types) {
-        Set<CompilerOutput> rawOutput = generate(types);
+        Collection<CompilerOutput> rawOutput = generate(types);
         Collection<File> mergedFiles = mergeFiles(rawOutput);
         CodeGeneratorResponse response = CodeGeneratorResponse
                 .newBuilder()
@@ -160,14 +166,19 @@ public abstract class SpineProtoGenerator {
 
     /**
      * Generates code for the supplied types.
+     *
+     * <p>The types are processed in parallel. The outputs are collected in the order of
+     * the types in the given set, so the result does not depend on the thread scheduling.
+     * Duplicate outputs are dropped.
      */
-    private Set<CompilerOutput> generate(TypeSet types) {
-        return types.allTypes()
-                    .stream()
-                    .map(this::generate)
-                    .flatMap(Collection::stream)
-                    .collect(toSet());
-
+    private Collection<CompilerOutput> generate(TypeSet types) {
+        List<Collection<CompilerOutput>> outputsPerType = types.allTypes()
+                                                               .parallelStream()
+                                                               .map(this::generate)
+                                                               .collect(toList());
+        Set<CompilerOutput> result = newLinkedHashSet();
+        outputsPerType.forEach(result::addAll);
+        return result;
     }
 
     /**
@@ -180,37 +191,68 @@ public abstract class SpineProtoGenerator {
                       getClass().getName());
     }
 
+    /**
+     * Merges the code generated for the same insertion point of the same file.
+     *
+     * <p>The merged insertion points go first, followed by the complete files. Both keep
+     * the order in which they were first generated.
+     */
     private static Collection<File> mergeFiles(Collection<CompilerOutput> allFiles) {
-        Map<Boolean, List<File>> partitionedFiles = allFiles
-                .stream()
-                .map(CompilerOutput::asFile)
-                .collect(partitioningBy(File::hasInsertionPoint));
-        Collection<File> insertionPoints = mergeInsertionPoints(partitionedFiles.get(true));
-        Collection<File> completeFiles = partitionedFiles.get(false);
-
-        Collection<File> merged = newArrayListWithExpectedSize(allFiles.size());
-        merged.addAll(insertionPoints);
+        Map<Entry<String, String>, InsertionPointContent> insertionPoints = newLinkedHashMap();
+        List<File> completeFiles = newArrayList();
+        for (CompilerOutput output : allFiles) {
+            File file = output.asFile();
+            if (file.hasInsertionPoint()) {
+                Entry<String, String> key = immutableEntry(file.getName(),
+                                                           file.getInsertionPoint());
+                InsertionPointContent content = insertionPoints.get(key);
+                if (content == null) {
+                    insertionPoints.put(key, new InsertionPointContent(file));
+                } else {
+                    content.append(file);
+                }
+            } else {
+                completeFiles.add(file);
+            }
+        }
+        Collection<File> merged = newArrayListWithExpectedSize(insertionPoints.size()
+                                                                       + completeFiles.size());
+        insertionPoints.values()
+                       .forEach(content -> merged.add(content.toFile()));
         merged.addAll(completeFiles);
-
         return merged;
     }
 
-    private static Collection<File> mergeInsertionPoints(Collection<File> insertionPoints) {
-        File emptyFile = File.getDefaultInstance();
-        List<File> merged = insertionPoints
-                .stream()
-                .collect(groupingBy(File::getInsertionPoint,
-                                    reducing(SpineProtoGenerator::concatContent)))
-                .values()
-                .stream()
-                .map(file -> file.orElse(emptyFile))
-                .collect(toList());
-        return merged;
-    }
+    /**
+     * The code accumulated for a single insertion point.
+     *
+     * <p>The content of all the fragments is appended to a single buffer instead of
+     * rebuilding the {@code File} for each fragment. If there is only one fragment,
+     * it is returned as-is.
+     */
+    private static final class InsertionPointContent {
+
+        private final File first;
+        private @MonotonicNonNull StringBuilder content;
+
+        private InsertionPointContent(File first) {
+            this.first = first;
+        }
+
+        private void append(File file) {
+            if (content == null) {
+                content = new StringBuilder(first.getContent());
+            }
+            content.append(file.getContent());
+        }
 
-    private static File concatContent(File left, File right) {
-        return left.toBuilder()
-                   .setContent(left.getContent() + right.getContent())
-                   .build();
+        private File toFile() {
+            if (content == null) {
+                return first;
+            }
+            return first.toBuilder()
+                        .setContent(content.toString())
+                        .build();
+        }
     }
 }
@@ -23,9 +23,11 @@ package io.spine.tools.protoc.iface;
 import com.google.common.collect.ImmutableList;
 import io.spine.tools.protoc.CompilerOutput;
 import io.spine.tools.protoc.ConfigByPattern;
-import io.spine.tools.protoc.FilePatternMatcher;
+import io.spine.tools.protoc.FilePatternIndex;
 import io.spine.type.MessageType;
 
+import java.util.function.Predicate;
+
 import static com.google.common.base.Preconditions.checkNotNull;
 import static io.spine.validate.Validate.checkNotDefault;
 
@@ -35,12 +37,22 @@ import static io.spine.validate.Validate.checkNotDefault;
  */
 final class GenerateInterfaces extends InterfaceGenerationTask {
 
-    private final FilePatternMatcher patternMatcher;
+    private final Predicate<MessageType> patternMatcher;
 
     GenerateInterfaces(ConfigByPattern config) {
+        this(config, FilePatternIndex.of(config.getPattern()));
+    }
+
+    /**
+     * Creates a new task matching the types against the given pre-compiled patterns.
+     *
+     * @param patterns
+     *         the index containing the pattern of the given config
+     */
+    GenerateInterfaces(ConfigByPattern config, FilePatternIndex patterns) {
         super(config.getValue());
         checkNotDefault(config.getPattern());
-        this.patternMatcher = new FilePatternMatcher(config.getPattern());
+        this.patternMatcher = patterns.matcher(config.getPattern());
     }
 
     /**
@@ -27,14 +27,17 @@ import io.spine.tools.protoc.CodeGenerationTask;
 import io.spine.tools.protoc.CodeGenerationTasks;
 import io.spine.tools.protoc.CompilerOutput;
 import io.spine.tools.protoc.ConfigByPattern;
+import io.spine.tools.protoc.FilePatternIndex;
 import io.spine.tools.protoc.SpineProtoGenerator;
 import io.spine.tools.protoc.SpineProtocConfig;
 import io.spine.type.MessageType;
 import io.spine.type.Type;
 
 import java.util.Collection;
+import java.util.List;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.Lists.transform;
 import static io.spine.validate.Validate.isNotDefault;
 
 /**
@@ -69,8 +72,11 @@ public final class InterfaceGenerator extends SpineProtoGenerator {
         if (isNotDefault(config.getUuidInterface())) {
             tasks.add(new GenerateUuidInterfaces(config.getUuidInterface()));
         }
-        for (ConfigByPattern byPattern : config.getInterfaceByPatternList()) {
-            tasks.add(new GenerateInterfaces(byPattern));
+        List<ConfigByPattern> configsByPattern = config.getInterfaceByPatternList();
+        FilePatternIndex patterns =
+                FilePatternIndex.of(transform(configsByPattern, ConfigByPattern::getPattern));
+        for (ConfigByPattern byPattern : configsByPattern) {
+            tasks.add(new GenerateInterfaces(byPattern, patterns));
         }
         return new InterfaceGenerator(tasks.build());
     }
@@ -23,9 +23,11 @@ package io.spine.tools.protoc.method;
 import com.google.common.collect.ImmutableList;
 import io.spine.tools.protoc.CompilerOutput;
 import io.spine.tools.protoc.ConfigByPattern;
-import io.spine.tools.protoc.FilePatternMatcher;
+import io.spine.tools.protoc.FilePatternIndex;
 import io.spine.type.MessageType;
 
+import java.util.function.Predicate;
+
 import static com.google.common.base.Preconditions.checkNotNull;
 import static io.spine.validate.Validate.checkNotDefault;
 
@@ -34,12 +36,24 @@ import static io.spine.validate.Validate.checkNotDefault;
  */
 final class GenerateMethods extends MethodGenerationTask {
 
-    private final FilePatternMatcher patternMatcher;
+    private final Predicate<MessageType> patternMatcher;
 
     GenerateMethods(MethodFactories methodFactories, ConfigByPattern config) {
+        this(methodFactories, config, FilePatternIndex.of(config.getPattern()));
+    }
+
+    /**
+     * Creates a new task matching the types against the given pre-compiled patterns.
+     *
+     * @param patterns
+     *         the index containing the pattern of the given config
+     */
+    GenerateMethods(MethodFactories methodFactories,
+                    ConfigByPattern config,
+                    FilePatternIndex patterns) {
         super(methodFactories, config.getValue());
         checkNotDefault(config.getPattern());
-        this.patternMatcher = new FilePatternMatcher(config.getPattern());
+        this.patternMatcher = patterns.matcher(config.getPattern());
     }
 
     /**
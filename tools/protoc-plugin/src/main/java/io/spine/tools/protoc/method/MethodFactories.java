@@ -29,27 +29,35 @@ import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static io.spine.util.Exceptions.newIllegalArgumentException;
 import static io.spine.util.Preconditions2.checkNotEmptyOrBlank;
 
 /**
  * An utility class for instantiating {@link MethodFactory}.
+ *
+ * <p>Since method factories are {@linkplain com.google.errorprone.annotations.Immutable immutable},
+ * each factory class is loaded and instantiated only once per instance of this class.
  */
 final class MethodFactories implements Logging {
 
     private final ClassLoader externalClassLoader;
+    private final Map<String, MethodFactory> factories = new ConcurrentHashMap<>();
 
     MethodFactories(Classpath factoryClasspath) {
         this.externalClassLoader = externalClassLoader(factoryClasspath);
     }
 
     /**
-     * Instantiates a {@link MethodFactory} with the specified {@code factoryName}.
+     * Obtains a {@link MethodFactory} with the specified {@code factoryName}.
+     *
+     * <p>The factory is instantiated on the first request and then reused.
      */
     MethodFactory newFactory(String factoryName) {
         checkNotEmptyOrBlank(factoryName);
-        MethodFactory result = from(factoryName);
+        MethodFactory result = factories.computeIfAbsent(factoryName, this::from);
         return result;
     }
 
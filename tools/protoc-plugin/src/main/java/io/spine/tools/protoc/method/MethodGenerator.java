@@ -26,14 +26,17 @@ import io.spine.tools.protoc.CodeGenerationTask;
 import io.spine.tools.protoc.CodeGenerationTasks;
 import io.spine.tools.protoc.CompilerOutput;
 import io.spine.tools.protoc.ConfigByPattern;
+import io.spine.tools.protoc.FilePatternIndex;
 import io.spine.tools.protoc.SpineProtoGenerator;
 import io.spine.tools.protoc.SpineProtocConfig;
 import io.spine.type.MessageType;
 import io.spine.type.Type;
 
 import java.util.Collection;
+import java.util.List;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.Lists.transform;
 import static io.spine.validate.Validate.isNotDefault;
 
 /**
@@ -63,8 +66,11 @@ public final class MethodGenerator extends SpineProtoGenerator {
         if (isNotDefault(config.getUuidFactory())) {
             tasks.add(new GenerateUuidMethods(methodFactories, config.getUuidFactory()));
         }
-        for (ConfigByPattern byPattern : config.getFactoryByPatternList()) {
-            tasks.add(new GenerateMethods(methodFactories, byPattern));
+        List<ConfigByPattern> configsByPattern = config.getFactoryByPatternList();
+        FilePatternIndex patterns =
+                FilePatternIndex.of(transform(configsByPattern, ConfigByPattern::getPattern));
+        for (ConfigByPattern byPattern : configsByPattern) {
+            tasks.add(new GenerateMethods(methodFactories, byPattern, patterns));
         }
         return new MethodGenerator(tasks.build());
     }
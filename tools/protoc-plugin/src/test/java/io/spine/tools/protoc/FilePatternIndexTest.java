@@ -0,0 +1,87 @@
+/*
+ * Copyright 2019, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.protoc;
+
+import com.google.common.collect.ImmutableSet;
+import io.spine.type.MessageType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.tools.protoc.FilePatterns.filePrefix;
+import static io.spine.tools.protoc.FilePatterns.fileRegex;
+import static io.spine.tools.protoc.FilePatterns.fileSuffix;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("FilePatternIndex should")
+class FilePatternIndexTest {
+
+    private static final String FILE_NAME = "spine/tools/protoc/test_file_patterns.proto";
+
+    @DisplayName("find all matching patterns")
+    @Test
+    void findMatching() {
+        FilePattern prefix = filePrefix("spine/tools/");
+        FilePattern longerPrefix = filePrefix("spine/tools/protoc/test_file");
+        FilePattern otherPrefix = filePrefix("spine/core/");
+        FilePattern suffix = fileSuffix("file_patterns.proto");
+        FilePattern otherSuffix = fileSuffix("test_file.proto");
+        FilePattern regex = fileRegex(".*tools\\/protoc\\/.*file_patterns.*");
+        FilePattern otherRegex = fileRegex(".*tools\\/protoc\\/.*test_patterns.*");
+        FilePatternIndex index = FilePatternIndex.of(prefix, longerPrefix, otherPrefix,
+                                                     suffix, otherSuffix,
+                                                     regex, otherRegex);
+
+        ImmutableSet<FilePattern> matching = index.matching(FILE_NAME);
+        assertThat(matching).containsExactly(prefix, longerPrefix, suffix, regex);
+    }
+
+    @DisplayName("not match a file by a pattern without a value")
+    @Test
+    void notMatchEmpty() {
+        FilePatternIndex index = FilePatternIndex.of(FilePattern.getDefaultInstance());
+        assertThat(index.matching(FILE_NAME)).isEmpty();
+    }
+
+    @DisplayName("provide a matcher for the declaring file of a type")
+    @Test
+    void matchType() {
+        FilePattern matchingPattern = fileSuffix("file_patterns.proto");
+        FilePattern otherPattern = filePrefix("spine/core/");
+        FilePatternIndex index = FilePatternIndex.of(matchingPattern, otherPattern);
+        MessageType type = new MessageType(FPMMessage.getDescriptor());
+
+        assertTrue(index.matcher(matchingPattern)
+                        .test(type));
+        assertFalse(index.matcher(otherPattern)
+                         .test(type));
+    }
+
+    @DisplayName("not provide a matcher for a pattern which is not indexed")
+    @Test
+    void rejectUnknownPattern() {
+        FilePatternIndex index = FilePatternIndex.of(fileSuffix("file_patterns.proto"));
+        assertThrows(IllegalArgumentException.class,
+                     () -> index.matcher(filePrefix("spine/")));
+    }
+}
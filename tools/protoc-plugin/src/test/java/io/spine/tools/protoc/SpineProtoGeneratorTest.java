@@ -167,6 +167,47 @@ final class SpineProtoGeneratorTest {
         fileContent.isEqualTo(method);
     }
 
+    @DisplayName("not merge code generated for the same insertion point of different files")
+    @Test
+    void keepFilesSeparate() {
+        GeneratedMethods methods = new GeneratedMethods();
+        MessageSelectorFactory messages = methods.messages();
+        methods.applyFactory(UuidMethodFactory.class.getName(), messages.uuid());
+        CodeGeneratorRequest request = requestBuilder()
+                .addProtoFile(TestGeneratorsProto.getDescriptor()
+                                                 .toProto())
+                .addFileToGenerate(TEST_PROTO_FILE)
+                .setParameter(protocConfig(methods, testPluginConfig))
+                .build();
+        MessageType type = new MessageType(EnhancedWithCodeGeneration.getDescriptor());
+        String insertionPoint = InsertionPoint.class_scope.forType(type);
+        File first = File
+                .newBuilder()
+                .setName("first.proto")
+                .setContent("public void test1(){}")
+                .setInsertionPoint(insertionPoint)
+                .build();
+        File second = first
+                .toBuilder()
+                .setName("second.proto")
+                .setContent("public void test2(){}")
+                .build();
+        File third = first
+                .toBuilder()
+                .setContent("public void test3(){}")
+                .build();
+        TestGenerator generator = new TestGenerator(new TestCompilerOutput(first),
+                                                    new TestCompilerOutput(second),
+                                                    new TestCompilerOutput(third));
+
+        CodeGeneratorResponse result = generator.process(request);
+        assertEquals(2, result.getFileCount());
+        File firstResult = result.getFile(0);
+        assertEquals(first.getName(), firstResult.getName());
+        assertEquals(first.getContent() + third.getContent(), firstResult.getContent());
+        assertSame(second, result.getFile(1));
+    }
+
     @DisplayName("not process invalid CodeGeneratorRequest")
     @Test
     void notProcessInvalidRequests() {
@@ -33,6 +33,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @DisplayName("MessageFactories should")
@@ -108,6 +109,13 @@ final class MethodFactoriesTest {
                 .isInstanceOf(StubMethodFactory.class);
     }
 
+    @DisplayName("reuse MethodFactory instance for the same name")
+    @Test
+    void reuseMethodFactoryInstance() {
+        MethodFactory factory = newFactoryFor(StubMethodFactory.class);
+        assertSame(factory, newFactoryFor(StubMethodFactory.class));
+    }
+
     private MethodFactory newFactoryFor(Class<?> factory) {
         return methodFactories.newFactory(factory.getName());
     }
@@ -28,6 +28,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.function.Consumer;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -88,6 +89,28 @@ public final class ArchiveFile {
         }
     }
 
+    /**
+     * Passes the content of each ZIP entry with the given extension to the given action.
+     *
+     * <p>Unlike {@link #findByExtension(String)}, the entries are not copied into memory.
+     * The content of an entry is only available during the call to the action, which must not
+     * close the passed stream.
+     *
+     * @param fileExtension
+     *         file extension to look for; must start with a dot ({@code .})
+     * @param action
+     *         the action to perform on the content of each found entry
+     */
+    public void forEachByExtension(String fileExtension, Consumer<InputStream> action) {
+        checkNotNull(fileExtension);
+        checkNotNull(action);
+        try (EntryLookup lookup = EntryLookup.open(this)) {
+            lookup.forEachByExtension(fileExtension, action);
+        } catch (IOException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+    }
+
     /**
      * Opens an {@code InputStream} from this file.
      *
@@ -25,7 +25,9 @@ import io.spine.logging.Logging;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Collection;
+import java.util.function.Consumer;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
@@ -73,6 +75,42 @@ final class EntryLookup implements Closeable, Logging {
         }
     }
 
+    /**
+     * Passes the content of each entry with the given extension to the given action.
+     *
+     * <p>The content is read directly from the archive stream, without copying it into memory.
+     * The action must not close the passed stream.
+     *
+     * <p>This method should only be called once in the lifetime of an {@code EntryLookup}.
+     * All subsequent calls will not find any entries.
+     *
+     * @param fileExtension
+     *         the extension of the entries in terms of {@code ZipEntry.getName()}
+     * @param action
+     *         the action to perform on the content of each found entry
+     */
+    void forEachByExtension(String fileExtension, Consumer<InputStream> action) {
+        try {
+            doForEach(fileExtension, action);
+        } catch (IOException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+    }
+
+    private void doForEach(String fileExtension, Consumer<InputStream> action)
+            throws IOException {
+        for (ZipEntry entry = stream.getNextEntry();
+             entry != null;
+             entry = stream.getNextEntry()) {
+            String entryName = entry.getName();
+            if (entryName.endsWith(fileExtension)) {
+                _debug("Reading ZIP entry `{}`.", entryName);
+                // The stream reports to be out of data when the *current entry* is over.
+                action.accept(stream);
+            }
+        }
+    }
+
     private Collection<ArchiveEntry> doFindEntry(String fileExtension) throws IOException {
         ImmutableSet.Builder<ArchiveEntry> result = ImmutableSet.builder();
         for (ZipEntry entry = stream.getNextEntry();
@@ -21,132 +21,158 @@
 package io.spine.tools.type;
 
 import com.google.common.collect.ImmutableSet;
+import com.google.protobuf.CodedInputStream;
 import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
 import com.google.protobuf.DescriptorProtos.FileDescriptorSet;
-import io.spine.code.proto.FileDescriptorSets;
+import com.google.protobuf.ExtensionRegistry;
+import io.spine.code.proto.OptionExtensionRegistry;
 import io.spine.logging.Logging;
-import io.spine.tools.archive.ArchiveEntry;
 import io.spine.tools.archive.ArchiveFile;
 
+import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
-import java.nio.file.Path;
-import java.util.Collection;
-import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Stream;
+import java.util.Map;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
-import static com.google.common.collect.ImmutableSet.toImmutableSet;
-import static com.google.common.collect.Sets.newHashSet;
+import static com.google.common.collect.Maps.newLinkedHashMap;
+import static com.google.protobuf.WireFormat.WIRETYPE_LENGTH_DELIMITED;
 import static io.spine.code.proto.FileDescriptors.DESC_EXTENSION;
 import static io.spine.tools.archive.ArchiveFile.isArchive;
 import static io.spine.util.Exceptions.illegalStateWithCauseOf;
-import static java.util.stream.Collectors.toSet;
 
 /**
  * A set of {@code FileDescriptorSet}s.
+ *
+ * <p>The descriptor sets are merged as they are added. Each file descriptor is parsed directly
+ * from the source stream and replaces the file with the same name added before, if any.
+ * Thus, the memory consumed by the superset is proportional to the number of distinct files
+ * rather than to the total size of the added descriptor sets.
+ *
+ * <p>As the descriptors added later take precedence, the descriptor set of the module itself
+ * should be added after the descriptor sets of its dependencies.
  */
 public final class FileDescriptorSuperset implements Logging {
 
-    private final Set<FileDescriptorSet> descriptors;
+    /**
+     * The tag of the {@code file} field in the wire format of a {@code FileDescriptorSet}.
+     */
+    private static final int FILE_TAG =
+            FileDescriptorSet.FILE_FIELD_NUMBER << 3 | WIRETYPE_LENGTH_DELIMITED;
+
+    /**
+     * The added file descriptors by the names of the files.
+     */
+    private final Map<String, FileDescriptorProto> files;
 
     /**
      * Creates a new instance of {@code FileDescriptorSuperset}.
      */
     public FileDescriptorSuperset() {
-        this.descriptors = newHashSet();
+        this.files = newLinkedHashMap();
     }
 
     /**
      * Flattens this superset into a single descriptor set.
      *
-     * <p>The descriptors in the output set are de-duplicated and unordered.
+     * <p>The descriptors in the output set are de-duplicated by the file name. If several
+     * descriptor sets declare a file with the same name, the last added declaration is used.
+     * The descriptors are ordered as their files were first added.
      *
      * @return the result of the sets merging
      */
     public MergedDescriptorSet merge() {
-        Set<FileDescriptorProto> allFiles = descriptors
-                .stream()
-                .flatMap(set -> set.getFileList().stream())
-                .collect(toSet());
-        FileDescriptorSet descriptorSet = FileDescriptorSet
-                .newBuilder()
-                .addAllFile(allFiles)
-                .build();
-        return new MergedDescriptorSet(descriptorSet);
+        // The descriptors are already unique by the file name. Still, `FileSet.ofFiles()` accepts
+        // only an `ImmutableSet`, so each descriptor is hashed once here. The hash code of
+        // a message is memoized and the cost is small compared to linking the descriptors.
+        ImmutableSet<FileDescriptorProto> descriptors = ImmutableSet.copyOf(files.values());
+        return new MergedDescriptorSet(descriptors);
     }
 
     public void addFromDependency(File dependencyFile) {
         checkNotNull(dependencyFile);
         _debug("Loading descriptors from `{}`.", dependencyFile);
-        readDependency(dependencyFile)
-                .forEach(this::addFiles);
-    }
-
-    private void addFiles(FileDescriptorSet fileSet) {
-        descriptors.add(fileSet);
+        readDependency(dependencyFile);
     }
 
-    private Collection<FileDescriptorSet> readDependency(File file) {
+    private void readDependency(File file) {
         if (file.isDirectory()) {
-            return mergeDirectory(file);
+            readDirectory(file);
         } else if (isArchive(file)) {
-            return readFromArchive(file);
+            readFromArchive(file);
         } else {
-            return readFromPlainFile(file)
-                    .map(ImmutableSet::of)
-                    .orElse(ImmutableSet.of());
+            readFromPlainFile(file);
         }
     }
 
-    private Collection<FileDescriptorSet> mergeDirectory(File directory) {
+    private void readDirectory(File directory) {
         File[] descriptorFiles = directory.listFiles(
                 (dir, name) -> name.endsWith(DESC_EXTENSION)
         );
         checkNotNull(descriptorFiles);
-        if (descriptorFiles.length == 0) {
-            return ImmutableSet.of();
-        } else {
-            ImmutableSet<FileDescriptorSet> descriptors = Stream.of(descriptorFiles)
-                                                                .map(this::read)
-                                                                .collect(toImmutableSet());
-            return descriptors;
+        for (File descriptorFile : descriptorFiles) {
+            read(descriptorFile);
         }
     }
 
-    private Collection<FileDescriptorSet> readFromArchive(File archiveFile) {
+    private void readFromArchive(File archiveFile) {
         ArchiveFile archive = ArchiveFile.from(archiveFile);
-        ImmutableSet<FileDescriptorSet> result = archive.findByExtension(DESC_EXTENSION)
-                                                        .stream()
-                                                        .map(ArchiveEntry::asDescriptorSet)
-                                                        .collect(toImmutableSet());
-        if (!result.isEmpty()) {
-            _debug("Found {} descriptor set file(s) in archive `{}`.", result.size(), archiveFile);
+        int sizeBefore = files.size();
+        archive.forEachByExtension(DESC_EXTENSION, this::addFiles);
+        int added = files.size() - sizeBefore;
+        if (added > 0) {
+            _debug("Added {} file descriptor(s) from archive `{}`.", added, archiveFile);
         }
-        return result;
     }
 
-    private FileDescriptorSet read(File file) {
+    private void read(File file) {
         checkArgument(file.exists(), "File does not exist: `%s`.", file);
-        Path path = file.toPath();
         _debug("Reading descriptors from file `{}`.", file);
-        try {
-            byte[] bytes = Files.readAllBytes(path);
-            return FileDescriptorSets.parse(bytes);
+        try (InputStream stream = new BufferedInputStream(Files.newInputStream(file.toPath()))) {
+            addFiles(stream);
         } catch (IOException e) {
             throw illegalStateWithCauseOf(e);
         }
     }
 
-    private Optional<FileDescriptorSet> readFromPlainFile(File file) {
+    private void readFromPlainFile(File file) {
         if (file.getName().endsWith(DESC_EXTENSION)) {
-            FileDescriptorSet result = read(file);
-            return Optional.of(result);
-        } else {
-            return Optional.empty();
+            read(file);
+        }
+    }
+
+    /**
+     * Reads the file descriptors from the given stream with an encoded {@code FileDescriptorSet}.
+     *
+     * <p>The descriptors are parsed one by one. The stream is not closed.
+     */
+    private void addFiles(InputStream descriptorSet) {
+        CodedInputStream input = CodedInputStream.newInstance(descriptorSet);
+        ExtensionRegistry registry = OptionExtensionRegistry.instance();
+        try {
+            for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+                if (tag == FILE_TAG) {
+                    FileDescriptorProto file =
+                            input.readMessage(FileDescriptorProto.parser(), registry);
+                    add(file);
+                } else if (!input.skipField(tag)) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+    }
+
+    private void add(FileDescriptorProto file) {
+        String name = file.getName();
+        FileDescriptorProto previous = files.put(name, file);
+        if (previous != null && !previous.equals(file)) {
+            _warn("Descriptor sets declare different versions of the file `{}`. " +
+                          "The last added version is used.", name);
         }
     }
 }
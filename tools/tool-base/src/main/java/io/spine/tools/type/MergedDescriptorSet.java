@@ -23,7 +23,6 @@ package io.spine.tools.type;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableSet;
 import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
-import com.google.protobuf.DescriptorProtos.FileDescriptorSet;
 import io.spine.annotation.Internal;
 import io.spine.code.proto.FileSet;
 
@@ -36,8 +35,8 @@ public final class MergedDescriptorSet {
     private final ImmutableSet<FileDescriptorProto> descriptors;
     private final FileSet fileSet;
 
-    MergedDescriptorSet(FileDescriptorSet descriptorSet) {
-        this.descriptors = ImmutableSet.copyOf(descriptorSet.getFileList());
+    MergedDescriptorSet(ImmutableSet<FileDescriptorProto> descriptors) {
+        this.descriptors = descriptors;
         this.fileSet = FileSet.ofFiles(descriptors);
     }
 
@@ -21,6 +21,7 @@
 package io.spine.tools.type;
 
 import com.google.common.truth.IterableSubject;
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
 import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
 import com.google.protobuf.DescriptorProtos.FileDescriptorSet;
 import com.google.protobuf.Descriptors.FileDescriptor;
@@ -47,6 +48,7 @@ import static com.google.common.truth.Truth.assertThat;
 import static io.spine.code.proto.FileDescriptors.KNOWN_TYPES;
 import static io.spine.util.Exceptions.illegalStateWithCauseOf;
 import static java.nio.file.Files.createFile;
+import static java.nio.file.Files.write;
 import static java.util.stream.Collectors.toList;
 
 @ExtendWith(TempDirectory.class)
@@ -129,6 +131,48 @@ class FileDescriptorSupersetTest {
         assertDescriptors.contains(ProjectProto.getDescriptor().toProto());
     }
 
+    @Test
+    @DisplayName("de-duplicate descriptors by file name")
+    void deduplicateByFileName(@TempDir Path sandbox) {
+        Path anotherArchive = sandbox.resolve("more_descriptors.zip");
+        writeDescriptorSetToZip(anotherArchive,
+                                PersonProto.getDescriptor(),
+                                TaskProto.getDescriptor());
+        FileDescriptorSuperset superset = new FileDescriptorSuperset();
+        superset.addFromDependency(fileDependency.toFile());
+        superset.addFromDependency(archiveDependency.toFile());
+        superset.addFromDependency(anotherArchive.toFile());
+
+        IterableSubject assertDescriptors = assertThat(superset.merge().descriptors());
+        assertDescriptors.containsExactly(PersonProto.getDescriptor().toProto(),
+                                          TaskProto.getDescriptor().toProto());
+    }
+
+    @Test
+    @DisplayName("prefer the descriptors added last")
+    void preferLastAdded(@TempDir Path sandbox) throws IOException {
+        FileDescriptorProto person = PersonProto.getDescriptor()
+                                                .toProto();
+        FileDescriptorProto stalePerson = person
+                .toBuilder()
+                .addMessageType(DescriptorProto.newBuilder()
+                                               .setName("StaleMessage"))
+                .build();
+        Path staleDependency = sandbox.resolve("stale")
+                                      .resolve(KNOWN_TYPES);
+        createParentDirs(staleDependency.toFile());
+        FileDescriptorSet staleSet = FileDescriptorSet
+                .newBuilder()
+                .addFile(stalePerson)
+                .build();
+        write(staleDependency, staleSet.toByteArray());
+        FileDescriptorSuperset superset = new FileDescriptorSuperset();
+        superset.addFromDependency(staleDependency.toFile());
+        superset.addFromDependency(fileDependency.toFile());
+
+        assertThat(superset.merge().descriptors()).containsExactly(person);
+    }
+
     @Test
     @DisplayName("ignore empty files")
     void ignoreEmptyFiles() {